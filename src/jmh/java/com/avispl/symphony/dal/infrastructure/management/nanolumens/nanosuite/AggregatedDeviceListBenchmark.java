@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.ProfileType;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock.NovaStarPayloadGenerator;
+
+/**
+ * Measures {@link NanoSuiteCommunicator#cloneAndPopulateAggregatedDeviceList()} for a whole fleet.
+ * Fleets of 1000 screens with hundreds of receivers each need several gigabytes of heap for the cached JSON trees,
+ * so the fleet sizes are limited to 100 receivers per screen, larger receiver counts are covered by
+ * {@link PopulateMonitoringPropertiesBenchmark}.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AggregatedDeviceListBenchmark {
+	@Param({ "10", "100", "1000" })
+	private int screens;
+
+	@Param({ "10", "100" })
+	private int receivers;
+
+	private NanoSuiteCommunicator communicator;
+
+	@Setup
+	public void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		NovaStarPayloadGenerator generator = new NovaStarPayloadGenerator(objectMapper, 42L);
+		communicator = new NanoSuiteCommunicator();
+		for (JsonNode screen : generator.screenAssets(screens)) {
+			communicator.registerScreen(screen);
+		}
+		for (int i = 0; i < screens; i++) {
+			Map<String, JsonNode> assets = new HashMap<>();
+			assets.put(ProfileType.NOVASTAR_SENDER.getValue(), generator.senderAssets(i, 1));
+			assets.put(ProfileType.NOVASTAR_RECEIVER.getValue(), generator.receiverAssets(i, receivers));
+			communicator.updateCacheData(NovaStarPayloadGenerator.screenName(i), assets);
+		}
+	}
+
+	@Benchmark
+	public List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
+		return communicator.cloneAndPopulateAggregatedDeviceList();
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.AggregatedDeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock.NovaStarPayloadGenerator;
+
+/**
+ * Compares the ways to decode a receiver asset payload into {@link AggregatedDeviceInfo} objects, from a payload of a
+ * few receiver cards up to a very large one:
+ * <ul>
+ *   <li>tree: JsonNode tree only, as returned by doGet</li>
+ *   <li>treeThenDatabind: JsonNode tree converted with a new TypeReference, which is what the adapter does today</li>
+ *   <li>databind: bytes bound directly with a new TypeReference</li>
+ *   <li>cachedReader: bytes bound with a reused ObjectReader</li>
+ *   <li>streaming: array walked with a JsonParser, each element bound with a reused ObjectReader</li>
+ *   <li>handWritten: tokens read by {@link HandWrittenAssetDeserializer}</li>
+ * </ul>
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AssetDecodingBenchmark {
+	private static final TypeReference<List<AggregatedDeviceInfo>> DEVICE_LIST = new TypeReference<List<AggregatedDeviceInfo>>() {};
+
+	@Param({ "1", "50", "500", "5000" })
+	private int receivers;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private ObjectReader listReader;
+	private ObjectReader deviceReader;
+	private byte[] payload;
+
+	@Setup
+	public void setUp() throws IOException {
+		NovaStarPayloadGenerator generator = new NovaStarPayloadGenerator(objectMapper, 42L);
+		payload = objectMapper.writeValueAsBytes(generator.receiverAssets(0, receivers));
+		listReader = objectMapper.readerFor(DEVICE_LIST);
+		deviceReader = objectMapper.readerFor(AggregatedDeviceInfo.class);
+	}
+
+	@Benchmark
+	public JsonNode tree() throws IOException {
+		return objectMapper.readTree(payload);
+	}
+
+	@Benchmark
+	public List<AggregatedDeviceInfo> treeThenDatabind() throws IOException {
+		JsonNode node = objectMapper.readTree(payload);
+		return objectMapper.readerFor(new TypeReference<List<AggregatedDeviceInfo>>() {}).readValue(node);
+	}
+
+	@Benchmark
+	public List<AggregatedDeviceInfo> databind() throws IOException {
+		return objectMapper.readValue(payload, new TypeReference<List<AggregatedDeviceInfo>>() {});
+	}
+
+	@Benchmark
+	public List<AggregatedDeviceInfo> cachedReader() throws IOException {
+		return listReader.readValue(payload);
+	}
+
+	@Benchmark
+	public List<AggregatedDeviceInfo> streaming() throws IOException {
+		List<AggregatedDeviceInfo> devices = new ArrayList<>();
+		try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				return devices;
+			}
+			while (parser.nextToken() == JsonToken.START_OBJECT) {
+				devices.add(deviceReader.readValue(parser));
+			}
+		}
+		return devices;
+	}
+
+	@Benchmark
+	public List<AggregatedDeviceInfo> handWritten() throws IOException {
+		try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+			return HandWrittenAssetDeserializer.readDevices(parser);
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent.FetchExecutors;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock.MockIsaacServer;
+
+/**
+ * Measures a full monitoring cycle against {@link MockIsaacServer} with the screens fetched on platform threads or on
+ * virtual threads, for several numbers of concurrent fetches. Virtual threads need a Java 21 runtime, on older runtimes
+ * both modes run on platform threads:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="-prof gc FetchExecutionBenchmark"
+ * </pre>
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FetchExecutionBenchmark {
+	private static final Log logger = LogFactory.getLog(FetchExecutionBenchmark.class);
+
+	@Param({ "false", "true" })
+	private boolean virtualThreads;
+
+	@Param({ "64", "1000" })
+	private int threads;
+
+	@Param({ "1000" })
+	private int screens;
+
+	@Param({ "20" })
+	private long latency;
+
+	private MockIsaacServer server;
+	private NanoSuiteCommunicator nanoSuiteCommunicator;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		if (virtualThreads && !FetchExecutors.isVirtualThreadSupported()) {
+			logger.warn("Virtual threads are not supported by this runtime, platform threads are used");
+		}
+		server = new MockIsaacServer().withFleet(screens, 10, 1).withLatency(latency, 0);
+		nanoSuiteCommunicator = new NanoSuiteCommunicator();
+		nanoSuiteCommunicator.setProtocol("http");
+		nanoSuiteCommunicator.setHost(server.getHost());
+		nanoSuiteCommunicator.setPort(server.getPort());
+		nanoSuiteCommunicator.setMaxNumberThreads(String.valueOf(threads));
+		nanoSuiteCommunicator.setNumberThreads(String.valueOf(threads));
+		nanoSuiteCommunicator.setVirtualThreads(String.valueOf(virtualThreads));
+		nanoSuiteCommunicator.setSnapshotDirectory(System.getProperty("java.io.tmpdir") + "/nanosuite-benchmark-" + System.nanoTime());
+		nanoSuiteCommunicator.init();
+		nanoSuiteCommunicator.getMultipleStatistics();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		nanoSuiteCommunicator.destroy();
+		server.close();
+	}
+
+	@Benchmark
+	public void monitoringCycle() {
+		nanoSuiteCommunicator.populateDeviceDetails();
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.AggregatedDeviceInfo;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.DeviceMetadata;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.DeviceMetric;
+
+/**
+ * Hand-written deserializers of {@link AggregatedDeviceInfo}, {@link DeviceMetadata} and {@link DeviceMetric},
+ * reading tokens directly instead of going through bean introspection.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class HandWrittenAssetDeserializer {
+
+	private HandWrittenAssetDeserializer() {
+	}
+
+	/**
+	 * Creates a module registering the hand-written deserializers
+	 *
+	 * @return module to register on an ObjectMapper
+	 */
+	public static SimpleModule module() {
+		SimpleModule module = new SimpleModule("HandWrittenAssetDeserializer");
+		module.addDeserializer(AggregatedDeviceInfo.class, new AggregatedDeviceInfoDeserializer());
+		module.addDeserializer(DeviceMetric.class, new DeviceMetricDeserializer());
+		module.addDeserializer(DeviceMetadata.class, new DeviceMetadataDeserializer());
+		return module;
+	}
+
+	/**
+	 * Reads an array of {@link AggregatedDeviceInfo} from the parser positioned before the array
+	 *
+	 * @param parser parser of the payload
+	 * @return devices of the payload
+	 * @throws IOException if the payload cannot be read
+	 */
+	public static List<AggregatedDeviceInfo> readDevices(JsonParser parser) throws IOException {
+		List<AggregatedDeviceInfo> devices = new ArrayList<>();
+		if (parser.nextToken() != JsonToken.START_ARRAY) {
+			return devices;
+		}
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			devices.add(readDevice(parser));
+		}
+		return devices;
+	}
+
+	private static AggregatedDeviceInfo readDevice(JsonParser parser) throws IOException {
+		AggregatedDeviceInfo device = new AggregatedDeviceInfo();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+			switch (field) {
+				case "profileType":
+					device.setProfileType(parser.getValueAsString());
+					break;
+				case "displayName":
+					device.setDisplayName(parser.getValueAsString());
+					break;
+				case "externalRef":
+					device.setExternalRef(parser.getValueAsString());
+					break;
+				case "metadata":
+					device.setMetadata(token == JsonToken.START_OBJECT ? readMetadata(parser) : null);
+					break;
+				case "healthState":
+					device.setOverallHealthState(token == JsonToken.START_OBJECT ? readMetric(parser) : null);
+					break;
+				case "metrics":
+					if (token == JsonToken.START_ARRAY) {
+						List<DeviceMetric> metrics = new ArrayList<>();
+						while (parser.nextToken() == JsonToken.START_OBJECT) {
+							metrics.add(readMetric(parser));
+						}
+						device.setMetrics(metrics);
+					}
+					break;
+				default:
+					parser.skipChildren();
+					break;
+			}
+		}
+		return device;
+	}
+
+	private static DeviceMetadata readMetadata(JsonParser parser) throws IOException {
+		DeviceMetadata metadata = new DeviceMetadata();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.getCurrentName();
+			parser.nextToken();
+			switch (field) {
+				case "subsystemId":
+					metadata.setSubsystemId(parser.getValueAsString());
+					break;
+				case "novastarPort":
+					metadata.setNovastarPort(parser.getValueAsString());
+					break;
+				case "novastarChain":
+					metadata.setNovastarChain(parser.getValueAsString());
+					break;
+				case "novastarScreen":
+					metadata.setNovastarScreen(parser.getValueAsString());
+					break;
+				case "novastarSender":
+					metadata.setNovastarSender(parser.getValueAsString());
+					break;
+				case "novastarController":
+					metadata.setNovastarController(parser.getValueAsString());
+					break;
+				case "novastarScreenName":
+					metadata.setNovastarScreenName(parser.getValueAsString());
+					break;
+				case "novastarControllerName":
+					metadata.setNovastarControllerName(parser.getValueAsString());
+					break;
+				case "subsystemName":
+					metadata.setSubsystemName(parser.getValueAsString());
+					break;
+				default:
+					parser.skipChildren();
+					break;
+			}
+		}
+		return metadata;
+	}
+
+	private static DeviceMetric readMetric(JsonParser parser) throws IOException {
+		DeviceMetric metric = new DeviceMetric();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.getCurrentName();
+			parser.nextToken();
+			switch (field) {
+				case "lastValue":
+					metric.setLastValue(parser.getValueAsString());
+					break;
+				case "metricType":
+					metric.setMetricType(parser.getValueAsString());
+					break;
+				case "healthState":
+					metric.setHealthState(parser.getValueAsInt());
+					break;
+				case "displayName":
+					metric.setDisplayName(parser.getValueAsString());
+					break;
+				default:
+					parser.skipChildren();
+					break;
+			}
+		}
+		return metric;
+	}
+
+	/**
+	 * Jackson deserializer delegating to {@link #readDevice(JsonParser)}
+	 */
+	static class AggregatedDeviceInfoDeserializer extends StdDeserializer<AggregatedDeviceInfo> {
+		AggregatedDeviceInfoDeserializer() {
+			super(AggregatedDeviceInfo.class);
+		}
+
+		@Override
+		public AggregatedDeviceInfo deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+			return readDevice(parser);
+		}
+	}
+
+	/**
+	 * Jackson deserializer delegating to {@link #readMetadata(JsonParser)}
+	 */
+	static class DeviceMetadataDeserializer extends StdDeserializer<DeviceMetadata> {
+		DeviceMetadataDeserializer() {
+			super(DeviceMetadata.class);
+		}
+
+		@Override
+		public DeviceMetadata deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+			return readMetadata(parser);
+		}
+	}
+
+	/**
+	 * Jackson deserializer delegating to {@link #readMetric(JsonParser)}
+	 */
+	static class DeviceMetricDeserializer extends StdDeserializer<DeviceMetric> {
+		DeviceMetricDeserializer() {
+			super(DeviceMetric.class);
+		}
+
+		@Override
+		public DeviceMetric deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+			return readMetric(parser);
+		}
+	}
+}
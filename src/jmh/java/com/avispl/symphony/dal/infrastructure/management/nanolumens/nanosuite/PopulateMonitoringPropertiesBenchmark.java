@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.ProfileType;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock.NovaStarPayloadGenerator;
+
+/**
+ * Measures {@link NanoSuiteCommunicator#populateMonitoringProperties(Map, Map, AggregatedDevice)} for a single screen
+ * with a growing number of receiver cards. Run with the gc profiler to get the allocation rate per operation.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PopulateMonitoringPropertiesBenchmark {
+	@Param({ "10", "100", "500" })
+	private int receivers;
+
+	private NanoSuiteCommunicator communicator;
+	private Map<String, JsonNode> deviceInfos;
+
+	@Setup
+	public void setUp() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		NovaStarPayloadGenerator generator = new NovaStarPayloadGenerator(objectMapper, 42L);
+		communicator = new NanoSuiteCommunicator();
+		deviceInfos = new HashMap<>();
+		deviceInfos.put(ProfileType.NOVASTAR_SCREEN.getValue(), objectMapper.createArrayNode().add(generator.screenAsset(0)));
+		deviceInfos.put(ProfileType.NOVASTAR_SENDER.getValue(), generator.senderAssets(0, 1));
+		deviceInfos.put(ProfileType.NOVASTAR_RECEIVER.getValue(), generator.receiverAssets(0, receivers));
+	}
+
+	@Benchmark
+	public Map<String, String> populateMonitoringProperties() {
+		AggregatedDevice aggregatedDevice = new AggregatedDevice();
+		aggregatedDevice.setDeviceName(NovaStarPayloadGenerator.screenName(0));
+		Map<String, String> stats = new HashMap<>();
+		communicator.populateMonitoringProperties(stats, deviceInfos, aggregatedDevice);
+		return stats;
+	}
+}
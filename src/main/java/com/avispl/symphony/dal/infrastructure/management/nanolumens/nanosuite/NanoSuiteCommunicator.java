@@ -4,30 +4,55 @@
 
 package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.ConnectException;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import javax.security.auth.login.FailedLoginException;
 import org.apache.commons.lang3.math.NumberUtils;
 
@@ -39,17 +64,45 @@ import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
 import com.avispl.symphony.dal.communicator.RestCommunicator;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.CacheSnapshotStore;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.CanonicalJsonNodeFactory;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.PropertySchema;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.ScreenCache;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.StringPool;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent.FetchExecutors;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent.RequestHedger;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent.TokenBucket;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery.DiscoveryChanges;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery.PagedJsonArray;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery.PagedJsonArrayConverter;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery.ScreenReconciler;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery.ShardAssignment;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.polling.ScreenDemand;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.CycleTelemetry;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.FleetHealth;
 import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.AggregatedDeviceInfo;
 import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.DeviceMetric;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.EndpointType;
 import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.HealthStateStatus;
 import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.NanoSuiteConstant;
 import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.PingMode;
 import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.ProfileType;
 import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.SystemInformation;
-import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric.MetricMappingValue;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric.MetricNormalizer;
 import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric.ReceiverMetric;
 import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric.ScreenMetric;
 import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric.SenderMetric;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.MetricRingBuffer;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.LatencyHistogram;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.PropertyDelta;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.RequestErrorType;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.RequestStatistics;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.TelemetryHistory;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.TransferStatistics;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.traffic.TrafficRecorder;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.transfer.ContentDecodingHttpClient;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.transfer.JsonResponse;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.transfer.JsonResponseConverter;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -62,6 +115,105 @@ import com.avispl.symphony.dal.util.StringUtils;
  *   <li>Timezone</li>
  * </ul>
  *
+ * Request Statistics Group (per endpoint and profile type, e.g. RequestFilterAssetReceiverCard)
+ * <ul>
+ *   <li>Requests</li>
+ *   <li>LatencyP50(ms)</li>
+ *   <li>LatencyP95(ms)</li>
+ *   <li>LatencyP99(ms)</li>
+ *   <li>LatencyMax(ms)</li>
+ *   <li>ErrorsTimeout</li>
+ *   <li>ErrorsUnauthorized</li>
+ *   <li>ErrorsServerError</li>
+ *   <li>ErrorsParseError</li>
+ *   <li>ErrorsOther</li>
+ * </ul>
+ *
+ * Monitoring Cycle Group
+ * <ul>
+ *   <li>LastCycleDuration(ms)</li>
+ *   <li>FetchTime(ms)</li>
+ *   <li>ParseTime(ms)</li>
+ *   <li>CacheUpdateTime(ms)</li>
+ *   <li>DeviceBuildTime(ms)</li>
+ *   <li>ScreensRefreshed</li>
+ *   <li>ScreensFailed</li>
+ *   <li>ScreensSkipped</li>
+ *   <li>ScreensTimedOut</li>
+ *   <li>ScreensDeferred</li>
+ *   <li>SummaryScreens</li>
+ *   <li>OutOfCycleScreensRefreshed</li>
+ *   <li>OutOfCycleScreensFailed</li>
+ *   <li>DemandedScreens</li>
+ *   <li>Threads</li>
+ *   <li>ThreadMode</li>
+ *   <li>AverageFetchLatency(ms)</li>
+ *   <li>StringPoolEntries</li>
+ *   <li>LastCycleEnd</li>
+ *   <li>OldestDataAge(s)</li>
+ * </ul>
+ *
+ * Sharding Group, only when the screens are split between several instances
+ * <ul>
+ *   <li>ShardIndex</li>
+ *   <li>ShardCount</li>
+ *   <li>DiscoveredScreens</li>
+ *   <li>OwnedScreens</li>
+ * </ul>
+ *
+ * Hedging Group, only when {@link #hedgeRequests} is enabled
+ * <ul>
+ *   <li>Hedges</li>
+ *   <li>HedgeWins</li>
+ *   <li>HedgeLosses</li>
+ *   <li>HedgesThrottled</li>
+ * </ul>
+ *
+ * Rate Limit Group, only when {@link #requestRate} or {@link #discoveryRequestRate} is set. Discovery and detail requests
+ * share the RateLimit group, or are reported in RateLimitDiscovery and RateLimitDetail when they have separate budgets
+ * <ul>
+ *   <li>Requests</li>
+ *   <li>ThrottledRequests</li>
+ *   <li>QueueWaitP50(ms)</li>
+ *   <li>QueueWaitP95(ms)</li>
+ *   <li>QueueWaitMax(ms)</li>
+ * </ul>
+ *
+ * Fleet Health Group
+ * <ul>
+ *   <li>ErrorScreens</li>
+ *   <li>WarningScreens</li>
+ *   <li>OfflineReceivers</li>
+ *   <li>MinTemperature(C)</li>
+ *   <li>MaxTemperature(C)</li>
+ *   <li>MinVoltage(V)</li>
+ *   <li>MaxVoltage(V)</li>
+ * </ul>
+ *
+ * Discovery Group
+ * <ul>
+ *   <li>AddedScreens</li>
+ *   <li>RemovedScreens</li>
+ *   <li>RenamedScreens</li>
+ * </ul>
+ *
+ * Cache Group
+ * <ul>
+ *   <li>Screens</li>
+ *   <li>EstimatedSize(KB)</li>
+ *   <li>EvictedScreens</li>
+ *   <li>RejectedScreens</li>
+ * </ul>
+ *
+ * Transfer Group
+ * <ul>
+ *   <li>Responses</li>
+ *   <li>CompressedResponses</li>
+ *   <li>ReceivedBytes</li>
+ *   <li>DecodedBytes</li>
+ *   <li>CompressionRatio</li>
+ * </ul>
+ *
  * General Info Aggregated Device:
  * <ul>
  * 		<li>deviceId</li>
@@ -71,6 +223,9 @@ import com.avispl.symphony.dal.util.StringUtils;
  * 		</li>HealthState</li>
  * 		<li>SubsystemName</li>
  * 		<li>SubsystemId</li>
+ * 		<li>DataStale</li>
+ * 		<li>LastUpdated</li>
+ * 		<li>DataAgeSeconds</li>
  * </ul>
  *
  * Sender Asset Group
@@ -192,10 +347,13 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 				long currentTimestamp = System.currentTimeMillis();
 				if (!flag && nextDevicesCollectionIterationTimestamp <= currentTimestamp) {
 					populateDeviceDetails();
+					saveCacheSnapshot();
 					flag = true;
 				}
 
 				while (nextDevicesCollectionIterationTimestamp > System.currentTimeMillis()) {
+					populateAddedScreens();
+					populateDemandedScreens();
 					try {
 						TimeUnit.MILLISECONDS.sleep(1000);
 					} catch (InterruptedException e) {
@@ -213,7 +371,9 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 				}
 
 				if (logger.isDebugEnabled()) {
-					logger.debug("Finished collecting devices statistics cycle at " + new Date());
+					logger.debug(String.format("Finished collecting devices statistics cycle at %s in %sms (fetch %sms, parse %sms, cache update %sms), screens refreshed %s, failed %s, skipped %s, timed out %s, deferred %s",
+							new Date(), cycleTelemetry.getLastCycleDuration(), cycleTelemetry.getLastFetchTime(), cycleTelemetry.getLastParseTime(), cycleTelemetry.getLastCacheUpdateTime(),
+							cycleTelemetry.getLastRefreshedScreens(), cycleTelemetry.getLastFailedScreens(), cycleTelemetry.getLastSkippedScreens(), cycleTelemetry.getLastTimedOutScreens(), cycleTelemetry.getLastDeferredScreens()));
 				}
 			}
 		}
@@ -269,12 +429,34 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 		updateAggregatorStatus();
 	}
 
+	/**
+	 * Pool of the strings repeated across screens, applied to the parsed text values and to the aggregated device properties
+	 */
+	private final StringPool stringPool = new StringPool(NanoSuiteConstant.DEFAULT_STRING_POOL_MAX_ENTRIES);
+
+	/**
+	 * Property schemas of the aggregated devices, keyed by the number of assets of each profile of the screen
+	 * packed into a long by {@link #getPropertySchema(Map)}
+	 */
+	private final Map<Long, PropertySchema> propertySchemas = new ConcurrentHashMap<>();
+
+	/**
+	 * Profile types of the screen assets, kept so the property schema lookup does not copy them for every device
+	 */
+	private static final ProfileType[] profileTypes = ProfileType.values();
+
 	/**
 	 * A mapper for reading and writing JSON using Jackson library.
 	 * ObjectMapper provides functionality for converting between Java objects and JSON.
 	 * It can be used to serialize objects to JSON format, and deserialize JSON data to objects.
+	 * Text values of the parsed trees are canonicalized by {@link #stringPool}.
 	 */
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ObjectMapper objectMapper = new ObjectMapper().setNodeFactory(new CanonicalJsonNodeFactory(stringPool));
+
+	/**
+	 * Reader of the cached asset arrays, created once as it is used for every asset type of every screen
+	 */
+	private final ObjectReader deviceInfoReader = objectMapper.readerFor(new TypeReference<List<AggregatedDeviceInfo>>() {});
 
 	/**
 	 * Executor that runs all the async operations
@@ -304,14 +486,138 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 	private final List<AggregatedDevice> aggregatedDeviceList = Collections.synchronizedList(new ArrayList<>());
 
 	/**
-	 * List of device screen name
+	 * Screens of this instance in the last screen asset list, reconciled against each new screen asset list
+	 */
+	private final ScreenReconciler screenReconciler = new ScreenReconciler();
+
+	/**
+	 * Screens added by a discovery since the last monitoring cycle, fetched without waiting for the next cycle
+	 */
+	private final Set<String> addedScreens = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Screens Symphony requested recently, polled at full rate while the others are polled every {@link #backgroundPollInterval}
+	 */
+	private final ScreenDemand screenDemand = new ScreenDemand(retrieveStatisticsTimeOut);
+
+	/**
+	 * Requested screens whose data is older than {@link #demandMaxDataAge}, fetched without waiting for the next cycle
+	 */
+	private final Set<String> demandedScreens = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Cached assets of each screen, bounded by {@link #cacheMaxScreens} and {@link #cacheMaxMegabytes}
+	 */
+	private final ScreenCache screenCache = new ScreenCache();
+
+	/**
+	 * Screens whose cached data was restored from the snapshot and not refreshed by a monitoring cycle yet
+	 */
+	private final Set<String> staleScreens = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Store that persists the last complete cache, so it can be served right after a restart, null unless {@link #snapshotDirectory} is set
+	 */
+	private CacheSnapshotStore cacheSnapshotStore;
+
+	/**
+	 * Epoch milliseconds of the last save of the cache snapshot, 0 if it was not saved since the adapter started
+	 */
+	private volatile long lastSnapshotSave;
+
+	/**
+	 * Receiver metrics whose samples are kept in {@link #telemetryHistory}
+	 */
+	private static final Set<ReceiverMetric> trackedReceiverMetrics = EnumSet.of(ReceiverMetric.TEMPERATURE, ReceiverMetric.VOLTAGE);
+
+	/**
+	 * Sample history of the tracked receiver metrics, used for rolling min/max/average properties,
+	 * null unless {@link #telemetryWindows} is set
+	 */
+	private TelemetryHistory telemetryHistory;
+
+	/**
+	 * Series keys of the tracked receiver metrics by receiver display name, indexed by metric ordinal,
+	 * so recording a sample does not build its key again
+	 */
+	private final Map<String, String[]> receiverSeriesKeys = new ConcurrentHashMap<>();
+
+	/**
+	 * Health counts and tracked receiver metric ranges across the screens, updated as each screen changes
+	 */
+	private final FleetHealth fleetHealth = new FleetHealth(trackedReceiverMetrics);
+
+	/**
+	 * Rolling windows in minutes of the tracked receiver metrics
+	 */
+	private int[] rollingWindows = new int[0];
+
+	/**
+	 * Properties of each aggregated device populated by the last {@link #cloneAndPopulateAggregatedDeviceList()} call, keyed by device id
+	 */
+	private volatile Map<String, Map<String, String>> previousProperties = Collections.emptyMap();
+
+	/**
+	 * Property changes of each aggregated device between the last two {@link #cloneAndPopulateAggregatedDeviceList()} calls, keyed by device id.
+	 * The data age and rolling properties are left out, as they change on every call.
+	 */
+	private volatile Map<String, PropertyDelta> propertyDeltas = Collections.emptyMap();
+
+	/**
+	 * Latency and error statistics of the requests sent to NanoSuite, keyed by endpoint group name
+	 */
+	private final Map<String, RequestStatistics> requestStatistics = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of responses received from NanoSuite and their size on the wire and once decoded
+	 */
+	private final TransferStatistics transferStatistics = new TransferStatistics();
+
+	/**
+	 * Duration, phase breakdown and screen counts of the monitoring cycles
+	 */
+	private final CycleTelemetry cycleTelemetry = new CycleTelemetry();
+
+	/**
+	 * Screen counts of the added and requested screens fetched between two monitoring cycles, kept apart from {@link #cycleTelemetry}
+	 * so they do not add up with the screens of the cycle. Its values are published when the next cycle starts.
+	 */
+	private final CycleTelemetry outOfCycleTelemetry = new CycleTelemetry();
+
+	/**
+	 * Epoch milliseconds of the last successful refresh of each screen, keyed by screen name
 	 */
-	private final List<String> deviceScreenName = Collections.synchronizedList(new ArrayList<>());
+	private final Map<String, Long> screenLastUpdated = new ConcurrentHashMap<>();
 
 	/**
-	 * cache data for aggregated
+	 * Converter streaming the screen asset list into pages, registered in the RestTemplate by {@link #obtainRestTemplate()}
 	 */
-	private final Map<String, Map<String,JsonNode>> cachedData = Collections.synchronizedMap(new HashMap<>());
+	private final PagedJsonArrayConverter pagedJsonArrayConverter = new PagedJsonArrayConverter(objectMapper);
+
+	/**
+	 * Converter parsing the responses straight from the response stream, registered in the RestTemplate by {@link #obtainRestTemplate()}
+	 */
+	private final JsonResponseConverter jsonResponseConverter = new JsonResponseConverter(objectMapper);
+
+	/**
+	 * RestTemplate {@link #pagedJsonArrayConverter} and {@link #jsonResponseConverter} were last registered in
+	 */
+	private volatile RestTemplate pagedRestTemplate;
+
+	/**
+	 * Recorder of the NanoSuite responses, null unless {@link #trafficCaptureDirectory} is set
+	 */
+	private volatile TrafficRecorder trafficRecorder;
+
+	/**
+	 * Share of the screens this instance fetches and reports, resolved from {@link #shardIndex} and {@link #shardCount}
+	 */
+	private volatile ShardAssignment shardAssignment = ShardAssignment.NONE;
+
+	/**
+	 * Number of screens in the last screen asset list, including the screens of the other shards
+	 */
+	private volatile int discoveredScreenCount;
 
 	/**
 	 * System Response for aggregator
@@ -324,264 +630,1870 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 	private PingMode pingMode = PingMode.ICMP;
 
 	/**
-	 * Number of thread
+	 * Number of thread, or auto to size it from the number of screens, the target cycle time and the observed latency
 	 */
 	private String numberThreads;
 
 	/**
-	 * Retrieves {@link #numberThreads}
+	 * Upper bound of the number of threads, whether it is configured or sized automatically
+	 */
+	private String maxNumberThreads;
+
+	/**
+	 * Time in seconds a monitoring cycle should take when the number of threads is sized automatically
+	 */
+	private String targetCycleTime;
+
+	/**
+	 * Number of screens registered at a time while the screen asset list is streamed in
+	 */
+	private String discoveryPageSize;
+
+	/**
+	 * Retrieves {@link #discoveryPageSize}
 	 *
-	 * @return value of {@link #numberThreads}
+	 * @return value of {@link #discoveryPageSize}
 	 */
-	public String getNumberThreads() {
-		return numberThreads;
+	public String getDiscoveryPageSize() {
+		return discoveryPageSize;
 	}
 
 	/**
-	 * Sets {@link #numberThreads} value
+	 * Sets {@link #discoveryPageSize} value
 	 *
-	 * @param numberThreads new value of {@link #numberThreads}
+	 * @param discoveryPageSize new value of {@link #discoveryPageSize}
 	 */
-	public void setNumberThreads(String numberThreads) {
-		this.numberThreads = numberThreads;
+	public void setDiscoveryPageSize(String discoveryPageSize) {
+		this.discoveryPageSize = discoveryPageSize;
 	}
 
 	/**
-	 * Retrieves {@link #pingMode}
+	 * Whether the screens are fetched on virtual threads when the JVM supports them (Java 21 and later)
+	 */
+	private String virtualThreads;
+
+	/**
+	 * Retrieves {@link #virtualThreads}
 	 *
-	 * @return value of {@link #pingMode}
+	 * @return value of {@link #virtualThreads}
 	 */
-	public String getPingMode() {
-		return pingMode.name();
+	public String getVirtualThreads() {
+		return virtualThreads;
 	}
 
 	/**
-	 * Sets {@link #pingMode} value
+	 * Sets {@link #virtualThreads} value
 	 *
-	 * @param pingMode new value of {@link #pingMode}
+	 * @param virtualThreads new value of {@link #virtualThreads}
 	 */
-	public void setPingMode(String pingMode) {
-		this.pingMode = PingMode.ofString(pingMode);
+	public void setVirtualThreads(String virtualThreads) {
+		this.virtualThreads = virtualThreads;
 	}
 
 	/**
-	 * Constructs a new instance of NanoSuiteCommunicator.
+	 * Retrieves {@link #maxNumberThreads}
+	 *
+	 * @return value of {@link #maxNumberThreads}
 	 */
-	public NanoSuiteCommunicator() {
-		this.setTrustAllCertificates(true);
+	public String getMaxNumberThreads() {
+		return maxNumberThreads;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * <p>
+	 * Sets {@link #maxNumberThreads} value
 	 *
-	 * Check for available devices before retrieving the value
-	 * ping latency information to Symphony
+	 * @param maxNumberThreads new value of {@link #maxNumberThreads}
 	 */
-	@Override
-	public int ping() throws Exception {
-		if (this.pingMode == PingMode.ICMP) {
-			return super.ping();
-		} else if (this.pingMode == PingMode.TCP) {
-			if (isInitialized()) {
-				long pingResultTotal = 0L;
-
-				for (int i = 0; i < this.getPingAttempts(); i++) {
-					long startTime = System.currentTimeMillis();
-
-					try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
-						puSocketConnection.setSoTimeout(this.getPingTimeout());
-						if (puSocketConnection.isConnected()) {
-							long pingResult = System.currentTimeMillis() - startTime;
-							pingResultTotal += pingResult;
-							if (this.logger.isTraceEnabled()) {
-								this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
-							}
-						} else {
-							if (this.logger.isDebugEnabled()) {
-								logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
-							}
-							return this.getPingTimeout();
-						}
-					} catch (SocketTimeoutException | ConnectException tex) {
-						throw new SocketTimeoutException("Socket connection timed out");
-					} catch (UnknownHostException tex) {
-						throw new SocketTimeoutException("Socket connection timed out" + tex.getMessage());
-					} catch (Exception e) {
-						if (this.logger.isWarnEnabled()) {
-							this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
-						}
-						return this.getPingTimeout();
-					}
-				}
-				return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
-			} else {
-				throw new IllegalStateException("Cannot use device class without calling init() first");
-			}
-		} else {
-			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
-		}
+	public void setMaxNumberThreads(String maxNumberThreads) {
+		this.maxNumberThreads = maxNumberThreads;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Retrieves {@link #targetCycleTime}
+	 *
+	 * @return value of {@link #targetCycleTime}
 	 */
-	@Override
-	public List<Statistics> getMultipleStatistics() throws Exception {
-		reentrantLock.lock();
-		try {
-			Map<String, String> statistics = new HashMap<>();
-			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-			retrieveSystemInfo();
-			retrieveScreenAsset();
-			populateAggregatorInfo(statistics);
-			extendedStatistics.setStatistics(statistics);
-			localExtendedStatistics = extendedStatistics;
-		} finally {
-			reentrantLock.unlock();
-		}
-		return Collections.singletonList(localExtendedStatistics);
+	public String getTargetCycleTime() {
+		return targetCycleTime;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets {@link #targetCycleTime} value
+	 *
+	 * @param targetCycleTime new value of {@link #targetCycleTime}
 	 */
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
-		if (executorService == null) {
-			executorService = Executors.newFixedThreadPool(1);
-			executorService.submit(deviceDataLoader = new NanoSuiteDataLoader());
-		}
-		nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
-		updateValidRetrieveStatisticsTimestamp();
-		for (Map.Entry<String, Map<String, JsonNode>> entry : cachedData.entrySet()) {
-			if (entry.getValue().size() == 1) {
-				return Collections.emptyList();
-			}
-		}
-		return cloneAndPopulateAggregatedDeviceList();
+	public void setTargetCycleTime(String targetCycleTime) {
+		this.targetCycleTime = targetCycleTime;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Whether a receiver or sender asset request still running after the 95th percentile of the observed latencies
+	 * is sent a second time, taking whichever response is received first
 	 */
-	@Override
-	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
-		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> list.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+	private String hedgeRequests;
+
+	/**
+	 * Maximum number of hedged requests per 100 receiver and sender asset requests
+	 */
+	private String hedgeMaxPercent;
+
+	/**
+	 * Hedges the receiver and sender asset requests, null unless {@link #hedgeRequests} is enabled
+	 */
+	private volatile RequestHedger requestHedger;
+
+	/**
+	 * Retrieves {@link #hedgeRequests}
+	 *
+	 * @return value of {@link #hedgeRequests}
+	 */
+	public String getHedgeRequests() {
+		return hedgeRequests;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets {@link #hedgeRequests} value
+	 *
+	 * @param hedgeRequests new value of {@link #hedgeRequests}
 	 */
-	@Override
-	protected void authenticate() throws Exception {
+	public void setHedgeRequests(String hedgeRequests) {
+		this.hedgeRequests = hedgeRequests;
+	}
 
+	/**
+	 * Retrieves {@link #hedgeMaxPercent}
+	 *
+	 * @return value of {@link #hedgeMaxPercent}
+	 */
+	public String getHedgeMaxPercent() {
+		return hedgeMaxPercent;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sets {@link #hedgeMaxPercent} value
+	 *
+	 * @param hedgeMaxPercent new value of {@link #hedgeMaxPercent}
 	 */
-	@Override
-	protected void internalInit() throws Exception {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal init is called.");
-		}
-		executorService = Executors.newFixedThreadPool(1);
-		executorService.submit(deviceDataLoader = new NanoSuiteDataLoader());
-		super.internalInit();
+	public void setHedgeMaxPercent(String hedgeMaxPercent) {
+		this.hedgeMaxPercent = hedgeMaxPercent;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Sustained number of requests per second sent to NanoSuite, for every request unless {@link #discoveryRequestRate} is set,
+	 * in which case only for the receiver and sender asset requests. Empty or 0 to send requests as fast as the threads allow
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (logger.isDebugEnabled()) {
-			logger.debug("Internal destroy is called.");
+	private String requestRate;
+
+	/**
+	 * Number of requests sent at once after an idle period, by default the number of requests of one second
+	 */
+	private String requestBurst;
+
+	/**
+	 * Sustained number of requests per second of the settings and screen asset list requests, so the discovery has a budget
+	 * of its own. Empty or 0 to share the budget of {@link #requestRate}
+	 */
+	private String discoveryRequestRate;
+
+	/**
+	 * Limits the receiver and sender asset requests, null unless {@link #requestRate} is set
+	 */
+	private volatile TokenBucket detailRateLimiter;
+
+	/**
+	 * Limits the settings and screen asset list requests, the same as {@link #detailRateLimiter} unless {@link #discoveryRequestRate} is set
+	 */
+	private volatile TokenBucket discoveryRateLimiter;
+
+	/**
+	 * Retrieves {@link #requestRate}
+	 *
+	 * @return value of {@link #requestRate}
+	 */
+	public String getRequestRate() {
+		return requestRate;
+	}
+
+	/**
+	 * Sets {@link #requestRate} value
+	 *
+	 * @param requestRate new value of {@link #requestRate}
+	 */
+	public void setRequestRate(String requestRate) {
+		this.requestRate = requestRate;
+	}
+
+	/**
+	 * Retrieves {@link #requestBurst}
+	 *
+	 * @return value of {@link #requestBurst}
+	 */
+	public String getRequestBurst() {
+		return requestBurst;
+	}
+
+	/**
+	 * Sets {@link #requestBurst} value
+	 *
+	 * @param requestBurst new value of {@link #requestBurst}
+	 */
+	public void setRequestBurst(String requestBurst) {
+		this.requestBurst = requestBurst;
+	}
+
+	/**
+	 * Retrieves {@link #discoveryRequestRate}
+	 *
+	 * @return value of {@link #discoveryRequestRate}
+	 */
+	public String getDiscoveryRequestRate() {
+		return discoveryRequestRate;
+	}
+
+	/**
+	 * Sets {@link #discoveryRequestRate} value
+	 *
+	 * @param discoveryRequestRate new value of {@link #discoveryRequestRate}
+	 */
+	public void setDiscoveryRequestRate(String discoveryRequestRate) {
+		this.discoveryRequestRate = discoveryRequestRate;
+	}
+
+	/**
+	 * Time in seconds a monitoring cycle may take at most, fetches still running then are left to finish in the background.
+	 * Empty or 0 to wait for every fetch
+	 */
+	private String cycleTimeBudget;
+
+	/**
+	 * Retrieves {@link #cycleTimeBudget}
+	 *
+	 * @return value of {@link #cycleTimeBudget}
+	 */
+	public String getCycleTimeBudget() {
+		return cycleTimeBudget;
+	}
+
+	/**
+	 * Sets {@link #cycleTimeBudget} value
+	 *
+	 * @param cycleTimeBudget new value of {@link #cycleTimeBudget}
+	 */
+	public void setCycleTimeBudget(String cycleTimeBudget) {
+		this.cycleTimeBudget = cycleTimeBudget;
+	}
+
+	/**
+	 * Time in seconds between two refreshes of the screens Symphony did not request recently, as long as it requests some.
+	 * Empty or 0 to refresh every screen in every cycle
+	 */
+	private String backgroundPollInterval;
+
+	/**
+	 * Maximum age in seconds of the data of a requested screen, older data is refreshed without waiting for the next cycle.
+	 * Empty or 0 to wait for the next cycle
+	 */
+	private String demandMaxDataAge;
+
+	/**
+	 * Retrieves {@link #backgroundPollInterval}
+	 *
+	 * @return value of {@link #backgroundPollInterval}
+	 */
+	public String getBackgroundPollInterval() {
+		return backgroundPollInterval;
+	}
+
+	/**
+	 * Sets {@link #backgroundPollInterval} value
+	 *
+	 * @param backgroundPollInterval new value of {@link #backgroundPollInterval}
+	 */
+	public void setBackgroundPollInterval(String backgroundPollInterval) {
+		this.backgroundPollInterval = backgroundPollInterval;
+	}
+
+	/**
+	 * Retrieves {@link #demandMaxDataAge}
+	 *
+	 * @return value of {@link #demandMaxDataAge}
+	 */
+	public String getDemandMaxDataAge() {
+		return demandMaxDataAge;
+	}
+
+	/**
+	 * Sets {@link #demandMaxDataAge} value
+	 *
+	 * @param demandMaxDataAge new value of {@link #demandMaxDataAge}
+	 */
+	public void setDemandMaxDataAge(String demandMaxDataAge) {
+		this.demandMaxDataAge = demandMaxDataAge;
+	}
+
+	/**
+	 * Whether the screens are polled in summary, with their screen and sender assets only. The receiver cards are only
+	 * fetched for the screens that are not healthy and for the screens Symphony requests by id
+	 */
+	private String summaryMode;
+
+	/**
+	 * Retrieves {@link #summaryMode}
+	 *
+	 * @return value of {@link #summaryMode}
+	 */
+	public String getSummaryMode() {
+		return summaryMode;
+	}
+
+	/**
+	 * Sets {@link #summaryMode} value
+	 *
+	 * @param summaryMode new value of {@link #summaryMode}
+	 */
+	public void setSummaryMode(String summaryMode) {
+		this.summaryMode = summaryMode;
+	}
+
+	/**
+	 * Directory to store the cache snapshot in, the cache is not saved nor restored if it is empty
+	 */
+	private String snapshotDirectory;
+
+	/**
+	 * Minimum time in seconds between two saves of the cache snapshot, 300 by default
+	 */
+	private String snapshotInterval;
+
+	/**
+	 * Retrieves {@link #snapshotDirectory}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@link #snapshotDirectory} value
+	 *
+	 * @param snapshotDirectory new value of {@link #snapshotDirectory}
+	 */
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #snapshotInterval}
+	 *
+	 * @return value of {@link #snapshotInterval}
+	 */
+	public String getSnapshotInterval() {
+		return snapshotInterval;
+	}
+
+	/**
+	 * Sets {@link #snapshotInterval} value
+	 *
+	 * @param snapshotInterval new value of {@link #snapshotInterval}
+	 */
+	public void setSnapshotInterval(String snapshotInterval) {
+		this.snapshotInterval = snapshotInterval;
+	}
+
+	/**
+	 * Number of samples kept per receiver metric series
+	 */
+	private String telemetryBufferSize;
+
+	/**
+	 * Maximum number of receiver metric series kept in memory
+	 */
+	private String telemetryMaxSeries;
+
+	/**
+	 * Comma separated rolling windows in minutes, e.g. 5,15,60, empty for no rolling properties and no sample history
+	 */
+	private String telemetryWindows;
+
+	/**
+	 * Maximum number of strings canonicalized by {@link #stringPool}, 0 disables the pool
+	 */
+	private String stringPoolMaxEntries;
+
+	/**
+	 * Maximum number of cached screens, empty or 0 for no limit
+	 */
+	private String cacheMaxScreens;
+
+	/**
+	 * Maximum estimated size of the cached screen assets in megabytes, empty or 0 for no limit
+	 */
+	private String cacheMaxMegabytes;
+
+	/**
+	 * Number of consecutive discovery cycles a screen can be missing from before its data is evicted
+	 */
+	private String screenEvictionCycles;
+
+	/**
+	 * Retrieves {@link #cacheMaxScreens}
+	 *
+	 * @return value of {@link #cacheMaxScreens}
+	 */
+	public String getCacheMaxScreens() {
+		return cacheMaxScreens;
+	}
+
+	/**
+	 * Sets {@link #cacheMaxScreens} value
+	 *
+	 * @param cacheMaxScreens new value of {@link #cacheMaxScreens}
+	 */
+	public void setCacheMaxScreens(String cacheMaxScreens) {
+		this.cacheMaxScreens = cacheMaxScreens;
+	}
+
+	/**
+	 * Retrieves {@link #cacheMaxMegabytes}
+	 *
+	 * @return value of {@link #cacheMaxMegabytes}
+	 */
+	public String getCacheMaxMegabytes() {
+		return cacheMaxMegabytes;
+	}
+
+	/**
+	 * Sets {@link #cacheMaxMegabytes} value
+	 *
+	 * @param cacheMaxMegabytes new value of {@link #cacheMaxMegabytes}
+	 */
+	public void setCacheMaxMegabytes(String cacheMaxMegabytes) {
+		this.cacheMaxMegabytes = cacheMaxMegabytes;
+	}
+
+	/**
+	 * Retrieves {@link #screenEvictionCycles}
+	 *
+	 * @return value of {@link #screenEvictionCycles}
+	 */
+	public String getScreenEvictionCycles() {
+		return screenEvictionCycles;
+	}
+
+	/**
+	 * Sets {@link #screenEvictionCycles} value
+	 *
+	 * @param screenEvictionCycles new value of {@link #screenEvictionCycles}
+	 */
+	public void setScreenEvictionCycles(String screenEvictionCycles) {
+		this.screenEvictionCycles = screenEvictionCycles;
+	}
+
+	/**
+	 * Retrieves {@link #stringPoolMaxEntries}
+	 *
+	 * @return value of {@link #stringPoolMaxEntries}
+	 */
+	public String getStringPoolMaxEntries() {
+		return stringPoolMaxEntries;
+	}
+
+	/**
+	 * Sets {@link #stringPoolMaxEntries} value
+	 *
+	 * @param stringPoolMaxEntries new value of {@link #stringPoolMaxEntries}
+	 */
+	public void setStringPoolMaxEntries(String stringPoolMaxEntries) {
+		this.stringPoolMaxEntries = stringPoolMaxEntries;
+	}
+
+	/**
+	 * Retrieves {@link #telemetryBufferSize}
+	 *
+	 * @return value of {@link #telemetryBufferSize}
+	 */
+	public String getTelemetryBufferSize() {
+		return telemetryBufferSize;
+	}
+
+	/**
+	 * Sets {@link #telemetryBufferSize} value
+	 *
+	 * @param telemetryBufferSize new value of {@link #telemetryBufferSize}
+	 */
+	public void setTelemetryBufferSize(String telemetryBufferSize) {
+		this.telemetryBufferSize = telemetryBufferSize;
+	}
+
+	/**
+	 * Retrieves {@link #telemetryMaxSeries}
+	 *
+	 * @return value of {@link #telemetryMaxSeries}
+	 */
+	public String getTelemetryMaxSeries() {
+		return telemetryMaxSeries;
+	}
+
+	/**
+	 * Sets {@link #telemetryMaxSeries} value
+	 *
+	 * @param telemetryMaxSeries new value of {@link #telemetryMaxSeries}
+	 */
+	public void setTelemetryMaxSeries(String telemetryMaxSeries) {
+		this.telemetryMaxSeries = telemetryMaxSeries;
+	}
+
+	/**
+	 * Retrieves {@link #telemetryWindows}
+	 *
+	 * @return value of {@link #telemetryWindows}
+	 */
+	public String getTelemetryWindows() {
+		return telemetryWindows;
+	}
+
+	/**
+	 * Sets {@link #telemetryWindows} value
+	 *
+	 * @param telemetryWindows new value of {@link #telemetryWindows}
+	 */
+	public void setTelemetryWindows(String telemetryWindows) {
+		this.telemetryWindows = telemetryWindows;
+	}
+
+	/**
+	 * Whether the request statistics are cleared each time they are published to the aggregator statistics
+	 */
+	private String resetRequestStatistics;
+
+	/**
+	 * Retrieves {@link #resetRequestStatistics}
+	 *
+	 * @return value of {@link #resetRequestStatistics}
+	 */
+	public String getResetRequestStatistics() {
+		return resetRequestStatistics;
+	}
+
+	/**
+	 * Sets {@link #resetRequestStatistics} value
+	 *
+	 * @param resetRequestStatistics new value of {@link #resetRequestStatistics}
+	 */
+	public void setResetRequestStatistics(String resetRequestStatistics) {
+		this.resetRequestStatistics = resetRequestStatistics;
+	}
+
+	/**
+	 * Directory to record the sanitized NanoSuite responses in, nothing is recorded if it is empty
+	 */
+	private String trafficCaptureDirectory;
+
+	/**
+	 * Maximum number of responses recorded per capture file
+	 */
+	private String trafficCaptureMaxEntries;
+
+	/**
+	 * Retrieves {@link #trafficCaptureDirectory}
+	 *
+	 * @return value of {@link #trafficCaptureDirectory}
+	 */
+	public String getTrafficCaptureDirectory() {
+		return trafficCaptureDirectory;
+	}
+
+	/**
+	 * Sets {@link #trafficCaptureDirectory} value
+	 *
+	 * @param trafficCaptureDirectory new value of {@link #trafficCaptureDirectory}
+	 */
+	public void setTrafficCaptureDirectory(String trafficCaptureDirectory) {
+		this.trafficCaptureDirectory = trafficCaptureDirectory;
+	}
+
+	/**
+	 * Retrieves {@link #trafficCaptureMaxEntries}
+	 *
+	 * @return value of {@link #trafficCaptureMaxEntries}
+	 */
+	public String getTrafficCaptureMaxEntries() {
+		return trafficCaptureMaxEntries;
+	}
+
+	/**
+	 * Sets {@link #trafficCaptureMaxEntries} value
+	 *
+	 * @param trafficCaptureMaxEntries new value of {@link #trafficCaptureMaxEntries}
+	 */
+	public void setTrafficCaptureMaxEntries(String trafficCaptureMaxEntries) {
+		this.trafficCaptureMaxEntries = trafficCaptureMaxEntries;
+	}
+
+	/**
+	 * Index of the shard of this instance, from 0 to {@link #shardCount} - 1
+	 */
+	private String shardIndex;
+
+	/**
+	 * Number of adapter instances the screens of the host are split between, every screen is reported by one of them
+	 */
+	private String shardCount;
+
+	/**
+	 * Retrieves {@link #shardIndex}
+	 *
+	 * @return value of {@link #shardIndex}
+	 */
+	public String getShardIndex() {
+		return shardIndex;
+	}
+
+	/**
+	 * Sets {@link #shardIndex} value
+	 *
+	 * @param shardIndex new value of {@link #shardIndex}
+	 */
+	public void setShardIndex(String shardIndex) {
+		this.shardIndex = shardIndex;
+	}
+
+	/**
+	 * Retrieves {@link #shardCount}
+	 *
+	 * @return value of {@link #shardCount}
+	 */
+	public String getShardCount() {
+		return shardCount;
+	}
+
+	/**
+	 * Sets {@link #shardCount} value
+	 *
+	 * @param shardCount new value of {@link #shardCount}
+	 */
+	public void setShardCount(String shardCount) {
+		this.shardCount = shardCount;
+	}
+
+	/**
+	 * Retrieves {@link #numberThreads}
+	 *
+	 * @return value of {@link #numberThreads}
+	 */
+	public String getNumberThreads() {
+		return numberThreads;
+	}
+
+	/**
+	 * Sets {@link #numberThreads} value
+	 *
+	 * @param numberThreads new value of {@link #numberThreads}
+	 */
+	public void setNumberThreads(String numberThreads) {
+		this.numberThreads = numberThreads;
+	}
+
+	/**
+	 * Retrieves {@link #pingMode}
+	 *
+	 * @return value of {@link #pingMode}
+	 */
+	public String getPingMode() {
+		return pingMode.name();
+	}
+
+	/**
+	 * Sets {@link #pingMode} value
+	 *
+	 * @param pingMode new value of {@link #pingMode}
+	 */
+	public void setPingMode(String pingMode) {
+		this.pingMode = PingMode.ofString(pingMode);
+	}
+
+	/**
+	 * Constructs a new instance of NanoSuiteCommunicator.
+	 */
+	public NanoSuiteCommunicator() {
+		this.setTrustAllCertificates(true);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Check for available devices before retrieving the value
+	 * ping latency information to Symphony
+	 */
+	@Override
+	public int ping() throws Exception {
+		if (this.pingMode == PingMode.ICMP) {
+			return super.ping();
+		} else if (this.pingMode == PingMode.TCP) {
+			if (isInitialized()) {
+				long pingResultTotal = 0L;
+
+				for (int i = 0; i < this.getPingAttempts(); i++) {
+					long startTime = System.currentTimeMillis();
+
+					try (Socket puSocketConnection = new Socket(this.host, this.getPort())) {
+						puSocketConnection.setSoTimeout(this.getPingTimeout());
+						if (puSocketConnection.isConnected()) {
+							long pingResult = System.currentTimeMillis() - startTime;
+							pingResultTotal += pingResult;
+							if (this.logger.isTraceEnabled()) {
+								this.logger.trace(String.format("PING OK: Attempt #%s to connect to %s on port %s succeeded in %s ms", i + 1, host, this.getPort(), pingResult));
+							}
+						} else {
+							if (this.logger.isDebugEnabled()) {
+								logger.debug(String.format("PING DISCONNECTED: Connection to %s did not succeed within the timeout period of %sms", host, this.getPingTimeout()));
+							}
+							return this.getPingTimeout();
+						}
+					} catch (SocketTimeoutException | ConnectException tex) {
+						throw new SocketTimeoutException("Socket connection timed out");
+					} catch (UnknownHostException tex) {
+						throw new SocketTimeoutException("Socket connection timed out" + tex.getMessage());
+					} catch (Exception e) {
+						if (this.logger.isWarnEnabled()) {
+							this.logger.warn(String.format("PING TIMEOUT: Connection to %s did not succeed, UNKNOWN ERROR %s: ", host, e.getMessage()));
+						}
+						return this.getPingTimeout();
+					}
+				}
+				return Math.max(1, Math.toIntExact(pingResultTotal / this.getPingAttempts()));
+			} else {
+				throw new IllegalStateException("Cannot use device class without calling init() first");
+			}
+		} else {
+			throw new IllegalArgumentException("Unknown PING Mode: " + pingMode);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		reentrantLock.lock();
+		try {
+			Map<String, String> statistics = new HashMap<>();
+			ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+			retrieveSystemInfo();
+			retrieveScreenAsset();
+			populateAggregatorInfo(statistics);
+			populateRequestStatistics(statistics);
+			populateCycleStatistics(statistics);
+			populateShardingStatistics(statistics);
+			populateHedgingStatistics(statistics);
+			populateRateLimitStatistics(statistics);
+			populateFleetHealthStatistics(statistics);
+			populateDiscoveryStatistics(statistics);
+			populateCacheStatistics(statistics);
+			populateTransferStatistics(statistics);
+			extendedStatistics.setStatistics(statistics);
+			localExtendedStatistics = extendedStatistics;
+		} finally {
+			reentrantLock.unlock();
+		}
+		return Collections.singletonList(localExtendedStatistics);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		if (executorService == null) {
+			executorService = Executors.newFixedThreadPool(1);
+			executorService.submit(deviceDataLoader = new NanoSuiteDataLoader());
+		}
+		nextDevicesCollectionIterationTimestamp = System.currentTimeMillis();
+		updateValidRetrieveStatisticsTimestamp();
+		if (!isCacheComplete()) {
+			return Collections.emptyList();
+		}
+		return cloneAndPopulateAggregatedDeviceList();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> list) throws Exception {
+		Set<String> deviceIds = new HashSet<>(list);
+		recordDemand(deviceIds);
+		return retrieveMultipleStatistics().stream().filter(aggregatedDevice -> deviceIds.contains(aggregatedDevice.getDeviceId())).collect(Collectors.toList());
+	}
+
+	/**
+	 * Records the screens of the requested devices as in demand, and queues the ones whose data is older than
+	 * {@link #demandMaxDataAge}, or whose receiver cards are missing in {@link #summaryMode}, to be fetched by the loader
+	 * without waiting for the next cycle
+	 *
+	 * @param deviceIds ids of the requested devices
+	 */
+	void recordDemand(Collection<String> deviceIds) {
+		long now = System.currentTimeMillis();
+		List<String> screenNames = new ArrayList<>();
+		for (String deviceId : deviceIds) {
+			String screenName = screenReconciler.getScreenName(deviceId);
+			if (screenName != null) {
+				screenNames.add(screenName);
+			}
+		}
+		screenDemand.record(screenNames, now);
+		long maxDataAge = TimeUnit.SECONDS.toMillis(parsePositiveInteger(demandMaxDataAge, 0));
+		boolean summary = Boolean.parseBoolean(summaryMode);
+		for (String screenName : screenNames) {
+			if (!screenCache.isPresent(screenName)) {
+				continue;
+			}
+			if (summary && screenCache.getAsset(screenName, ProfileType.NOVASTAR_RECEIVER.getValue()) == null) {
+				demandedScreens.add(screenName);
+				continue;
+			}
+			Long lastUpdated = screenLastUpdated.get(screenName);
+			if (maxDataAge > 0 && screenDemand.tryOnDemandFetch(screenName, lastUpdated == null ? 0 : lastUpdated, maxDataAge, now)) {
+				demandedScreens.add(screenName);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the property changes of each aggregated device between the last two populated device lists
+	 *
+	 * @return unmodifiable map of property deltas keyed by device id
+	 */
+	public Map<String, PropertyDelta> retrievePropertyDeltas() {
+		return Collections.unmodifiableMap(propertyDeltas);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void authenticate() throws Exception {
+
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal init is called.");
+		}
+		shardAssignment = createShardAssignment();
+		stringPool.setMaxEntries(StringUtils.isNullOrEmpty(stringPoolMaxEntries) ? NanoSuiteConstant.DEFAULT_STRING_POOL_MAX_ENTRIES
+				: NumberUtils.toInt(stringPoolMaxEntries.trim(), NanoSuiteConstant.DEFAULT_STRING_POOL_MAX_ENTRIES));
+		// fetches of a previous run still finishing after destroy may have pooled strings again
+		stringPool.clear();
+		screenCache.setMaxScreens(parsePositiveInteger(cacheMaxScreens, 0));
+		screenCache.setMaxBytes(parsePositiveInteger(cacheMaxMegabytes, 0) * 1024L * 1024L);
+		screenCache.setEvictionCycles(parsePositiveInteger(screenEvictionCycles, NanoSuiteConstant.DEFAULT_SCREEN_EVICTION_CYCLES));
+		restoreCacheSnapshot();
+		rollingWindows = parseRollingWindows();
+		// samples are only kept for the rolling properties
+		telemetryHistory = rollingWindows.length == 0 ? null : new TelemetryHistory(parsePositiveInteger(telemetryBufferSize, NanoSuiteConstant.DEFAULT_TELEMETRY_BUFFER_SIZE),
+				parsePositiveInteger(telemetryMaxSeries, NanoSuiteConstant.DEFAULT_TELEMETRY_MAX_SERIES));
+		trafficRecorder = createTrafficRecorder();
+		createRateLimiters();
+		boolean hedging = Boolean.parseBoolean(hedgeRequests);
+		// the original requests run on the fetch threads, each of them waits for at most one hedge
+		requestHedger = hedging ? new RequestHedger(Math.min(100, parsePositiveInteger(hedgeMaxPercent, NanoSuiteConstant.DEFAULT_HEDGE_MAX_PERCENT)),
+				getMaxNumberOfThreads()) : null;
+		if (getMaxConnectionsPerRoute() <= 0) {
+			// every fetch thread needs its own connection, the HTTP client allows only 2 per route by default,
+			// and a hedged request needs a second one while the original is still running
+			int maxConnections = hedging ? getMaxNumberOfThreads() * 2 : getMaxNumberOfThreads();
+			setMaxConnectionsPerRoute(maxConnections);
+			setMaxConnectionsTotal(Math.max(maxConnections, getMaxConnectionsTotal()));
+		}
+		executorService = Executors.newFixedThreadPool(1);
+		executorService.submit(deviceDataLoader = new NanoSuiteDataLoader());
+		super.internalInit();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal destroy is called.");
+		}
+		if (deviceDataLoader != null) {
+			deviceDataLoader.stop();
+			deviceDataLoader = null;
+		}
+		if (executorService != null) {
+			executorService.shutdownNow();
+			executorService = null;
+		}
+		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null) {
+			localExtendedStatistics.getStatistics().clear();
+		}
+		nextDevicesCollectionIterationTimestamp = 0;
+		aggregatedDeviceList.clear();
+		screenCache.clear();
+		screenReconciler.clear();
+		addedScreens.clear();
+		demandedScreens.clear();
+		screenDemand.clear();
+		staleScreens.clear();
+		requestStatistics.clear();
+		transferStatistics.reset();
+		screenLastUpdated.clear();
+		previousProperties = Collections.emptyMap();
+		propertyDeltas = Collections.emptyMap();
+		cacheSnapshotStore = null;
+		lastSnapshotSave = 0;
+		stringPool.clear();
+		propertySchemas.clear();
+		closeTrafficRecorder();
+		if (requestHedger != null) {
+			requestHedger.close();
+			requestHedger = null;
+		}
+		detailRateLimiter = null;
+		discoveryRateLimiter = null;
+		if (telemetryHistory != null) {
+			telemetryHistory.clear();
+		}
+		receiverSeriesKeys.clear();
+		fleetHealth.clear();
+		super.internalDestroy();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * register the converters streaming the responses, and decode compressed responses with {@link ContentDecodingHttpClient}
+	 */
+	@Override
+	protected RestTemplate obtainRestTemplate() throws Exception {
+		RestTemplate restTemplate = super.obtainRestTemplate();
+		if (restTemplate != pagedRestTemplate) {
+			synchronized (pagedJsonArrayConverter) {
+				if (restTemplate != pagedRestTemplate) {
+					restTemplate.getMessageConverters().add(0, pagedJsonArrayConverter);
+					restTemplate.getMessageConverters().add(0, jsonResponseConverter);
+					enableContentDecoding(restTemplate);
+					pagedRestTemplate = restTemplate;
+				}
+			}
+		}
+		return restTemplate;
+	}
+
+	/**
+	 * Wraps the HTTP client of the RestTemplate into a {@link ContentDecodingHttpClient} counting into {@link #transferStatistics}
+	 *
+	 * @param restTemplate RestTemplate to update
+	 */
+	private void enableContentDecoding(RestTemplate restTemplate) {
+		// the interceptors hide the request factory holding the client
+		List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>(restTemplate.getInterceptors());
+		restTemplate.setInterceptors(Collections.emptyList());
+		ClientHttpRequestFactory requestFactory = restTemplate.getRequestFactory();
+		restTemplate.setInterceptors(interceptors);
+		if (!(requestFactory instanceof HttpComponentsClientHttpRequestFactory)) {
+			logger.warn("Unable to request compressed responses, unsupported request factory " + requestFactory.getClass().getName());
+			return;
+		}
+		HttpComponentsClientHttpRequestFactory httpRequestFactory = (HttpComponentsClientHttpRequestFactory) requestFactory;
+		HttpClient httpClient = httpRequestFactory.getHttpClient();
+		if (httpClient instanceof CloseableHttpClient && !(httpClient instanceof ContentDecodingHttpClient)) {
+			httpRequestFactory.setHttpClient(new ContentDecodingHttpClient((CloseableHttpClient) httpClient, transferStatistics));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * set API token into Header of Request
+	 */
+	@Override
+	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
+		if (!StringUtils.isNullOrEmpty(this.getPassword())) {
+			headers.set(NanoSuiteConstant.ISAAC_TOKEN, this.getPassword());
+		}
+		return headers;
+	}
+
+	/**
+	 * Populates aggregator information into the provided stats map
+	 *
+	 * @param stats The map to store system information properties.
+	 */
+	private void populateAggregatorInfo(Map<String, String> stats) {
+		// Isaac workspace information
+		Map<String, Object> properties = convertObjectToMap(systemInformation);
+		for (Map.Entry<String, Object> entry : properties.entrySet()) {
+			stats.put(entry.getKey(), checkNullOrEmptyValue(entry.getValue()));
+		}
+	}
+
+	/**
+	 * Populates latency percentiles and error counts of each endpoint group into the provided stats map.
+	 * The statistics are cleared afterward if {@link #resetRequestStatistics} is enabled.
+	 *
+	 * @param stats The map to store request statistics properties.
+	 */
+	private void populateRequestStatistics(Map<String, String> stats) {
+		boolean reset = Boolean.parseBoolean(resetRequestStatistics);
+		for (Map.Entry<String, RequestStatistics> entry : requestStatistics.entrySet()) {
+			String group = String.format(NanoSuiteConstant.REQUEST_STATISTICS_GROUP, entry.getKey());
+			RequestStatistics statistics = entry.getValue();
+			LatencyHistogram latency = statistics.getLatency();
+			stats.put(group + NanoSuiteConstant.REQUESTS, String.valueOf(latency.getCount()));
+			stats.put(group + NanoSuiteConstant.LATENCY_P50, String.valueOf(latency.getPercentile(50)));
+			stats.put(group + NanoSuiteConstant.LATENCY_P95, String.valueOf(latency.getPercentile(95)));
+			stats.put(group + NanoSuiteConstant.LATENCY_P99, String.valueOf(latency.getPercentile(99)));
+			stats.put(group + NanoSuiteConstant.LATENCY_MAX, String.valueOf(latency.getMax()));
+			for (RequestErrorType errorType : RequestErrorType.values()) {
+				stats.put(group + NanoSuiteConstant.ERRORS + errorType.getName(), String.valueOf(statistics.getErrorCount(errorType)));
+			}
+			if (reset) {
+				statistics.reset();
+			}
+		}
+	}
+
+	/**
+	 * Populates the duration, phase breakdown and screen counts of the last monitoring cycle, and the age of the oldest
+	 * screen data into the provided stats map.
+	 *
+	 * @param stats The map to store monitoring cycle properties.
+	 */
+	private void populateCycleStatistics(Map<String, String> stats) {
+		String group = NanoSuiteConstant.MONITORING_CYCLE_GROUP;
+		stats.put(group + NanoSuiteConstant.CYCLE_DURATION, String.valueOf(cycleTelemetry.getLastCycleDuration()));
+		stats.put(group + NanoSuiteConstant.CYCLE_FETCH_TIME, String.valueOf(cycleTelemetry.getLastFetchTime()));
+		stats.put(group + NanoSuiteConstant.CYCLE_PARSE_TIME, String.valueOf(cycleTelemetry.getLastParseTime()));
+		stats.put(group + NanoSuiteConstant.CYCLE_CACHE_UPDATE_TIME, String.valueOf(cycleTelemetry.getLastCacheUpdateTime()));
+		stats.put(group + NanoSuiteConstant.CYCLE_DEVICE_BUILD_TIME, String.valueOf(cycleTelemetry.getLastDeviceBuildTime()));
+		stats.put(group + NanoSuiteConstant.CYCLE_SCREENS_REFRESHED, String.valueOf(cycleTelemetry.getLastRefreshedScreens()));
+		stats.put(group + NanoSuiteConstant.CYCLE_SCREENS_FAILED, String.valueOf(cycleTelemetry.getLastFailedScreens()));
+		stats.put(group + NanoSuiteConstant.CYCLE_SCREENS_SKIPPED, String.valueOf(cycleTelemetry.getLastSkippedScreens()));
+		stats.put(group + NanoSuiteConstant.CYCLE_SCREENS_TIMED_OUT, String.valueOf(cycleTelemetry.getLastTimedOutScreens()));
+		stats.put(group + NanoSuiteConstant.CYCLE_SCREENS_DEFERRED, String.valueOf(cycleTelemetry.getLastDeferredScreens()));
+		stats.put(group + NanoSuiteConstant.CYCLE_SUMMARY_SCREENS, String.valueOf(cycleTelemetry.getLastSummaryScreens()));
+		stats.put(group + NanoSuiteConstant.OUT_OF_CYCLE_SCREENS_REFRESHED, String.valueOf(outOfCycleTelemetry.getLastRefreshedScreens()));
+		stats.put(group + NanoSuiteConstant.OUT_OF_CYCLE_SCREENS_FAILED, String.valueOf(outOfCycleTelemetry.getLastFailedScreens()));
+		stats.put(group + NanoSuiteConstant.DEMANDED_SCREENS, String.valueOf(screenDemand.getDemandedScreens(System.currentTimeMillis())));
+		stats.put(group + NanoSuiteConstant.CYCLE_THREADS, String.valueOf(cycleTelemetry.getLastThreads()));
+		stats.put(group + NanoSuiteConstant.CYCLE_THREAD_MODE, cycleTelemetry.isLastVirtualThreads() ? NanoSuiteConstant.THREAD_MODE_VIRTUAL : NanoSuiteConstant.THREAD_MODE_PLATFORM);
+		stats.put(group + NanoSuiteConstant.CYCLE_AVERAGE_FETCH_LATENCY, String.valueOf(cycleTelemetry.getLastAverageFetchLatency()));
+		stats.put(group + NanoSuiteConstant.CYCLE_STRING_POOL_ENTRIES, String.valueOf(stringPool.size()));
+		long lastCycleEnd = cycleTelemetry.getLastCycleEnd();
+		stats.put(group + NanoSuiteConstant.CYCLE_LAST_END, lastCycleEnd == 0 ? NanoSuiteConstant.NONE : Instant.ofEpochMilli(lastCycleEnd).toString());
+
+		long oldestUpdate = Long.MAX_VALUE;
+		for (Long lastUpdated : screenLastUpdated.values()) {
+			oldestUpdate = Math.min(oldestUpdate, lastUpdated);
+		}
+		stats.put(group + NanoSuiteConstant.OLDEST_DATA_AGE, oldestUpdate == Long.MAX_VALUE ? NanoSuiteConstant.NONE
+				: String.valueOf(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - oldestUpdate)));
+	}
+
+	/**
+	 * Populates the shard of this instance and the number of screens it owns into the provided stats map,
+	 * nothing is populated when a single instance owns every screen.
+	 *
+	 * @param stats The map to store sharding properties.
+	 */
+	private void populateShardingStatistics(Map<String, String> stats) {
+		ShardAssignment assignment = shardAssignment;
+		if (!assignment.isSharded()) {
+			return;
+		}
+		String group = NanoSuiteConstant.SHARDING_GROUP;
+		stats.put(group + NanoSuiteConstant.SHARD_INDEX, String.valueOf(assignment.getShardIndex()));
+		stats.put(group + NanoSuiteConstant.SHARD_COUNT, String.valueOf(assignment.getShardCount()));
+		stats.put(group + NanoSuiteConstant.DISCOVERED_SCREENS, String.valueOf(discoveredScreenCount));
+		stats.put(group + NanoSuiteConstant.OWNED_SCREENS, String.valueOf(screenReconciler.size()));
+	}
+
+	/**
+	 * Populates the number of hedged requests and which of the original or the hedge answered first into the provided stats map,
+	 * nothing is populated unless {@link #hedgeRequests} is enabled.
+	 *
+	 * @param stats The map to store hedging properties.
+	 */
+	private void populateHedgingStatistics(Map<String, String> stats) {
+		RequestHedger hedger = requestHedger;
+		if (hedger == null) {
+			return;
+		}
+		String group = NanoSuiteConstant.HEDGING_GROUP;
+		stats.put(group + NanoSuiteConstant.HEDGES, String.valueOf(hedger.getHedges()));
+		stats.put(group + NanoSuiteConstant.HEDGE_WINS, String.valueOf(hedger.getWins()));
+		stats.put(group + NanoSuiteConstant.HEDGE_LOSSES, String.valueOf(hedger.getLosses()));
+		stats.put(group + NanoSuiteConstant.HEDGES_THROTTLED, String.valueOf(hedger.getThrottled()));
+		if (Boolean.parseBoolean(resetRequestStatistics)) {
+			hedger.reset();
+		}
+	}
+
+	/**
+	 * Populates the number of requests that waited for the rate limit and the time they waited into the provided stats map,
+	 * nothing is populated unless a rate limit is set.
+	 *
+	 * @param stats The map to store rate limit properties.
+	 */
+	private void populateRateLimitStatistics(Map<String, String> stats) {
+		TokenBucket detail = detailRateLimiter;
+		TokenBucket discovery = discoveryRateLimiter;
+		if (detail == discovery) {
+			populateRateLimitStatistics(stats, "", detail);
+		} else {
+			populateRateLimitStatistics(stats, NanoSuiteConstant.RATE_LIMIT_DISCOVERY, discovery);
+			populateRateLimitStatistics(stats, NanoSuiteConstant.RATE_LIMIT_DETAIL, detail);
+		}
+	}
+
+	/**
+	 * Populates the statistics of a rate limit budget, cleared afterward if {@link #resetRequestStatistics} is enabled
+	 *
+	 * @param stats The map to store rate limit properties.
+	 * @param budget name of the budget, empty when every request shares it
+	 * @param rateLimiter token bucket of the budget, or null if the budget is not limited
+	 */
+	private void populateRateLimitStatistics(Map<String, String> stats, String budget, TokenBucket rateLimiter) {
+		if (rateLimiter == null) {
+			return;
+		}
+		String group = String.format(NanoSuiteConstant.RATE_LIMIT_GROUP, budget);
+		LatencyHistogram queueWait = rateLimiter.getQueueWait();
+		stats.put(group + NanoSuiteConstant.REQUESTS, String.valueOf(queueWait.getCount()));
+		stats.put(group + NanoSuiteConstant.THROTTLED_REQUESTS, String.valueOf(rateLimiter.getThrottled()));
+		stats.put(group + NanoSuiteConstant.QUEUE_WAIT_P50, String.valueOf(queueWait.getPercentile(50)));
+		stats.put(group + NanoSuiteConstant.QUEUE_WAIT_P95, String.valueOf(queueWait.getPercentile(95)));
+		stats.put(group + NanoSuiteConstant.QUEUE_WAIT_MAX, String.valueOf(queueWait.getMax()));
+		if (Boolean.parseBoolean(resetRequestStatistics)) {
+			rateLimiter.reset();
+		}
+	}
+
+	/**
+	 * Populates the number of screens in error and in warning, the number of offline receivers and the range of the tracked
+	 * receiver metrics across the screens into the provided stats map. They are maintained as the screens change, so
+	 * populating them does not depend on the number of screens.
+	 *
+	 * @param stats The map to store fleet health properties.
+	 */
+	private void populateFleetHealthStatistics(Map<String, String> stats) {
+		String group = NanoSuiteConstant.FLEET_HEALTH_GROUP;
+		stats.put(group + NanoSuiteConstant.ERROR_SCREENS, String.valueOf(fleetHealth.getErrorScreens()));
+		stats.put(group + NanoSuiteConstant.WARNING_SCREENS, String.valueOf(fleetHealth.getWarningScreens()));
+		stats.put(group + NanoSuiteConstant.OFFLINE_RECEIVERS, String.valueOf(fleetHealth.getOfflineReceivers()));
+		for (ReceiverMetric metric : trackedReceiverMetrics) {
+			stats.put(group + NanoSuiteConstant.ROLLING_MIN + metric.getName(), formatDoubleValue(fleetHealth.getMin(metric)));
+			stats.put(group + NanoSuiteConstant.ROLLING_MAX + metric.getName(), formatDoubleValue(fleetHealth.getMax(metric)));
+		}
+	}
+
+	/**
+	 * Populates the number of screens added, removed and renamed by the discoveries into the provided stats map
+	 *
+	 * @param stats The map to store discovery properties.
+	 */
+	private void populateDiscoveryStatistics(Map<String, String> stats) {
+		String group = NanoSuiteConstant.DISCOVERY_GROUP;
+		stats.put(group + NanoSuiteConstant.ADDED_SCREENS, String.valueOf(screenReconciler.getAddedScreens()));
+		stats.put(group + NanoSuiteConstant.REMOVED_SCREENS, String.valueOf(screenReconciler.getRemovedScreens()));
+		stats.put(group + NanoSuiteConstant.RENAMED_SCREENS, String.valueOf(screenReconciler.getRenamedScreens()));
+	}
+
+	/**
+	 * Populates the number of cached screens, their estimated footprint and the eviction counts into the provided stats map
+	 *
+	 * @param stats The map to store cache properties.
+	 */
+	private void populateCacheStatistics(Map<String, String> stats) {
+		String group = NanoSuiteConstant.CACHE_GROUP;
+		stats.put(group + NanoSuiteConstant.CACHED_SCREENS, String.valueOf(screenCache.size()));
+		stats.put(group + NanoSuiteConstant.CACHE_ESTIMATED_SIZE, String.valueOf(screenCache.getEstimatedBytes() / 1024));
+		stats.put(group + NanoSuiteConstant.EVICTED_SCREENS, String.valueOf(screenCache.getEvictedScreens()));
+		stats.put(group + NanoSuiteConstant.REJECTED_SCREENS, String.valueOf(screenCache.getRejectedScreens()));
+	}
+
+	/**
+	 * Populates the number of responses and the bytes received and decoded into the provided stats map.
+	 * The counters are cleared afterward if {@link #resetRequestStatistics} is enabled.
+	 *
+	 * @param stats The map to store transfer properties.
+	 */
+	private void populateTransferStatistics(Map<String, String> stats) {
+		String group = NanoSuiteConstant.TRANSFER_GROUP;
+		stats.put(group + NanoSuiteConstant.RESPONSES, String.valueOf(transferStatistics.getResponses()));
+		stats.put(group + NanoSuiteConstant.COMPRESSED_RESPONSES, String.valueOf(transferStatistics.getCompressedResponses()));
+		stats.put(group + NanoSuiteConstant.RECEIVED_BYTES, String.valueOf(transferStatistics.getReceivedBytes()));
+		stats.put(group + NanoSuiteConstant.DECODED_BYTES, String.valueOf(transferStatistics.getDecodedBytes()));
+		stats.put(group + NanoSuiteConstant.COMPRESSION_RATIO, formatDoubleValue(transferStatistics.getCompressionRatio()));
+		if (Boolean.parseBoolean(resetRequestStatistics)) {
+			transferStatistics.reset();
+		}
+	}
+
+	/**
+	 * Sends a GET request to NanoSuite and records its latency, and its cause if it fails, into {@link #requestStatistics}.
+	 * Time spent on the requests of a screen fetch is also added to the fetch and parse phases of the telemetry the fetch is counted into.
+	 * The body is parsed while it is received, so the parse phase covers reading, decoding and parsing the body,
+	 * and the fetch phase the time until the body starts being read.
+	 * Receiver and sender asset requests are hedged by {@link #requestHedger} when it is enabled,
+	 * their latency is then the time until the first of the original request and its hedge is answered.
+	 * The original request is sent from the calling thread, and the HTTP request answering last is aborted by {@link ContentDecodingHttpClient}.
+	 *
+	 * @param uri uri of the request
+	 * @param endpointType endpoint the request is sent to
+	 * @param profileType profile type the request is filtered by, or null if it is not filtered
+	 * @param telemetry telemetry the fetch and parse times are added to, or null if the request is not part of a screen fetch
+	 * @return response of the request, or null if the response has no body
+	 * @throws Exception if the request fails
+	 */
+	private JsonNode doGetWithStatistics(String uri, EndpointType endpointType, ProfileType profileType, CycleTelemetry telemetry) throws Exception {
+		RequestStatistics statistics = requestStatistics.computeIfAbsent(endpointType.getGroupName(profileType), key -> new RequestStatistics());
+		RequestHedger hedger = endpointType == EndpointType.FILTER_ASSET ? requestHedger : null;
+		acquireRequestPermit(endpointType);
+		long startTime = System.nanoTime();
+		JsonResponse response;
+		try {
+			if (hedger == null) {
+				response = this.doGet(uri, JsonResponse.class);
+			} else {
+				AtomicBoolean permitted = new AtomicBoolean(true);
+				response = hedger.execute(() -> {
+					// the original request took its permit before being timed, a hedge takes one of its own
+					if (!permitted.getAndSet(false)) {
+						acquireRequestPermit(endpointType);
+					}
+					return this.doGet(uri, JsonResponse.class);
+				}, statistics.getLatency());
+			}
+		} catch (Exception e) {
+			long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+			statistics.recordLatency(latency);
+			statistics.recordError(RequestErrorType.of(e));
+			if (e instanceof CommandFailureException) {
+				recordTraffic(uri, ((CommandFailureException) e).getStatusCode(), latency, null);
+			}
+			throw e;
+		}
+		long latency = System.nanoTime() - startTime;
+		statistics.recordLatency(TimeUnit.NANOSECONDS.toMillis(latency));
+		long readTime = response == null ? 0 : response.getReadNanos();
+		if (telemetry != null) {
+			telemetry.recordFetch(latency - readTime);
+			telemetry.recordParse(readTime);
+		}
+		JsonNode body = response == null ? null : response.getBody();
+		recordTraffic(uri, 200, TimeUnit.NANOSECONDS.toMillis(latency), body);
+		return body;
+	}
+
+	/**
+	 * Waits for the rate limit of the budget of an endpoint, if it is limited.
+	 * The receiver and sender asset requests use the detail budget, the other requests use the discovery budget.
+	 *
+	 * @param endpointType endpoint the request is sent to
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	private void acquireRequestPermit(EndpointType endpointType) throws InterruptedException {
+		TokenBucket rateLimiter = endpointType == EndpointType.FILTER_ASSET ? detailRateLimiter : discoveryRateLimiter;
+		if (rateLimiter != null) {
+			rateLimiter.acquire();
+		}
+	}
+
+	/**
+	 * Creates the token buckets of {@link #requestRate} and {@link #discoveryRequestRate}
+	 */
+	private void createRateLimiters() {
+		int rate = parsePositiveInteger(requestRate, 0);
+		int discoveryRate = parsePositiveInteger(discoveryRequestRate, 0);
+		int burst = parsePositiveInteger(requestBurst, 0);
+		detailRateLimiter = rate == 0 ? null : new TokenBucket(rate, burst == 0 ? rate : burst);
+		discoveryRateLimiter = discoveryRate == 0 ? detailRateLimiter : new TokenBucket(discoveryRate, burst == 0 ? discoveryRate : burst);
+	}
+
+	/**
+	 * Records a response with {@link #trafficRecorder} if the traffic capture is enabled.
+	 * A capture failure never fails the request, recording is stopped instead.
+	 *
+	 * @param uri uri of the request
+	 * @param status HTTP status of the response
+	 * @param latency milliseconds the response took
+	 * @param response parsed body of the response, or null if it had none
+	 */
+	private void recordTraffic(String uri, int status, long latency, JsonNode response) {
+		TrafficRecorder recorder = trafficRecorder;
+		if (recorder == null) {
+			return;
+		}
+		try {
+			recorder.record(uri, status, latency, response);
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to record traffic to %s, traffic capture is stopped: %s", recorder.getFile(), e.getMessage()));
+			closeTrafficRecorder();
+		}
+	}
+
+	/**
+	 * Creates the traffic recorder of the NanoSuite responses
+	 *
+	 * @return recorder writing to {@link #trafficCaptureDirectory}, or null if the traffic capture is disabled or cannot be started
+	 */
+	private TrafficRecorder createTrafficRecorder() {
+		if (StringUtils.isNullOrEmpty(trafficCaptureDirectory)) {
+			return null;
+		}
+		String fileName = String.format(NanoSuiteConstant.TRAFFIC_FILE_NAME, String.valueOf(getHost()).replaceAll("[^A-Za-z0-9._-]", "_"),
+				new SimpleDateFormat(NanoSuiteConstant.TRAFFIC_FILE_TIMESTAMP).format(new Date()));
+		int maxEntries = parsePositiveInteger(trafficCaptureMaxEntries, NanoSuiteConstant.DEFAULT_TRAFFIC_CAPTURE_MAX_ENTRIES);
+		try {
+			TrafficRecorder recorder = new TrafficRecorder(objectMapper, Paths.get(trafficCaptureDirectory, fileName), getHost(), maxEntries);
+			logger.info(String.format("Recording NanoSuite traffic to %s", recorder.getFile()));
+			return recorder;
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to start traffic capture in %s: %s", trafficCaptureDirectory, e.getMessage()));
+			return null;
+		}
+	}
+
+	/**
+	 * Closes the traffic recorder, if any
+	 */
+	private void closeTrafficRecorder() {
+		TrafficRecorder recorder = trafficRecorder;
+		trafficRecorder = null;
+		if (recorder == null) {
+			return;
+		}
+		try {
+			recorder.close();
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to close traffic capture %s: %s", recorder.getFile(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * Sends a GET request to NanoSuite and streams its JSON array response into the pages of the given array,
+	 * recording its latency, and its cause if it fails, into {@link #requestStatistics}.
+	 * The latency includes the time spent handling the pages, since they are handled while the response is read.
+	 *
+	 * @param uri uri of the request
+	 * @param endpointType endpoint the request is sent to
+	 * @param array pages the response is read into
+	 * @return the given array, or null if the response has no body
+	 * @throws Exception if the request fails
+	 */
+	private PagedJsonArray doGetPagesWithStatistics(String uri, EndpointType endpointType, PagedJsonArray array) throws Exception {
+		RequestStatistics statistics = requestStatistics.computeIfAbsent(endpointType.getGroupName(null), key -> new RequestStatistics());
+		acquireRequestPermit(endpointType);
+		long startTime = System.nanoTime();
+		pagedJsonArrayConverter.bind(array);
+		try {
+			return this.doGet(uri, PagedJsonArray.class);
+		} catch (Exception e) {
+			statistics.recordError(RequestErrorType.of(e));
+			throw e;
+		} finally {
+			pagedJsonArrayConverter.unbind();
+			statistics.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+		}
+	}
+
+	/**
+	 * Populates device details using multiple threads.
+	 * Retrieves aggregated data for each device in the cached concurrently.
+	 * Screens missing from the last discovery are not fetched, their data is kept as stale until they are evicted.
+	 * With {@link #virtualThreads} enabled on a JVM that supports them, each screen is fetched on its own virtual thread
+	 * and the number of threads only bounds the number of screens fetched at the same time.
+	 * The cycle returns once {@link #cycleTimeBudget} is spent even if some screens are still being fetched,
+	 * so the next cycle starts on time whatever the slowest screens take.
+	 * With {@link #backgroundPollInterval} set, the screens Symphony did not request recently are deferred until their data
+	 * is that old, as long as it requests some.
+	 */
+	void populateDeviceDetails() {
+		int numberOfThreads = getDefaultNumberOfThread();
+		boolean useVirtualThreads = Boolean.parseBoolean(virtualThreads) && FetchExecutors.isVirtualThreadSupported();
+		// every screen due is fetched by this cycle, including the screens added or requested since the last one
+		addedScreens.clear();
+		demandedScreens.clear();
+		List<String> screenNames = new ArrayList<>();
+		outOfCycleTelemetry.endCycle();
+		outOfCycleTelemetry.startCycle(numberOfThreads, useVirtualThreads);
+		cycleTelemetry.startCycle(numberOfThreads, useVirtualThreads);
+		long deadline = getCycleDeadline();
+		long now = System.currentTimeMillis();
+		long backgroundInterval = TimeUnit.SECONDS.toMillis(parsePositiveInteger(backgroundPollInterval, 0));
+		for (String deviceName : screenCache.getScreenNames()) {
+			if (!screenCache.isPresent(deviceName)) {
+				staleScreens.add(deviceName);
+				cycleTelemetry.screenSkipped();
+				continue;
+			}
+			if (backgroundInterval > 0 && !screenDemand.isDemanded(deviceName, now) && !staleScreens.contains(deviceName)) {
+				Long lastUpdated = screenLastUpdated.get(deviceName);
+				if (lastUpdated != null && now - lastUpdated < backgroundInterval) {
+					cycleTelemetry.screenDeferred();
+					continue;
+				}
+			}
+			screenNames.add(deviceName);
+		}
+		fetchScreens(screenNames, numberOfThreads, useVirtualThreads, deadline, cycleTelemetry);
+		cycleTelemetry.endCycle();
+	}
+
+	/**
+	 * Fetches the screens added by a discovery since the last monitoring cycle, so they are reported without waiting for the next cycle
+	 */
+	void populateAddedScreens() {
+		fetchQueuedScreens(addedScreens, "added since the last monitoring cycle");
+	}
+
+	/**
+	 * Fetches the requested screens whose data is older than {@link #demandMaxDataAge}, without waiting for the next cycle
+	 */
+	void populateDemandedScreens() {
+		fetchQueuedScreens(demandedScreens, "requested with data older than " + demandMaxDataAge + "s");
+	}
+
+	/**
+	 * Fetches and dequeues the screens of a queue filled between two monitoring cycles, counting them into {@link #outOfCycleTelemetry}
+	 *
+	 * @param queue names of the screens to fetch
+	 * @param reason why the screens are fetched, for logging
+	 */
+	private void fetchQueuedScreens(Set<String> queue, String reason) {
+		List<String> screenNames = new ArrayList<>();
+		for (Iterator<String> iterator = queue.iterator(); iterator.hasNext(); ) {
+			String screenName = iterator.next();
+			iterator.remove();
+			if (screenCache.isPresent(screenName)) {
+				screenNames.add(screenName);
+			}
+		}
+		if (screenNames.isEmpty()) {
+			return;
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Fetching %s screens %s", screenNames.size(), reason));
+		}
+		fetchScreens(screenNames, Math.min(getDefaultNumberOfThread(), screenNames.size()),
+				Boolean.parseBoolean(virtualThreads) && FetchExecutors.isVirtualThreadSupported(), getCycleDeadline(), outOfCycleTelemetry);
+	}
+
+	/**
+	 * Retrieves the time a cycle starting now must end by, from {@link #cycleTimeBudget}
+	 *
+	 * @return deadline as {@link System#nanoTime()}, or 0 if the cycles have no time budget
+	 */
+	private long getCycleDeadline() {
+		int budget = parsePositiveInteger(cycleTimeBudget, 0);
+		return budget == 0 ? 0 : System.nanoTime() + TimeUnit.SECONDS.toNanos(budget);
+	}
+
+	/**
+	 * Fetches the assets of screens concurrently and waits for all of them, or until the deadline.
+	 * Fetches that have not started by the deadline are cancelled, the running ones are left to finish in the background
+	 * and update the cache when they do. Screens not refreshed by the deadline keep their previous data, marked as stale.
+	 *
+	 * @param screenNames names of the screens
+	 * @param numberOfThreads number of threads, or number of concurrent fetches on virtual threads
+	 * @param useVirtualThreads whether each screen is fetched on its own virtual thread
+	 * @param deadline time to stop waiting as {@link System#nanoTime()}, or 0 to wait for every fetch
+	 * @param telemetry telemetry the fetched screens are counted into
+	 */
+	private void fetchScreens(List<String> screenNames, int numberOfThreads, boolean useVirtualThreads, long deadline, CycleTelemetry telemetry) {
+		ExecutorService executorServiceRetrieveAggregatedData = FetchExecutors.newFetchExecutor(numberOfThreads, useVirtualThreads);
+		Semaphore fetchPermits = useVirtualThreads ? new Semaphore(numberOfThreads) : null;
+		AtomicBoolean expired = new AtomicBoolean();
+		Map<String, Future<?>> futures = new LinkedHashMap<>();
+		for (String deviceName : screenNames) {
+			Future<?> future = executorServiceRetrieveAggregatedData.submit(() -> {
+				if (fetchPermits == null) {
+					if (!expired.get()) {
+						retrieveDeviceAsset(deviceName, telemetry);
+					}
+					return;
+				}
+				fetchPermits.acquireUninterruptibly();
+				try {
+					// virtual threads all start at once, the ones still waiting for a permit at the deadline give up
+					if (!expired.get()) {
+						retrieveDeviceAsset(deviceName, telemetry);
+					}
+				} finally {
+					fetchPermits.release();
+				}
+			});
+			futures.put(deviceName, future);
+		}
+		List<String> timedOutScreens = waitForFutures(futures, executorServiceRetrieveAggregatedData, deadline);
+		if (timedOutScreens.isEmpty()) {
+			return;
+		}
+		expired.set(true);
+		for (String deviceName : timedOutScreens) {
+			// a fetch that completed since the deadline cannot be cancelled anymore and its screen is fresh
+			if (futures.get(deviceName).cancel(false)) {
+				staleScreens.add(deviceName);
+				telemetry.screenTimedOut();
+			}
+		}
+		if (logger.isWarnEnabled()) {
+			logger.warn(String.format("Cycle time budget of %ss spent with %s screens not refreshed yet, their previous data is kept as stale",
+					cycleTimeBudget.trim(), timedOutScreens.size()));
+		}
+	}
+
+	/**
+	 * Retrieve list assets of specific device by send GET request to NanoSuite endpoint.
+	 * In {@link #summaryMode}, the receiver cards of a healthy screen nobody requested are not fetched, and dropped from the cache.
+	 *
+	 * @param deviceName name of the device
+	 * @param telemetry telemetry the screen is counted into
+	 */
+	private void retrieveDeviceAsset(String deviceName, CycleTelemetry telemetry) {
+		try {
+			boolean refreshed = true;
+			boolean receiverDetail = isReceiverDetailNeeded(deviceName);
+			if (!receiverDetail) {
+				dropReceiverDetail(deviceName);
+				telemetry.screenSummarized();
+			}
+			for (ProfileType profileType : ProfileType.values()) {
+				if (profileType == ProfileType.NOVASTAR_RECEIVER && !receiverDetail) {
+					continue;
+				}
+				if (!profileType.getName().equalsIgnoreCase(ProfileType.NOVASTAR_SCREEN.getName())) {
+					String url = createFilterUrl(profileType, deviceName);
+					JsonNode response = doGetWithStatistics(url, EndpointType.FILTER_ASSET, profileType, telemetry);
+
+					if (response != null && !StringUtils.isNullOrEmpty(response.toString()) && !NanoSuiteConstant.ERROR.contains(response.toString())) {
+						long cacheUpdateStartTime = System.nanoTime();
+						Map<String, JsonNode> assets = new HashMap<>();
+						assets.put(profileType.getValue(), response);
+						if (updateCacheData(deviceName, assets) && profileType == ProfileType.NOVASTAR_RECEIVER) {
+							recordReceiverTelemetry(deviceName, response);
+							rollUpScreen(deviceName, assets);
+						}
+						telemetry.recordCacheUpdate(System.nanoTime() - cacheUpdateStartTime);
+					} else {
+						refreshed = false;
+					}
+				}
+			}
+			if (refreshed) {
+				staleScreens.remove(deviceName);
+				screenLastUpdated.put(deviceName, System.currentTimeMillis());
+				telemetry.screenRefreshed();
+			} else {
+				telemetry.screenFailed();
+			}
+		} catch (Exception e) {
+			telemetry.screenFailed();
+			logger.error(String.format("An error occurred when retrieving device asset %s", e.getMessage()), e);
 		}
-		if (deviceDataLoader != null) {
-			deviceDataLoader.stop();
-			deviceDataLoader = null;
+	}
+
+	/**
+	 * Check whether the receiver cards of a screen are fetched, which is always the case unless {@link #summaryMode} is enabled.
+	 * In summary mode, they are fetched for a screen whose last discovered health is not healthy or that Symphony requested.
+	 *
+	 * @param deviceName name of the device
+	 * @return true if the receiver cards of the screen are fetched
+	 */
+	private boolean isReceiverDetailNeeded(String deviceName) {
+		if (!Boolean.parseBoolean(summaryMode) || screenDemand.isRequested(deviceName, System.currentTimeMillis())) {
+			return true;
 		}
-		if (executorService != null) {
-			executorService.shutdownNow();
-			executorService = null;
+		JsonNode screenAsset = screenCache.getAsset(deviceName, ProfileType.NOVASTAR_SCREEN.getValue());
+		return screenAsset == null || getOverallHealth(screenAsset.path(0)) != HealthStateStatus.HEALTHY;
+	}
+
+	/**
+	 * Retrieves the overall health state of an asset
+	 *
+	 * @param asset screen, sender or receiver asset
+	 * @return health state, or null if the asset has none
+	 */
+	private HealthStateStatus getOverallHealth(JsonNode asset) {
+		return MetricNormalizer.parseHealthState(asset.path(NanoSuiteConstant.OVERALL_HEALTH_STATE).path(NanoSuiteConstant.LAST_VALUE).asText(null));
+	}
+
+	/**
+	 * Rolls the screen and receiver assets of a screen up into {@link #fleetHealth}, replacing what the screen contributed before.
+	 * Receivers in error are counted as offline, the same way as a device is reported offline.
+	 *
+	 * @param screenName name of the screen
+	 * @param assets assets of the screen keyed by profile type, the other profile types are left as they are
+	 */
+	private void rollUpScreen(String screenName, Map<String, JsonNode> assets) {
+		JsonNode screenAsset = assets.get(ProfileType.NOVASTAR_SCREEN.getValue());
+		if (screenAsset != null) {
+			fleetHealth.updateScreenHealth(screenName, getOverallHealth(screenAsset.path(0)));
 		}
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null) {
-			localExtendedStatistics.getStatistics().clear();
+		JsonNode receivers = assets.get(ProfileType.NOVASTAR_RECEIVER.getValue());
+		if (receivers == null || !receivers.isArray()) {
+			return;
 		}
-		nextDevicesCollectionIterationTimestamp = 0;
-		aggregatedDeviceList.clear();
-		cachedData.clear();
-		super.internalDestroy();
+		int offline = 0;
+		Map<ReceiverMetric, double[]> ranges = new EnumMap<>(ReceiverMetric.class);
+		for (JsonNode receiver : receivers) {
+			if (getOverallHealth(receiver) == HealthStateStatus.ERROR) {
+				offline++;
+			}
+			for (JsonNode metric : receiver.path(NanoSuiteConstant.METRICS)) {
+				ReceiverMetric receiverMetric = ReceiverMetric.getByValue(metric.path(NanoSuiteConstant.METRIC_TYPE).asText());
+				double value = receiverMetric == null || !trackedReceiverMetrics.contains(receiverMetric) ? Double.NaN : parseMetricValue(metric.get(NanoSuiteConstant.LAST_VALUE));
+				if (Double.isNaN(value)) {
+					continue;
+				}
+				double[] range = ranges.get(receiverMetric);
+				if (range == null) {
+					ranges.put(receiverMetric, new double[] { value, value });
+				} else {
+					range[0] = Math.min(range[0], value);
+					range[1] = Math.max(range[1], value);
+				}
+			}
+		}
+		fleetHealth.updateReceivers(screenName, offline, ranges);
 	}
 
 	/**
-	 * {@inheritDoc}
-	 * set API token into Header of Request
+	 * Parses the value of a numeric metric
+	 *
+	 * @param lastValue last value of the metric
+	 * @return value, or {@link Double#NaN} if the metric has no numeric value
 	 */
-	@Override
-	protected HttpHeaders putExtraRequestHeaders(HttpMethod httpMethod, String uri, HttpHeaders headers) throws Exception {
-		if (!StringUtils.isNullOrEmpty(this.getPassword())) {
-			headers.set(NanoSuiteConstant.ISAAC_TOKEN, this.getPassword());
+	private double parseMetricValue(JsonNode lastValue) {
+		if (lastValue == null) {
+			return Double.NaN;
 		}
-		return headers;
+		if (lastValue.isNumber()) {
+			return lastValue.doubleValue();
+		}
+		if (NumberUtils.isCreatable(lastValue.asText())) {
+			try {
+				return Double.parseDouble(lastValue.asText());
+			} catch (NumberFormatException e) {
+				logger.debug(String.format("Unable to parse metric value %s", lastValue.asText()));
+			}
+		}
+		return Double.NaN;
 	}
 
 	/**
-	 * Populates aggregator information into the provided stats map
+	 * Drops the cached receiver cards and the receiver telemetry of a screen that is polled in summary again
 	 *
-	 * @param stats The map to store system information properties.
+	 * @param deviceName name of the device
 	 */
-	private void populateAggregatorInfo(Map<String, String> stats) {
-		// Isaac workspace information
-		Map<String, Object> properties = convertObjectToMap(systemInformation);
-		for (Map.Entry<String, Object> entry : properties.entrySet()) {
-			stats.put(entry.getKey(), checkNullOrEmptyValue(entry.getValue()));
+	private void dropReceiverDetail(String deviceName) {
+		if (!screenCache.removeAsset(deviceName, ProfileType.NOVASTAR_RECEIVER.getValue())) {
+			return;
+		}
+		fleetHealth.removeReceivers(deviceName);
+		if (telemetryHistory != null) {
+			telemetryHistory.remove(deviceName);
 		}
 	}
 
 	/**
-	 * Populates device details using multiple threads.
-	 * Retrieves aggregated data for each device in the cached concurrently.
+	 * Records samples of the tracked receiver metrics of a screen into {@link #telemetryHistory}
+	 *
+	 * @param deviceName name of the device
+	 * @param response receiver asset response of the device
 	 */
-	private void populateDeviceDetails() {
-		int numberOfThreads = getDefaultNumberOfThread();
-		ExecutorService executorServiceRetrieveAggregatedData = Executors.newFixedThreadPool(numberOfThreads);
-		List<Future<?>> futures = new ArrayList<>();
+	private void recordReceiverTelemetry(String deviceName, JsonNode response) {
+		TelemetryHistory history = telemetryHistory;
+		if (history == null || !response.isArray()) {
+			return;
+		}
+		long timestamp = System.currentTimeMillis();
+		for (JsonNode receiver : response) {
+			JsonNode displayName = receiver.get(NanoSuiteConstant.DISPLAY_NAME);
+			JsonNode metrics = receiver.get(NanoSuiteConstant.METRICS);
+			if (displayName == null || metrics == null || !metrics.isArray()) {
+				continue;
+			}
+			String[] seriesKeys = null;
+			for (JsonNode metric : metrics) {
+				ReceiverMetric receiverMetric = ReceiverMetric.getByValue(metric.path(NanoSuiteConstant.METRIC_TYPE).asText());
+				if (receiverMetric == null || !trackedReceiverMetrics.contains(receiverMetric)) {
+					continue;
+				}
+				double value = parseMetricValue(metric.get(NanoSuiteConstant.LAST_VALUE));
+				if (Double.isNaN(value)) {
+					continue;
+				}
+				if (seriesKeys == null) {
+					seriesKeys = getReceiverSeriesKeys(displayName.asText());
+				}
+				String series = seriesKeys[receiverMetric.ordinal()];
+				if (series == null) {
+					// concurrent fetches may build the same key, they all store an equal value
+					series = capitalizeFirstLetterOfEachWord(displayName.asText()).replace(",", "").concat(NanoSuiteConstant.HASH) + receiverMetric.getName();
+					seriesKeys[receiverMetric.ordinal()] = series;
+				}
+				history.record(deviceName, series, timestamp, value);
+			}
+		}
+	}
 
-		synchronized (cachedData) {
-			for (Map.Entry<String, Map<String, JsonNode>> entry : cachedData.entrySet()) {
-				Future<?> future = executorServiceRetrieveAggregatedData.submit(() -> retrieveDeviceAsset(entry.getKey()));
-				futures.add(future);
+	/**
+	 * Retrieves the cached series keys of a receiver, bounded by the number of telemetry series
+	 *
+	 * @param displayName display name of the receiver card
+	 * @return series keys indexed by metric ordinal, null until the key of a metric is built
+	 */
+	private String[] getReceiverSeriesKeys(String displayName) {
+		String[] seriesKeys = receiverSeriesKeys.get(displayName);
+		if (seriesKeys == null) {
+			if (receiverSeriesKeys.size() >= parsePositiveInteger(telemetryMaxSeries, NanoSuiteConstant.DEFAULT_TELEMETRY_MAX_SERIES)) {
+				receiverSeriesKeys.clear();
+			}
+			seriesKeys = new String[ReceiverMetric.values().length];
+			String[] existing = receiverSeriesKeys.putIfAbsent(displayName, seriesKeys);
+			if (existing != null) {
+				seriesKeys = existing;
 			}
 		}
-		waitForFutures(futures, executorServiceRetrieveAggregatedData);
-		executorServiceRetrieveAggregatedData.shutdown();
+		return seriesKeys;
 	}
 
 	/**
-	 * Retrieve list assets of specific device by send GET request to NanoSuite endpoint.
+	 * Populates rolling min, max and average properties of a tracked receiver metric for each configured window
 	 *
+	 * @param stats map to store monitor properties.
 	 * @param deviceName name of the device
+	 * @param propertyName property name of the receiver metric
+	 */
+	private void populateRollingProperties(Map<String, String> stats, String deviceName, String propertyName) {
+		TelemetryHistory history = telemetryHistory;
+		MetricRingBuffer buffer = history == null ? null : history.get(deviceName, propertyName);
+		long now = System.currentTimeMillis();
+		for (int window : rollingWindows) {
+			long since = now - TimeUnit.MINUTES.toMillis(window);
+			String suffix = window + NanoSuiteConstant.MINUTE_SUFFIX;
+			stats.put(propertyName + NanoSuiteConstant.ROLLING_MIN + suffix, buffer == null ? NanoSuiteConstant.NONE : formatDoubleValue(buffer.min(since)));
+			stats.put(propertyName + NanoSuiteConstant.ROLLING_MAX + suffix, buffer == null ? NanoSuiteConstant.NONE : formatDoubleValue(buffer.max(since)));
+			stats.put(propertyName + NanoSuiteConstant.ROLLING_AVERAGE + suffix, buffer == null ? NanoSuiteConstant.NONE : formatDoubleValue(buffer.average(since)));
+		}
+	}
+
+	/**
+	 * Loads the last saved cache snapshot, so its data is served until the first monitoring cycle refreshes it.
+	 * Restored screens are marked as stale.
 	 */
-	private void retrieveDeviceAsset(String deviceName) {
+	private void restoreCacheSnapshot() {
+		cacheSnapshotStore = createCacheSnapshotStore();
+		if (cacheSnapshotStore == null) {
+			return;
+		}
 		try {
-			for (ProfileType profileType : ProfileType.values()) {
-				if (!profileType.getName().equalsIgnoreCase(ProfileType.NOVASTAR_SCREEN.getName())) {
-					String url = createFilterUrl(profileType, deviceName);
-					JsonNode response = this.doGet(url, JsonNode.class);
+			Map<String, Map<String, JsonNode>> snapshot = cacheSnapshotStore.load();
+			// the snapshot file may have been copied from another shard
+			snapshot.keySet().removeIf(screenName -> !shardAssignment.owns(screenName));
+			if (snapshot.isEmpty()) {
+				return;
+			}
+			// screens beyond the cache caps are not restored
+			snapshot.entrySet().removeIf(entry -> !screenCache.put(entry.getKey(), entry.getValue()));
+			snapshot.forEach((screenName, assets) -> {
+				JsonNode screenAsset = assets.get(ProfileType.NOVASTAR_SCREEN.getValue());
+				screenReconciler.add(screenName, screenAsset == null ? null : getScreenId(screenAsset.path(0)));
+			});
+			snapshot.forEach(this::rollUpScreen);
+			staleScreens.addAll(snapshot.keySet());
+			for (String screenName : snapshot.keySet()) {
+				screenLastUpdated.put(screenName, cacheSnapshotStore.getSavedAt());
+			}
+			if (logger.isInfoEnabled()) {
+				logger.info(String.format("Restored %s screens from cache snapshot %s", snapshot.size(), cacheSnapshotStore.getSnapshotFile()));
+			}
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to restore cache snapshot %s: %s", cacheSnapshotStore.getSnapshotFile(), e.getMessage()));
+		}
+	}
 
-					if (response != null && !StringUtils.isNullOrEmpty(response.toString()) && !NanoSuiteConstant.ERROR.contains(response.toString())) {
-						Map<String, JsonNode> assets = new HashMap<>();
-						assets.put(profileType.getValue(), response);
-						updateCacheData(deviceName, assets);
-					}
+	/**
+	 * Saves the cache to the snapshot file if it is not empty and every screen has completed at least one monitoring cycle,
+	 * at most once per {@link #snapshotInterval}
+	 */
+	void saveCacheSnapshot() {
+		if (cacheSnapshotStore == null || screenCache.isEmpty() || !isCacheComplete()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		long interval = TimeUnit.SECONDS.toMillis(parsePositiveInteger(snapshotInterval, NanoSuiteConstant.DEFAULT_SNAPSHOT_INTERVAL));
+		if (lastSnapshotSave != 0 && now - lastSnapshotSave < interval) {
+			return;
+		}
+		lastSnapshotSave = now;
+		try {
+			cacheSnapshotStore.save(screenCache.copy());
+		} catch (IOException e) {
+			logger.warn(String.format("Unable to save cache snapshot %s: %s", cacheSnapshotStore.getSnapshotFile(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * Creates the cache snapshot store for the current host and shard, so the shards polling the same host
+	 * do not overwrite the snapshot of each other
+	 *
+	 * @return snapshot store writing to {@link #snapshotDirectory}, or null if it is not set
+	 */
+	private CacheSnapshotStore createCacheSnapshotStore() {
+		if (StringUtils.isNullOrEmpty(snapshotDirectory)) {
+			return null;
+		}
+		String directory = snapshotDirectory.trim();
+		String fileName = String.format(NanoSuiteConstant.SNAPSHOT_FILE_NAME, String.valueOf(getHost()).replaceAll("[^A-Za-z0-9._-]", "_"),
+				shardAssignment.getShardIndex(), shardAssignment.getShardCount());
+		Path snapshotFile = Paths.get(directory, fileName);
+		return new CacheSnapshotStore(objectMapper, snapshotFile, String.valueOf(getHost()));
+	}
+
+	/**
+	 * Resolves the shard of this instance from {@link #shardIndex} and {@link #shardCount}
+	 *
+	 * @return shard assignment, or {@link ShardAssignment#NONE} if the screens are not split or the shard is invalid
+	 */
+	private ShardAssignment createShardAssignment() {
+		int count = parsePositiveInteger(shardCount, 1);
+		if (count == 1) {
+			return ShardAssignment.NONE;
+		}
+		int index = StringUtils.isNullOrEmpty(shardIndex) ? 0 : NumberUtils.toInt(shardIndex.trim(), -1);
+		if (index < 0 || index >= count) {
+			logger.warn(String.format("Invalid shardIndex %s for shardCount %s, every screen is monitored by this instance", shardIndex, count));
+			return ShardAssignment.NONE;
+		}
+		return new ShardAssignment(index, count);
+	}
+
+	/**
+	 * Check whether every cached screen has its receiver and sender assets, not only the screen asset
+	 *
+	 * @return true if the cache is ready to be populated to aggregated devices
+	 */
+	private boolean isCacheComplete() {
+		synchronized (screenCache) {
+			for (Map<String, JsonNode> assets : screenCache.asMap().values()) {
+				if (assets.size() == 1) {
+					return false;
 				}
 			}
-		} catch (Exception e) {
-			logger.error(String.format("An error occurred when retrieving device asset %s", e.getMessage()), e);
 		}
+		return true;
 	}
 
 	/**
@@ -592,7 +2504,7 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 	 */
 	private void retrieveSystemInfo() throws Exception {
 		try {
-			JsonNode response = this.doGet(NanoSuiteConstant.ISSAC_SETTING_URL, JsonNode.class);
+			JsonNode response = doGetWithStatistics(NanoSuiteConstant.ISSAC_SETTING_URL, EndpointType.SETTINGS, null, null);
 			if (response != null && !response.has(NanoSuiteConstant.ERROR)) {
 				systemInformation = objectMapper.treeToValue(response, SystemInformation.class);
 			}
@@ -608,6 +2520,8 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 
 	/**
 	 * Retrieve list of screens to monitoring by send GET request to NanoSuite API endpoint.
+	 * The screens of this instance are then reconciled against the screens of the previous discovery: renamed screens keep their data,
+	 * added screens are fetched without waiting for the next monitoring cycle, and removed screens are left to the cache to evict.
 	 *
 	 * @throws FailedLoginException If there's an issue with the login credentials. This could happen if the password is incorrect.
 	 * @throws ResourceNotReachableException If there's an error reaching the NanoSuite API or screen asset information.
@@ -615,26 +2529,33 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 	private void retrieveScreenAsset() throws Exception {
 		try {
 			String uri = NanoSuiteConstant.SCREEN_ASSET_URL;
-			JsonNode response = this.doGet(uri, JsonNode.class);
-
-			if (response != null && !StringUtils.isNullOrEmpty(response.toString()) && !NanoSuiteConstant.ERROR.contains(response.toString()) && response.isArray()) {
-				deviceScreenName.clear();
-				List<JsonNode> devices = objectMapper.readerFor(new TypeReference<List<JsonNode>>(){}).readValue(response);
-				if (devices == null || devices.isEmpty()) return;
-
-				for (JsonNode device : devices) {
-					JsonNode metadata = device.get(NanoSuiteConstant.METADATA);
-					if (metadata == null) continue;
-
-					String screenName = metadata.get(NanoSuiteConstant.NOVASTAR_SCREEN_NAME).asText();
-					if (screenName == null) continue;
+			Set<String> discoveredScreens = new LinkedHashSet<>();
+			Map<String, String> ownedScreens = new LinkedHashMap<>();
+			Map<String, JsonNode> changedScreens = new HashMap<>();
+			if (trafficRecorder != null) {
+				// the traffic capture needs the whole response, so the screen asset list is read at once
+				JsonNode response = doGetWithStatistics(uri, EndpointType.SCREEN_ASSET, null, null);
+				if (response == null || !response.isArray()) return;
+
+				List<JsonNode> devices = new ArrayList<>(response.size());
+				response.forEach(devices::add);
+				registerScreens(devices, discoveredScreens, ownedScreens, changedScreens);
+			} else {
+				// screens are registered page by page while the response streams in, so the whole list is never held in memory
+				PagedJsonArray screens = new PagedJsonArray(parsePositiveInteger(discoveryPageSize, NanoSuiteConstant.DEFAULT_DISCOVERY_PAGE_SIZE),
+						page -> registerScreens(page, discoveredScreens, ownedScreens, changedScreens));
+				screens = doGetPagesWithStatistics(uri, EndpointType.SCREEN_ASSET, screens);
+				if (screens == null || !screens.isArray()) return;
 
-					Map<String, JsonNode> assets = new HashMap<>();
-					assets.put(ProfileType.NOVASTAR_SCREEN.getValue(), objectMapper.createArrayNode().add(device));
-					updateCacheData(screenName, assets);
-					deviceScreenName.add(screenName);
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Discovered %s screens in %s pages", screens.getElementCount(), screens.getPageCount()));
 				}
 			}
+			boolean initialDiscovery = screenReconciler.isEmpty();
+			DiscoveryChanges changes = screenReconciler.reconcile(ownedScreens);
+			applyDiscoveryChanges(changes, changedScreens, initialDiscovery);
+			discoveredScreenCount = discoveredScreens.size();
+			removeEvictedScreens(screenCache.endDiscoveryCycle());
 		} catch (FailedLoginException e) {
 			throw new FailedLoginException("Error when login to system. Please check the credentials");
 		} catch (CommandFailureException e) {
@@ -645,46 +2566,235 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 	}
 
 	/**
-	 * Update list assets of specific device
+	 * Registers a page of screens from the screen asset list in the cache.
+	 * Only the screens of the shard of this instance are cached, the screens of the other shards are only counted.
+	 * Renamed screens, and screens taking over the name of another screen, are only cached once the discovery is reconciled.
 	 *
-	 * @param deviceName name of the device
-	 * @param value list assets of device
+	 * @param devices screen assets of the page
+	 * @param discoveredScreens names of the screens discovered so far, the screens of the page are added to it
+	 * @param ownedScreens ids of the screens of this instance discovered so far keyed by name, the screens of the page are added to it
+	 * @param changedScreens screen assets of the renamed screens and of the screens taking over a name keyed by name
 	 */
-	private void updateCacheData(String deviceName, Map<String, JsonNode> value) {
-		synchronized (cachedData) {
-			Map<String, JsonNode> map = new HashMap<>();
-			if (cachedData.containsKey(deviceName)) {
-				map = cachedData.get(deviceName);
+	private void registerScreens(List<JsonNode> devices, Set<String> discoveredScreens, Map<String, String> ownedScreens, Map<String, JsonNode> changedScreens) {
+		synchronized (screenCache) {
+			for (JsonNode device : devices) {
+				String screenName = getScreenName(device);
+				if (screenName == null) {
+					continue;
+				}
+				discoveredScreens.add(screenName);
+				if (!shardAssignment.owns(screenName)) {
+					continue;
+				}
+				String screenId = getScreenId(device);
+				if (screenReconciler.isChanged(screenName, screenId)) {
+					changedScreens.put(screenName, device);
+					ownedScreens.put(screenName, screenId);
+				} else if (cacheScreen(screenName, device)) {
+					ownedScreens.put(screenName, screenId);
+				}
 			}
-			map.putAll(value);
-			cachedData.put(deviceName, map);
 		}
 	}
 
 	/**
-	 * Remove unknown aggregated device in cached
+	 * Applies the changes of a discovery to the cache: renamed screens are moved with their data to their new names,
+	 * and the screens changed by the discovery are cached. Added screens are queued to be fetched right away,
+	 * unless this is the first discovery, whose screens are all fetched by the next monitoring cycle.
+	 * Removed screens are not dropped here, the cache evicts them once they are missing from enough discoveries.
+	 *
+	 * @param changes screens added, removed and renamed by the discovery
+	 * @param changedScreens screen assets of the renamed screens and of the screens taking over a name keyed by name
+	 * @param initialDiscovery whether no screen was known before the discovery
 	 */
-	private void updateAggregatedDevice() {
-		List<String> unknownAggregatedDevice = cachedData.keySet().stream().filter(screenName -> !deviceScreenName.contains(screenName)).collect(Collectors.toList());
-		unknownAggregatedDevice.forEach(cachedData::remove);
-		aggregatedDeviceList.clear();
+	private void applyDiscoveryChanges(DiscoveryChanges changes, Map<String, JsonNode> changedScreens, boolean initialDiscovery) {
+		if (changes.isEmpty()) {
+			return;
+		}
+		List<String> rejectedScreens = new ArrayList<>();
+		synchronized (screenCache) {
+			screenCache.rename(changes.getRenamed());
+			changes.getRenamed().forEach(this::renameScreenData);
+			for (String screenName : changes.getRemoved()) {
+				if (changedScreens.containsKey(screenName)) {
+					// another screen took over the name, the data of the removed screen must not be reported for it
+					dropScreenData(screenName);
+				}
+			}
+			changedScreens.forEach((screenName, device) -> {
+				Map<String, JsonNode> assets = new HashMap<>();
+				assets.put(ProfileType.NOVASTAR_SCREEN.getValue(), objectMapper.createArrayNode().add(device));
+				boolean cached = changes.getRenamed().containsValue(screenName) ? screenCache.update(screenName, assets) : screenCache.replace(screenName, assets);
+				if (cached || screenCache.put(screenName, assets)) {
+					screenCache.markSeen(screenName);
+					rollUpScreen(screenName, assets);
+				} else {
+					rejectedScreens.add(screenName);
+				}
+			});
+		}
+		screenReconciler.remove(rejectedScreens);
+		if (!initialDiscovery) {
+			changes.getAdded().stream().filter(screenName -> !rejectedScreens.contains(screenName)).forEach(addedScreens::add);
+		}
+		if (logger.isInfoEnabled()) {
+			logger.info(String.format("Discovery changed the screens: %s", changes));
+		}
+		if (logger.isDebugEnabled()) {
+			changes.getAdded().forEach(screenName -> logger.debug(String.format("Screen %s added", screenName)));
+			changes.getRemoved().forEach(screenName -> logger.debug(String.format("Screen %s removed", screenName)));
+			changes.getRenamed().forEach((screenName, newScreenName) -> logger.debug(String.format("Screen %s renamed to %s", screenName, newScreenName)));
+		}
+	}
+
+	/**
+	 * Moves the refresh time, stale flag, demand, health and telemetry of a renamed screen to its new name
+	 *
+	 * @param screenName previous name of the screen
+	 * @param newScreenName new name of the screen
+	 */
+	private void renameScreenData(String screenName, String newScreenName) {
+		Long lastUpdated = screenLastUpdated.remove(screenName);
+		if (lastUpdated == null) {
+			screenLastUpdated.remove(newScreenName);
+		} else {
+			screenLastUpdated.put(newScreenName, lastUpdated);
+		}
+		if (staleScreens.remove(screenName)) {
+			staleScreens.add(newScreenName);
+		} else {
+			staleScreens.remove(newScreenName);
+		}
+		screenDemand.rename(screenName, newScreenName);
+		fleetHealth.rename(screenName, newScreenName);
+		if (telemetryHistory != null) {
+			telemetryHistory.rename(screenName, newScreenName);
+		}
+	}
+
+	/**
+	 * Drops the refresh time, stale flag, demand, health and telemetry of a screen
+	 *
+	 * @param screenName name of the screen
+	 */
+	private void dropScreenData(String screenName) {
+		screenLastUpdated.remove(screenName);
+		staleScreens.remove(screenName);
+		screenDemand.remove(Collections.singleton(screenName));
+		fleetHealth.remove(screenName);
+		if (telemetryHistory != null) {
+			telemetryHistory.remove(screenName);
+		}
+	}
+
+	/**
+	 * Registers a screen from the screen asset list in the cache if it belongs to the shard of this instance
+	 *
+	 * @param device screen asset of the device
+	 */
+	void registerScreen(JsonNode device) {
+		String screenName = getScreenName(device);
+		if (screenName != null && shardAssignment.owns(screenName) && cacheScreen(screenName, device)) {
+			screenReconciler.add(screenName, getScreenId(device));
+		}
+	}
+
+	/**
+	 * Retrieves the name of the screen of a screen asset
+	 *
+	 * @param device screen asset of the device
+	 * @return name of the screen, or null if the asset has no screen name
+	 */
+	private String getScreenName(JsonNode device) {
+		JsonNode metadata = device.get(NanoSuiteConstant.METADATA);
+		if (metadata == null) return null;
+
+		JsonNode screenName = metadata.get(NanoSuiteConstant.NOVASTAR_SCREEN_NAME);
+		if (screenName == null || screenName.isNull()) return null;
+
+		return screenName.asText();
+	}
+
+	/**
+	 * Retrieves the novastarScreen id of a screen asset
+	 *
+	 * @param device screen asset of the device
+	 * @return id of the screen, or null if the asset has no screen id
+	 */
+	private String getScreenId(JsonNode device) {
+		JsonNode screenId = device.path(NanoSuiteConstant.METADATA).get(NanoSuiteConstant.NOVASTAR_SCREEN_ID);
+		return screenId == null || screenId.isNull() ? null : screenId.asText();
+	}
+
+	/**
+	 * Stores the screen asset of a device in the cache and marks the screen as seen in the current discovery
+	 *
+	 * @param screenName name of the screen
+	 * @param device screen asset of the device
+	 * @return true if the screen is cached, false if a cache cap prevents it
+	 */
+	private boolean cacheScreen(String screenName, JsonNode device) {
+		Map<String, JsonNode> assets = new HashMap<>();
+		assets.put(ProfileType.NOVASTAR_SCREEN.getValue(), objectMapper.createArrayNode().add(device));
+		if (!screenCache.put(screenName, assets)) {
+			return false;
+		}
+		screenCache.markSeen(screenName);
+		rollUpScreen(screenName, assets);
+		return true;
+	}
+
+	/**
+	 * Update list assets of specific device, if the device is still cached
+	 *
+	 * @param deviceName name of the device
+	 * @param value list assets of device
+	 * @return true if the device is cached
+	 */
+	boolean updateCacheData(String deviceName, Map<String, JsonNode> value) {
+		return screenCache.update(deviceName, value);
+	}
+
+	/**
+	 * Drops the refresh times and telemetry of the screens evicted from the cache
+	 *
+	 * @param evictedScreens names of the evicted screens
+	 */
+	private void removeEvictedScreens(List<String> evictedScreens) {
+		evictedScreens.forEach(this::dropScreenData);
+		if (!evictedScreens.isEmpty() && logger.isDebugEnabled()) {
+			logger.debug(String.format("Evicted %s screens missing from the last %s discovery cycles", evictedScreens.size(), screenCache.getEvictionCycles()));
+		}
 	}
 
 	/**
-	 * Waits for the completion of all futures in the provided list and then shuts down the executor service.
+	 * Waits for the completion of all futures in the provided map, or until the deadline, and then shuts down the executor service.
+	 * The executor service is shut down without waiting, so the tasks still running finish in the background.
 	 *
-	 * @param futures The list of Future objects representing asynchronous tasks.
+	 * @param futures Future objects representing asynchronous tasks, keyed by the name of their screen.
 	 * @param executorService The ExecutorService to be shut down.
+	 * @param deadline time to stop waiting as {@link System#nanoTime()}, or 0 to wait for every future
+	 * @return names of the screens whose future was not done by the deadline
 	 */
-	private void waitForFutures(List<Future<?>> futures, ExecutorService executorService) {
-		for (Future<?> future : futures) {
+	private List<String> waitForFutures(Map<String, Future<?>> futures, ExecutorService executorService, long deadline) {
+		List<String> pending = new ArrayList<>();
+		for (Map.Entry<String, Future<?>> future : futures.entrySet()) {
 			try {
-				future.get();
+				if (deadline == 0) {
+					future.getValue().get();
+				} else if (pending.isEmpty()) {
+					future.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				} else if (!future.getValue().isDone()) {
+					pending.add(future.getKey());
+				}
+			} catch (TimeoutException e) {
+				pending.add(future.getKey());
 			} catch (Exception e) {
 				logger.error("An exception occurred while waiting for a future to complete.", e);
 			}
 		}
 		executorService.shutdown();
+		return pending;
 	}
 
 	/**
@@ -694,29 +2804,119 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 		return String.format(NanoSuiteConstant.FILTER_ASSET_URL, profileType.getValue(), screenName);
 	}
 
+	/**
+	 * Retrieves the property schema shared by the screens with the same number of assets of each profile
+	 *
+	 * @param deviceInfos cached assets of the screen
+	 * @return property schema of the screen
+	 */
+	private PropertySchema getPropertySchema(Map<String, JsonNode> deviceInfos) {
+		// each profile gets an equal share of the bits, screens with more assets than fit share the schema of the largest count
+		int bits = Long.SIZE / profileTypes.length;
+		long maxCount = (1L << bits) - 1;
+		long shape = 0;
+		for (ProfileType profileType : profileTypes) {
+			JsonNode assets = deviceInfos.get(profileType.getValue());
+			shape = (shape << bits) | Math.min(assets == null ? 0 : assets.size(), maxCount);
+		}
+		PropertySchema schema = propertySchemas.get(shape);
+		return schema != null ? schema : propertySchemas.computeIfAbsent(shape, key -> new PropertySchema());
+	}
+
 	/**
 	 * Clones and populates a new list of aggregated devices with mapped monitoring properties.
 	 *
 	 * @return A new list of {@link AggregatedDevice} objects with mapped monitoring properties.
 	 */
-	private List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
-		synchronized (cachedData) {
-			updateAggregatedDevice();
-			cachedData.forEach((deviceName, info) -> {
+	List<AggregatedDevice> cloneAndPopulateAggregatedDeviceList() {
+		long buildStartTime = System.nanoTime();
+		synchronized (screenCache) {
+			aggregatedDeviceList.clear();
+			Map<String, Map<String, String>> currentProperties = new HashMap<>();
+			Map<String, PropertyDelta> currentDeltas = new HashMap<>();
+			// properties are populated into a scratch map, and only their values are retained in a compact map per device
+			Map<String, String> stats = new HashMap<>();
+			screenCache.asMap().forEach((deviceName, info) -> {
 				AggregatedDevice aggregatedDevice = new AggregatedDevice();
 				aggregatedDevice.setDeviceModel(NanoSuiteConstant.DEVICE_MODEL);
 				aggregatedDevice.setDeviceName(deviceName);
 				aggregatedDevice.setDeviceOnline(false);
 
-				Map<String, String> stats = new HashMap<>();
+				stats.clear();
 				populateMonitoringProperties(stats, info, aggregatedDevice);
-				aggregatedDevice.setProperties(stats);
+				stats.put(NanoSuiteConstant.DATA_STALE, String.valueOf(staleScreens.contains(deviceName)));
+				populateDataAgeProperties(stats, deviceName);
+				Map<String, String> properties = getPropertySchema(info).compact(deviceName, stats, stringPool);
+				aggregatedDevice.setProperties(properties);
 				aggregatedDeviceList.add(aggregatedDevice);
+
+				String deviceKey = aggregatedDevice.getDeviceId() == null ? deviceName : aggregatedDevice.getDeviceId();
+				currentProperties.put(deviceKey, properties);
+				currentDeltas.put(deviceKey, PropertyDelta.between(previousProperties.get(deviceKey), properties, NanoSuiteCommunicator::isVolatileProperty));
 			});
+			previousProperties = currentProperties;
+			propertyDeltas = currentDeltas;
+		}
+		cycleTelemetry.recordDeviceBuild(System.nanoTime() - buildStartTime);
+		if (logger.isDebugEnabled()) {
+			int changedDevices = 0;
+			int changeCount = 0;
+			for (PropertyDelta delta : propertyDeltas.values()) {
+				if (!delta.isEmpty()) {
+					changedDevices++;
+					changeCount += delta.getChangeCount();
+				}
+			}
+			logger.debug(String.format("Populated %s aggregated devices, %s devices changed with %s property changes", aggregatedDeviceList.size(), changedDevices, changeCount));
 		}
 		return aggregatedDeviceList;
 	}
 
+	/**
+	 * Check whether a property changes on every populated device list regardless of the data of the device,
+	 * as the data age properties and the rolling properties of the tracked receiver metrics do
+	 *
+	 * @param key property name
+	 * @return true if the property is left out of the property deltas
+	 */
+	private static boolean isVolatileProperty(String key) {
+		if (NanoSuiteConstant.LAST_UPDATED.equals(key) || NanoSuiteConstant.DATA_AGE_SECONDS.equals(key)) {
+			return true;
+		}
+		if (!key.endsWith(NanoSuiteConstant.MINUTE_SUFFIX)) {
+			return false;
+		}
+		// rolling properties end with the statistic and the window in minutes, such as Min15m
+		int end = key.length() - NanoSuiteConstant.MINUTE_SUFFIX.length();
+		int windowStart = end;
+		while (windowStart > 0 && Character.isDigit(key.charAt(windowStart - 1))) {
+			windowStart--;
+		}
+		if (windowStart == end) {
+			return false;
+		}
+		return key.startsWith(NanoSuiteConstant.ROLLING_MIN, windowStart - NanoSuiteConstant.ROLLING_MIN.length())
+				|| key.startsWith(NanoSuiteConstant.ROLLING_MAX, windowStart - NanoSuiteConstant.ROLLING_MAX.length())
+				|| key.startsWith(NanoSuiteConstant.ROLLING_AVERAGE, windowStart - NanoSuiteConstant.ROLLING_AVERAGE.length());
+	}
+
+	/**
+	 * Populates the last refresh time and the age in seconds of the data of a screen
+	 *
+	 * @param stats map to store monitor properties.
+	 * @param deviceName name of the device
+	 */
+	private void populateDataAgeProperties(Map<String, String> stats, String deviceName) {
+		Long lastUpdated = screenLastUpdated.get(deviceName);
+		if (lastUpdated == null) {
+			stats.put(NanoSuiteConstant.LAST_UPDATED, NanoSuiteConstant.NONE);
+			stats.put(NanoSuiteConstant.DATA_AGE_SECONDS, NanoSuiteConstant.NONE);
+			return;
+		}
+		stats.put(NanoSuiteConstant.LAST_UPDATED, Instant.ofEpochMilli(lastUpdated).toString());
+		stats.put(NanoSuiteConstant.DATA_AGE_SECONDS, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - lastUpdated)));
+	}
+
 	/**
 	 * Populate monitoring properties including general device info, device assets.
 	 *
@@ -724,13 +2924,13 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 	 * @param deviceInfos cache data to contain aggregated device information.
 	 * @param aggregatedDevice aggregated device information.
 	 */
-	private void populateMonitoringProperties(Map<String, String> stats, Map<String, JsonNode> deviceInfos, AggregatedDevice aggregatedDevice) {
+	void populateMonitoringProperties(Map<String, String> stats, Map<String, JsonNode> deviceInfos, AggregatedDevice aggregatedDevice) {
 		try {
 			for (Map.Entry<String, JsonNode> deviceInfo : deviceInfos.entrySet()) {
 				JsonNode deviceNode = deviceInfo.getValue();
 
 				if (deviceNode == null || !deviceNode.isArray()) continue;
-				List<AggregatedDeviceInfo> devices = objectMapper.readerFor(new TypeReference<List<AggregatedDeviceInfo>>() {}).readValue(deviceNode);
+				List<AggregatedDeviceInfo> devices = deviceInfoReader.readValue(deviceNode);
 
 				for (AggregatedDeviceInfo device : devices) {
 					if (device != null) {
@@ -751,28 +2951,25 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 								switch (profileType) {
 									case NOVASTAR_RECEIVER:
 										ReceiverMetric receiverMetric = ReceiverMetric.getByValue(metric.getMetricType());
-										String receiverAssetGroup = metricGroup + receiverMetric.getName();
+										if (receiverMetric == null) break;
 
-										String value = checkNullOrEmptyValue(metric.getLastValue());
-										stats.put(receiverAssetGroup, NumberUtils.isCreatable(value) ? roundDoubleValue(value): mappingValueForMetric(receiverMetric.getName(), value));
+										String receiverAssetGroup = metricGroup + receiverMetric.getName();
+										stats.put(receiverAssetGroup, MetricNormalizer.of(receiverMetric).normalize(metric.getLastValue()));
+										if (trackedReceiverMetrics.contains(receiverMetric)) {
+											populateRollingProperties(stats, aggregatedDevice.getDeviceName(), receiverAssetGroup);
+										}
 										break;
 									case NOVASTAR_SENDER:
 										SenderMetric senderMetric = SenderMetric.getByValue(metric.getMetricType());
+										if (senderMetric == null) break;
+
 										String senderAssetGroup = metricGroup + senderMetric.getName();
-										stats.put(senderAssetGroup, checkNullOrEmptyValue(mappingValueForMetric(senderMetric.getName(), metric.getLastValue())));
+										stats.put(senderAssetGroup, MetricNormalizer.of(senderMetric).normalize(metric.getLastValue()));
 										break;
 									case NOVASTAR_SCREEN:
 										String screenMetric = ScreenMetric.getByValue(metric.getMetricType());
-										String screenAssetGroup = metricGroup + screenMetric;
 										if (screenMetric != null) {
-											String metricValue = checkNullOrEmptyValue(metric.getLastValue());
-											if (NanoSuiteConstant.NONE.equals(metricValue)) {
-												stats.put(screenAssetGroup, NanoSuiteConstant.NONE);
-												break;
-											}
-
-											HealthStateStatus status = HealthStateStatus.getByValue(Integer.parseInt(metric.getLastValue()));
-											stats.put(screenAssetGroup, status == null ? NanoSuiteConstant.NONE : checkNullOrEmptyValue(status.getName()));
+											stats.put(metricGroup + screenMetric, MetricNormalizer.HEALTH_STATE.normalize(metric.getLastValue()));
 										}
 										break;
 									default:
@@ -785,15 +2982,8 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 						// overall health state of each asset group
 						DeviceMetric overallHealthState = device.getOverallHealthState();
 						if (overallHealthState != null) {
-							String lastValue = checkNullOrEmptyValue(overallHealthState.getLastValue());
-							String group = metricGroup + NanoSuiteConstant.HEALTHSTATE;
-							if (NanoSuiteConstant.NONE.equals(lastValue)) {
-								stats.put(group, NanoSuiteConstant.NONE);
-								continue;
-							}
-
-							HealthStateStatus lastHealth = HealthStateStatus.getByValue(Integer.parseInt(overallHealthState.getLastValue()));
-							stats.put(group, lastHealth == null ? NanoSuiteConstant.NONE : checkNullOrEmptyValue(lastHealth.getName()));
+							HealthStateStatus lastHealth = MetricNormalizer.parseHealthState(overallHealthState.getLastValue());
+							stats.put(metricGroup + NanoSuiteConstant.HEALTHSTATE, lastHealth == null ? NanoSuiteConstant.NONE : lastHealth.getName());
 							if (lastHealth != null && lastHealth != HealthStateStatus.ERROR) {
 								aggregatedDevice.setDeviceOnline(true);
 							}
@@ -865,62 +3055,111 @@ public class NanoSuiteCommunicator extends RestCommunicator implements Aggregato
 	}
 
 	/**
-	 * Rounds a double value
+	 * Formats a double value the same way as the numeric metric values, keeping two decimals at most
+	 *
+	 * @param value the double value to be formatted
+	 * @return the formatted value, or "None" if the value is not a number
+	 */
+	private String formatDoubleValue(double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			return NanoSuiteConstant.NONE;
+		}
+		double rounded = Math.round(value * 100) / 100.0;
+		return rounded == (long) rounded ? String.valueOf((long) rounded) : String.valueOf(rounded);
+	}
+
+	/**
+	 * Parses a positive integer configuration value
 	 *
-	 * @param value the string representation of the double value to be rounded
-	 * @return the rounded long value as a string, or the original value if it is "NONE" or cannot be parsed as a double
+	 * @param value configured value
+	 * @param defaultValue value used if the configured value is empty, invalid or not positive
+	 * @return the parsed value or the default value
 	 */
-	private String roundDoubleValue(String value) {
-		if (NanoSuiteConstant.NONE.equalsIgnoreCase(value)) {
-			return value;
+	private int parsePositiveInteger(String value, int defaultValue) {
+		if (StringUtils.isNullOrEmpty(value)) {
+			return defaultValue;
 		}
 		try {
-			double doubleNumber = Double.parseDouble(value);
-			return doubleNumber == (long) doubleNumber ? String.valueOf((long) doubleNumber) : String.valueOf(doubleNumber);
+			int result = Integer.parseInt(value.trim());
+			return result > 0 ? result : defaultValue;
 		} catch (NumberFormatException e) {
-			return NanoSuiteConstant.NONE;
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Parses {@link #telemetryWindows} into rolling windows in minutes, invalid entries are ignored
+	 *
+	 * @return rolling windows in minutes, empty if {@link #telemetryWindows} is not set
+	 */
+	private int[] parseRollingWindows() {
+		if (StringUtils.isNullOrEmpty(telemetryWindows)) {
+			return new int[0];
 		}
+		return Arrays.stream(telemetryWindows.split(NanoSuiteConstant.COMMA))
+				.mapToInt(window -> parsePositiveInteger(window, -1))
+				.filter(window -> window > 0)
+				.distinct()
+				.toArray();
 	}
 
 	/**
 	 * Gets the default number of threads based on the provided input or a default constant value.
+	 * The result never exceeds {@link #getMaxNumberOfThreads()}.
 	 *
 	 * @return The default number of threads.
 	 */
-	private int getDefaultNumberOfThread() {
+	int getDefaultNumberOfThread() {
+		int maxThreads = getMaxNumberOfThreads();
 		int result;
 		try {
 			if (StringUtils.isNullOrEmpty(numberThreads)) {
 				result = NanoSuiteConstant.DEFAULT_NUMBER_THREAD;
+			} else if (NanoSuiteConstant.AUTO.equalsIgnoreCase(numberThreads.trim())) {
+				result = calculateNumberOfThreads(screenCache.size(), cycleTelemetry.getLastAverageFetchLatency(), maxThreads);
 			} else {
-				result = Integer.parseInt(numberThreads);
-				if (result < 0 || result >= NanoSuiteConstant.DEFAULT_NUMBER_THREAD) {
+				result = Integer.parseInt(numberThreads.trim());
+				if (result <= 0) {
 					result = NanoSuiteConstant.DEFAULT_NUMBER_THREAD;
 				}
 			}
 		} catch (Exception e) {
 			result = NanoSuiteConstant.DEFAULT_NUMBER_THREAD;
 		}
-		return result;
+		return Math.min(result, maxThreads);
 	}
 
 	/**
-	 * Mapping value to display for specific metric
+	 * Sizes the number of threads so that all screens can be fetched within {@link #targetCycleTime}.
+	 * Each thread sends one request at a time, so the cycle needs requests * latency / target cycle time threads.
+	 * The result is bounded by the number of screens and by {@link NanoSuiteConstant#THREADS_PER_PROCESSOR} threads per available processor,
+	 * since parsing the responses still needs CPU time.
 	 *
-	 * @param metricName name of metric
+	 * @param screens number of screens to fetch
+	 * @param latency average latency in milliseconds of a filter asset request, or 0 if none was observed yet
+	 * @param maxThreads upper bound of the number of threads
+	 * @return number of threads
 	 */
-	private String mappingValueForMetric(String metricName, String value) {
-		MetricMappingValue mappingValue = MetricMappingValue.getByName(metricName);
-		if (mappingValue == null) return value;
-		String propertyValue = value;
-
-		if (NanoSuiteConstant.TRUE.equals(propertyValue)) {
-			propertyValue = mappingValue.getEnableValue();
+	int calculateNumberOfThreads(int screens, long latency, int maxThreads) {
+		if (screens == 0) {
+			return 1;
 		}
-		if (NanoSuiteConstant.FALSE.equals(propertyValue)) {
-			propertyValue = mappingValue.getDisableValue();
+		int result = NanoSuiteConstant.DEFAULT_NUMBER_THREAD;
+		if (latency > 0) {
+			long requests = (long) screens * (ProfileType.values().length - 1);
+			long targetTime = TimeUnit.SECONDS.toMillis(parsePositiveInteger(targetCycleTime, NanoSuiteConstant.DEFAULT_TARGET_CYCLE_TIME));
+			result = (int) Math.min(Integer.MAX_VALUE, (requests * latency + targetTime - 1) / targetTime);
 		}
+		int processorLimit = Runtime.getRuntime().availableProcessors() * NanoSuiteConstant.THREADS_PER_PROCESSOR;
+		return Math.max(1, Math.min(result, Math.min(screens, Math.min(processorLimit, maxThreads))));
+	}
 
-		return propertyValue;
+	/**
+	 * Gets the upper bound of the number of threads from {@link #maxNumberThreads}
+	 *
+	 * @return upper bound of the number of threads
+	 */
+	private int getMaxNumberOfThreads() {
+		return parsePositiveInteger(maxNumberThreads, NanoSuiteConstant.DEFAULT_MAX_NUMBER_THREAD);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * CacheSnapshotStore persists the last complete fleet cache to a gzip compressed JSON file, so that a restarted adapter
+ * can serve data before its first monitoring cycle finishes.
+ * The file is written next to its final location and then moved over it, so a crash during the write never leaves a
+ * truncated snapshot behind.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CacheSnapshotStore {
+	/**
+	 * Version of the snapshot layout, snapshots written with another version are ignored
+	 */
+	public static final int SNAPSHOT_VERSION = 1;
+
+	private static final String VERSION = "version";
+	private static final String HOST = "host";
+	private static final String SAVED_AT = "savedAt";
+	private static final String SCREENS = "screens";
+	private static final String TEMP_SUFFIX = ".tmp";
+
+	private final ObjectMapper objectMapper;
+	private final Path snapshotFile;
+	private final String host;
+	private volatile long savedAt;
+
+	/**
+	 * Constructs a new instance of CacheSnapshotStore
+	 *
+	 * @param objectMapper mapper used to write and read the snapshot
+	 * @param snapshotFile location of the snapshot file
+	 * @param host host the cached data belongs to
+	 */
+	public CacheSnapshotStore(ObjectMapper objectMapper, Path snapshotFile, String host) {
+		this.objectMapper = objectMapper;
+		this.snapshotFile = snapshotFile;
+		this.host = host;
+	}
+
+	/**
+	 * Retrieves {@link #snapshotFile}
+	 *
+	 * @return value of {@link #snapshotFile}
+	 */
+	public Path getSnapshotFile() {
+		return snapshotFile;
+	}
+
+	/**
+	 * Retrieves {@link #savedAt}
+	 *
+	 * @return epoch milliseconds the last loaded snapshot was saved at, or 0 if no snapshot was loaded
+	 */
+	public long getSavedAt() {
+		return savedAt;
+	}
+
+	/**
+	 * Writes the given cache to the snapshot file, replacing the previous snapshot atomically
+	 *
+	 * @param screens cache data keyed by screen name, then by profile type
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void save(Map<String, Map<String, JsonNode>> screens) throws IOException {
+		Path directory = snapshotFile.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path tempFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), TEMP_SUFFIX);
+		try {
+			try (FileOutputStream fileOutputStream = new FileOutputStream(tempFile.toFile())) {
+				GZIPOutputStream gzipOutputStream = new GZIPOutputStream(new BufferedOutputStream(fileOutputStream));
+				try (JsonGenerator generator = objectMapper.getFactory().createGenerator(gzipOutputStream)) {
+					generator.writeStartObject();
+					generator.writeNumberField(VERSION, SNAPSHOT_VERSION);
+					generator.writeStringField(HOST, host);
+					generator.writeNumberField(SAVED_AT, System.currentTimeMillis());
+					generator.writeObjectFieldStart(SCREENS);
+					for (Map.Entry<String, Map<String, JsonNode>> screen : screens.entrySet()) {
+						generator.writeObjectFieldStart(screen.getKey());
+						for (Map.Entry<String, JsonNode> asset : screen.getValue().entrySet()) {
+							generator.writeFieldName(asset.getKey());
+							generator.writeTree(asset.getValue());
+						}
+						generator.writeEndObject();
+					}
+					generator.writeEndObject();
+					generator.writeEndObject();
+					generator.flush();
+					gzipOutputStream.finish();
+					gzipOutputStream.flush();
+					fileOutputStream.getFD().sync();
+				}
+			}
+			try {
+				Files.move(tempFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Reads the snapshot file
+	 *
+	 * @return cache data keyed by screen name, then by profile type, or an empty map if there is no usable snapshot
+	 * @throws IOException if the snapshot exists but cannot be read
+	 */
+	public Map<String, Map<String, JsonNode>> load() throws IOException {
+		if (!Files.isRegularFile(snapshotFile)) {
+			return Collections.emptyMap();
+		}
+		JsonNode root;
+		try (InputStream inputStream = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+			root = objectMapper.readTree(inputStream);
+		}
+		if (root == null || root.path(VERSION).asInt() != SNAPSHOT_VERSION || !host.equals(root.path(HOST).asText())) {
+			return Collections.emptyMap();
+		}
+		savedAt = root.path(SAVED_AT).asLong();
+		JsonNode screensNode = root.path(SCREENS);
+		Map<String, Map<String, JsonNode>> screens = new HashMap<>();
+		Iterator<Map.Entry<String, JsonNode>> screenIterator = screensNode.fields();
+		while (screenIterator.hasNext()) {
+			Map.Entry<String, JsonNode> screen = screenIterator.next();
+			Map<String, JsonNode> assets = new HashMap<>();
+			screen.getValue().fields().forEachRemaining(asset -> assets.put(asset.getKey(), asset.getValue()));
+			screens.put(screen.getKey(), assets);
+		}
+		return screens;
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * CanonicalJsonNodeFactory creates the text nodes of parsed JSON trees from a {@link StringPool}, so the text values
+ * repeated across assets are held once in the cached trees. Field names are already interned by Jackson.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CanonicalJsonNodeFactory extends JsonNodeFactory {
+	private static final long serialVersionUID = 1L;
+
+	private final transient StringPool stringPool;
+
+	/**
+	 * Constructs a new instance of CanonicalJsonNodeFactory
+	 *
+	 * @param stringPool pool the text values are canonicalized with
+	 */
+	public CanonicalJsonNodeFactory(StringPool stringPool) {
+		this.stringPool = stringPool;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public TextNode textNode(String text) {
+		return super.textNode(stringPool.canonicalize(text));
+	}
+}
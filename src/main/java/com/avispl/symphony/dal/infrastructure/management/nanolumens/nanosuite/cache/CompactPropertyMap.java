@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * CompactPropertyMap holds the properties of an aggregated device as an array of values indexed by a shared
+ * {@link PropertySchema}, instead of a hash table entry per property. Properties that are not part of the schema are
+ * kept in a small overflow map. Entries of the slots are only materialized while the map is iterated.
+ * Null values are not supported, a property without value is absent.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CompactPropertyMap extends AbstractMap<String, String> {
+	private final PropertySchema schema;
+	private String[] values;
+	private Map<String, String> overflow;
+	private int slotSize;
+
+	/**
+	 * Constructs a new instance of CompactPropertyMap
+	 *
+	 * @param schema schema the values are indexed by
+	 * @param values empty values indexed by slot
+	 */
+	CompactPropertyMap(PropertySchema schema, String[] values) {
+		this.schema = schema;
+		this.values = values;
+	}
+
+	/**
+	 * Retrieves {@link #schema}
+	 *
+	 * @return value of {@link #schema}
+	 */
+	public PropertySchema getSchema() {
+		return schema;
+	}
+
+	/**
+	 * Retrieves the number of slots this map has a value array entry for
+	 *
+	 * @return number of slots, which can be lower than the size of the schema
+	 */
+	public int slotCount() {
+		return values.length;
+	}
+
+	/**
+	 * Retrieves the value of a slot
+	 *
+	 * @param slot slot index
+	 * @return value of the slot, or null if the property is absent
+	 */
+	public String valueAt(int slot) {
+		return slot < values.length ? values[slot] : null;
+	}
+
+	/**
+	 * Retrieves the properties that are not part of the schema
+	 *
+	 * @return unmodifiable view of the overflow properties
+	 */
+	public Map<String, String> getOverflow() {
+		return overflow == null ? Collections.emptyMap() : Collections.unmodifiableMap(overflow);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size() {
+		return slotSize + (overflow == null ? 0 : overflow.size());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String get(Object key) {
+		int slot = schema.slotOf(key);
+		if (slot >= 0) {
+			String value = valueAt(slot);
+			if (value != null) {
+				return value;
+			}
+		}
+		return overflow == null ? null : overflow.get(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String put(String key, String value) {
+		if (value == null) {
+			return remove(key);
+		}
+		return put(key, value, schema.slotOf(key));
+	}
+
+	/**
+	 * Stores a value in a slot, or in the overflow if the slot is -1
+	 *
+	 * @param key property name
+	 * @param value property value
+	 * @param slot slot of the property in the schema, or -1
+	 * @return previous value of the property
+	 */
+	String put(String key, String value, int slot) {
+		if (slot < 0) {
+			if (overflow == null) {
+				overflow = new HashMap<>();
+			}
+			return overflow.put(key, value);
+		}
+		// the property may have been stored in the overflow before it became a slot
+		String previous = overflow == null ? null : overflow.remove(key);
+		if (slot >= values.length) {
+			values = Arrays.copyOf(values, Math.max(schema.size(), slot + 1));
+		}
+		if (values[slot] == null) {
+			slotSize++;
+		} else {
+			previous = values[slot];
+		}
+		values[slot] = value;
+		return previous;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String remove(Object key) {
+		int slot = schema.slotOf(key);
+		if (slot >= 0 && slot < values.length && values[slot] != null) {
+			String previous = values[slot];
+			values[slot] = null;
+			slotSize--;
+			return previous;
+		}
+		return overflow == null ? null : overflow.remove(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(values, null);
+		slotSize = 0;
+		overflow = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		return new AbstractSet<Entry<String, String>>() {
+			@Override
+			public Iterator<Entry<String, String>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return CompactPropertyMap.this.size();
+			}
+		};
+	}
+
+	/**
+	 * Iterator over the slots holding a value, then over the overflow
+	 */
+	private class EntryIterator implements Iterator<Entry<String, String>> {
+		private int next = advance(0);
+		private int current = -1;
+		private Iterator<Entry<String, String>> overflowIterator;
+		private boolean currentInOverflow;
+
+		private int advance(int slot) {
+			while (slot < values.length && values[slot] == null) {
+				slot++;
+			}
+			return slot;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (next < values.length) {
+				return true;
+			}
+			if (overflowIterator == null && overflow != null) {
+				overflowIterator = overflow.entrySet().iterator();
+			}
+			return overflowIterator != null && overflowIterator.hasNext();
+		}
+
+		@Override
+		public Entry<String, String> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			if (next < values.length) {
+				current = next;
+				currentInOverflow = false;
+				next = advance(next + 1);
+				return new SimpleImmutableEntry<>(schema.keyAt(current), values[current]);
+			}
+			current = -1;
+			currentInOverflow = true;
+			return overflowIterator.next();
+		}
+
+		@Override
+		public void remove() {
+			if (currentInOverflow) {
+				overflowIterator.remove();
+				currentInOverflow = false;
+				return;
+			}
+			if (current < 0 || values[current] == null) {
+				throw new IllegalStateException();
+			}
+			values[current] = null;
+			slotSize--;
+			current = -1;
+		}
+	}
+}
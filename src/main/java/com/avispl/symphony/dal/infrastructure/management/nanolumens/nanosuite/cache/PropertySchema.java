@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PropertySchema maps the property names shared by the aggregated devices of the same shape to slot indices, so each
+ * device only stores its values in a {@link CompactPropertyMap}. A property name becomes a slot once it is seen on a
+ * second device, names unique to a device (e.g. prefixed by the screen display name) stay in the overflow of its map,
+ * however many times that device is built.
+ * Slots are only ever added, a device built before a new slot appeared simply has no value for it.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PropertySchema {
+	/**
+	 * Maximum number of property names seen on a single device that are remembered, the least recently seen one is dropped
+	 * when it is reached
+	 */
+	static final int MAX_CANDIDATES = 4096;
+
+	private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+	/**
+	 * Property names not part of the schema yet, with the device they were first seen on, in least recently seen first order
+	 */
+	private final Map<String, String> candidates = new LinkedHashMap<String, String>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+			return size() > MAX_CANDIDATES;
+		}
+	};
+	private volatile String[] keys = new String[0];
+
+	/**
+	 * Retrieves the slot of a property
+	 *
+	 * @param key property name
+	 * @return slot index, or -1 if the property is not part of the schema
+	 */
+	public int slotOf(Object key) {
+		Integer slot = slots.get(key);
+		return slot == null ? -1 : slot;
+	}
+
+	/**
+	 * Retrieves the slot of a property, adding it to the schema if it was already seen on another device
+	 *
+	 * @param key property name
+	 * @param deviceId id of the device the property is stored for
+	 * @return slot index, or -1 if the property is kept in the overflow
+	 */
+	public int admit(String key, String deviceId) {
+		Integer slot = slots.get(key);
+		if (slot != null) {
+			return slot;
+		}
+		synchronized (candidates) {
+			String firstDeviceId = candidates.putIfAbsent(key, deviceId);
+			if (firstDeviceId == null || firstDeviceId.equals(deviceId)) {
+				return -1;
+			}
+			candidates.remove(key);
+		}
+		return addSlot(key);
+	}
+
+	/**
+	 * Adds a property to the schema
+	 *
+	 * @param key property name
+	 * @return slot index
+	 */
+	private synchronized int addSlot(String key) {
+		Integer slot = slots.get(key);
+		if (slot == null) {
+			String[] current = keys;
+			String[] updated = Arrays.copyOf(current, current.length + 1);
+			updated[current.length] = key;
+			keys = updated;
+			slot = current.length;
+			slots.put(key, slot);
+		}
+		return slot;
+	}
+
+	/**
+	 * Retrieves the property name of a slot
+	 *
+	 * @param slot slot index
+	 * @return property name
+	 */
+	public String keyAt(int slot) {
+		return keys[slot];
+	}
+
+	/**
+	 * Retrieves the number of slots
+	 *
+	 * @return number of properties in the schema
+	 */
+	public int size() {
+		return keys.length;
+	}
+
+	/**
+	 * Stores a property map in a compact map of this schema
+	 *
+	 * @param deviceId id of the device the properties belong to
+	 * @param properties properties to store
+	 * @param stringPool pool the names and values are canonicalized with
+	 * @return compact map holding the properties
+	 */
+	public CompactPropertyMap compact(String deviceId, Map<String, String> properties, StringPool stringPool) {
+		CompactPropertyMap compact = new CompactPropertyMap(this, new String[size()]);
+		for (Map.Entry<String, String> entry : properties.entrySet()) {
+			if (entry.getValue() != null) {
+				String key = stringPool.canonicalize(entry.getKey());
+				compact.put(key, stringPool.canonicalize(entry.getValue()), admit(key, deviceId));
+			}
+		}
+		return compact;
+	}
+}
@@ -0,0 +1,427 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * ScreenCache holds the assets of each screen, keyed by screen name and then by profile type.
+ * Each screen remembers the last discovery cycle it was seen in, screens missing from {@link #getEvictionCycles()}
+ * consecutive discovery cycles are evicted with all their assets when a discovery cycle ends.
+ * The number of screens and their estimated footprint can be capped. Once a cap is reached, a new screen first takes the place
+ * of the screen missing from discovery for the longest time, and is rejected if every cached screen was seen in the last discovery.
+ * Assets of a cached screen are always updated, so the byte cap is only enforced when new screens are admitted.
+ * All methods are synchronized on the cache, which callers can also hold to iterate {@link #asMap()}.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ScreenCache {
+	private static final int OBJECT_HEADER_BYTES = 16;
+	private static final int STRING_BYTES = 40;
+	private static final int CONTAINER_BYTES = 64;
+	private static final int ENTRY_BYTES = 40;
+	private static final int ELEMENT_BYTES = 8;
+
+	private final Map<String, Map<String, JsonNode>> assets = new HashMap<>();
+	private final Map<String, Map<String, JsonNode>> assetsView = Collections.unmodifiableMap(assets);
+	private final Map<String, ScreenState> states = new HashMap<>();
+	private final List<String> pendingEvictions = new ArrayList<>();
+	private int maxScreens;
+	private long maxBytes;
+	private int evictionCycles = 1;
+	private long discoveryCycle;
+	private long estimatedBytes;
+	private long evictedScreens;
+	private long rejectedScreens;
+
+	/**
+	 * Sets the maximum number of cached screens
+	 *
+	 * @param maxScreens maximum number of screens, 0 for no limit
+	 */
+	public synchronized void setMaxScreens(int maxScreens) {
+		this.maxScreens = Math.max(0, maxScreens);
+	}
+
+	/**
+	 * Sets the maximum estimated footprint of the cached assets
+	 *
+	 * @param maxBytes maximum number of bytes, 0 for no limit
+	 */
+	public synchronized void setMaxBytes(long maxBytes) {
+		this.maxBytes = Math.max(0, maxBytes);
+	}
+
+	/**
+	 * Sets the number of consecutive discovery cycles a screen can be missing from before it is evicted
+	 *
+	 * @param evictionCycles number of discovery cycles, at least 1
+	 */
+	public synchronized void setEvictionCycles(int evictionCycles) {
+		this.evictionCycles = Math.max(1, evictionCycles);
+	}
+
+	/**
+	 * Retrieves {@link #evictionCycles}
+	 *
+	 * @return value of {@link #evictionCycles}
+	 */
+	public synchronized int getEvictionCycles() {
+		return evictionCycles;
+	}
+
+	/**
+	 * Adds assets to a screen, caching the screen if it is new and a cap does not prevent it.
+	 * A new screen counts as seen in the last discovery cycle until it is marked as seen with {@link #markSeen(String)}.
+	 *
+	 * @param screenName name of the screen
+	 * @param screenAssets assets keyed by profile type, replacing the cached assets of the same profile types
+	 * @return true if the screen is cached
+	 */
+	public synchronized boolean put(String screenName, Map<String, JsonNode> screenAssets) {
+		if (!assets.containsKey(screenName)) {
+			if (!makeRoom()) {
+				rejectedScreens++;
+				return false;
+			}
+			assets.put(screenName, new HashMap<>());
+			states.put(screenName, new ScreenState(discoveryCycle - 1));
+		}
+		putAssets(screenName, screenAssets);
+		return true;
+	}
+
+	/**
+	 * Adds assets to a screen only if it is already cached, so a screen evicted while its assets were fetched is not cached again
+	 *
+	 * @param screenName name of the screen
+	 * @param screenAssets assets keyed by profile type, replacing the cached assets of the same profile types
+	 * @return true if the screen is cached
+	 */
+	public synchronized boolean update(String screenName, Map<String, JsonNode> screenAssets) {
+		if (!assets.containsKey(screenName)) {
+			return false;
+		}
+		putAssets(screenName, screenAssets);
+		return true;
+	}
+
+	/**
+	 * Replaces all assets of a screen only if it is already cached, for a screen whose name was taken over by another screen
+	 *
+	 * @param screenName name of the screen
+	 * @param screenAssets assets keyed by profile type
+	 * @return true if the screen is cached
+	 */
+	public synchronized boolean replace(String screenName, Map<String, JsonNode> screenAssets) {
+		ScreenState state = states.get(screenName);
+		if (state == null) {
+			return false;
+		}
+		estimatedBytes -= state.getBytes();
+		state.assetBytes.clear();
+		assets.get(screenName).clear();
+		putAssets(screenName, screenAssets);
+		return true;
+	}
+
+	/**
+	 * Retrieves a cached asset of a screen
+	 *
+	 * @param screenName name of the screen
+	 * @param profileType profile type of the asset
+	 * @return cached asset, or null if the screen or the asset is not cached
+	 */
+	public synchronized JsonNode getAsset(String screenName, String profileType) {
+		Map<String, JsonNode> cached = assets.get(screenName);
+		return cached == null ? null : cached.get(profileType);
+	}
+
+	/**
+	 * Drops a cached asset of a screen, keeping the screen and its other assets
+	 *
+	 * @param screenName name of the screen
+	 * @param profileType profile type of the asset
+	 * @return true if the asset was cached
+	 */
+	public synchronized boolean removeAsset(String screenName, String profileType) {
+		Map<String, JsonNode> cached = assets.get(screenName);
+		if (cached == null || cached.remove(profileType) == null) {
+			return false;
+		}
+		Long bytes = states.get(screenName).assetBytes.remove(profileType);
+		estimatedBytes -= bytes == null ? 0 : bytes;
+		return true;
+	}
+
+	/**
+	 * Moves cached screens to their new names, keeping their assets and discovery cycle.
+	 * All screens are moved at once, so screens can swap names. A screen cached under a new name and not renamed itself is dropped.
+	 *
+	 * @param renames new names keyed by the previous names
+	 */
+	public synchronized void rename(Map<String, String> renames) {
+		Map<String, Map<String, JsonNode>> movedAssets = new HashMap<>();
+		Map<String, ScreenState> movedStates = new HashMap<>();
+		for (Map.Entry<String, String> rename : renames.entrySet()) {
+			ScreenState state = states.remove(rename.getKey());
+			if (state != null) {
+				movedAssets.put(rename.getValue(), assets.remove(rename.getKey()));
+				movedStates.put(rename.getValue(), state);
+			}
+		}
+		for (Map.Entry<String, ScreenState> moved : movedStates.entrySet()) {
+			ScreenState replaced = states.put(moved.getKey(), moved.getValue());
+			if (replaced != null) {
+				estimatedBytes -= replaced.getBytes();
+			}
+			assets.put(moved.getKey(), movedAssets.get(moved.getKey()));
+		}
+	}
+
+	/**
+	 * Marks a cached screen as seen in the current discovery cycle
+	 *
+	 * @param screenName name of the screen
+	 */
+	public synchronized void markSeen(String screenName) {
+		ScreenState state = states.get(screenName);
+		if (state != null) {
+			state.lastSeenCycle = discoveryCycle;
+		}
+	}
+
+	/**
+	 * Ends the current discovery cycle and evicts the screens missing from the last {@link #evictionCycles} discovery cycles
+	 *
+	 * @return names of the evicted screens, including the screens evicted to make room for new screens since the last call
+	 */
+	public synchronized List<String> endDiscoveryCycle() {
+		List<String> evicted = new ArrayList<>(pendingEvictions);
+		pendingEvictions.clear();
+		int idleEvictions = 0;
+		for (Iterator<Map.Entry<String, ScreenState>> iterator = states.entrySet().iterator(); iterator.hasNext(); ) {
+			Map.Entry<String, ScreenState> entry = iterator.next();
+			if (discoveryCycle - entry.getValue().lastSeenCycle >= evictionCycles) {
+				iterator.remove();
+				estimatedBytes -= entry.getValue().getBytes();
+				assets.remove(entry.getKey());
+				evicted.add(entry.getKey());
+				idleEvictions++;
+			}
+		}
+		evictedScreens += idleEvictions;
+		discoveryCycle++;
+		return evicted;
+	}
+
+	/**
+	 * Check whether a screen is cached
+	 *
+	 * @param screenName name of the screen
+	 * @return true if the screen is cached
+	 */
+	public synchronized boolean contains(String screenName) {
+		return assets.containsKey(screenName);
+	}
+
+	/**
+	 * Check whether a screen was seen in the last finished discovery cycle, or in the current one
+	 *
+	 * @param screenName name of the screen
+	 * @return true if the screen is cached and was not missing from the last discovery
+	 */
+	public synchronized boolean isPresent(String screenName) {
+		ScreenState state = states.get(screenName);
+		return state != null && discoveryCycle - state.lastSeenCycle <= 1;
+	}
+
+	/**
+	 * Retrieves a read only view of the cached assets, which must be iterated while holding the cache
+	 *
+	 * @return assets keyed by screen name and then by profile type
+	 */
+	public Map<String, Map<String, JsonNode>> asMap() {
+		return assetsView;
+	}
+
+	/**
+	 * Copies the cached assets
+	 *
+	 * @return copy of the assets keyed by screen name and then by profile type
+	 */
+	public synchronized Map<String, Map<String, JsonNode>> copy() {
+		Map<String, Map<String, JsonNode>> copy = new HashMap<>();
+		assets.forEach((screenName, screenAssets) -> copy.put(screenName, new HashMap<>(screenAssets)));
+		return copy;
+	}
+
+	/**
+	 * Retrieves the names of the cached screens
+	 *
+	 * @return copy of the screen names
+	 */
+	public synchronized List<String> getScreenNames() {
+		return new ArrayList<>(assets.keySet());
+	}
+
+	/**
+	 * Retrieves the number of cached screens
+	 *
+	 * @return number of screens
+	 */
+	public synchronized int size() {
+		return assets.size();
+	}
+
+	/**
+	 * Check whether no screen is cached
+	 *
+	 * @return true if the cache is empty
+	 */
+	public synchronized boolean isEmpty() {
+		return assets.isEmpty();
+	}
+
+	/**
+	 * Retrieves {@link #estimatedBytes}
+	 *
+	 * @return value of {@link #estimatedBytes}
+	 */
+	public synchronized long getEstimatedBytes() {
+		return estimatedBytes;
+	}
+
+	/**
+	 * Retrieves the number of screens evicted because they were missing from discovery, or to make room for new screens
+	 *
+	 * @return number of evicted screens
+	 */
+	public synchronized long getEvictedScreens() {
+		return evictedScreens;
+	}
+
+	/**
+	 * Retrieves the number of new screens that were not cached because a cap was reached
+	 *
+	 * @return number of rejected screens
+	 */
+	public synchronized long getRejectedScreens() {
+		return rejectedScreens;
+	}
+
+	/**
+	 * Drops all screens and resets the counters
+	 */
+	public synchronized void clear() {
+		assets.clear();
+		states.clear();
+		pendingEvictions.clear();
+		discoveryCycle = 0;
+		estimatedBytes = 0;
+		evictedScreens = 0;
+		rejectedScreens = 0;
+	}
+
+	private void putAssets(String screenName, Map<String, JsonNode> screenAssets) {
+		Map<String, JsonNode> cached = assets.get(screenName);
+		ScreenState state = states.get(screenName);
+		for (Map.Entry<String, JsonNode> asset : screenAssets.entrySet()) {
+			long bytes = estimateBytes(asset.getValue());
+			Long previousBytes = state.assetBytes.put(asset.getKey(), bytes);
+			estimatedBytes += bytes - (previousBytes == null ? 0 : previousBytes);
+			cached.put(asset.getKey(), asset.getValue());
+		}
+	}
+
+	/**
+	 * Evicts the screen missing from discovery for the longest time until a new screen fits under the caps
+	 *
+	 * @return true if a new screen can be cached
+	 */
+	private boolean makeRoom() {
+		while (isFull()) {
+			String oldest = null;
+			long oldestCycle = discoveryCycle - 1;
+			for (Map.Entry<String, ScreenState> entry : states.entrySet()) {
+				if (entry.getValue().lastSeenCycle < oldestCycle) {
+					oldest = entry.getKey();
+					oldestCycle = entry.getValue().lastSeenCycle;
+				}
+			}
+			if (oldest == null) {
+				return false;
+			}
+			estimatedBytes -= states.remove(oldest).getBytes();
+			assets.remove(oldest);
+			pendingEvictions.add(oldest);
+			evictedScreens++;
+		}
+		return true;
+	}
+
+	private boolean isFull() {
+		return maxScreens > 0 && assets.size() >= maxScreens || maxBytes > 0 && estimatedBytes >= maxBytes;
+	}
+
+	/**
+	 * Estimates the heap footprint of a JSON tree, counting field names as shared since they are interned by the parser
+	 *
+	 * @param node root of the tree
+	 * @return estimated number of bytes
+	 */
+	static long estimateBytes(JsonNode node) {
+		if (node == null) {
+			return 0;
+		}
+		if (node.isObject()) {
+			long bytes = CONTAINER_BYTES + (long) ENTRY_BYTES * node.size();
+			for (Iterator<JsonNode> iterator = node.elements(); iterator.hasNext(); ) {
+				bytes += estimateBytes(iterator.next());
+			}
+			return bytes;
+		}
+		if (node.isArray()) {
+			long bytes = CONTAINER_BYTES + (long) ELEMENT_BYTES * node.size();
+			for (JsonNode element : node) {
+				bytes += estimateBytes(element);
+			}
+			return bytes;
+		}
+		if (node.isTextual()) {
+			return OBJECT_HEADER_BYTES + STRING_BYTES + node.textValue().length();
+		}
+		return OBJECT_HEADER_BYTES;
+	}
+
+	/**
+	 * Discovery and footprint bookkeeping of a cached screen
+	 */
+	private static class ScreenState {
+		private final Map<String, Long> assetBytes = new HashMap<>(4);
+		private long lastSeenCycle;
+
+		ScreenState(long lastSeenCycle) {
+			this.lastSeenCycle = lastSeenCycle;
+		}
+
+		long getBytes() {
+			long bytes = 0;
+			for (Long value : assetBytes.values()) {
+				bytes += value;
+			}
+			return bytes;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StringPool canonicalizes the strings repeated across screens and cycles (metric types, display names, property names
+ * and values such as true, false, None or 0), so every occurrence retained in the cache refers to a single instance.
+ * Unlike {@link String#intern()} the pool is bounded: once it holds its maximum number of entries, new strings are
+ * returned as they are, and strings longer than {@link #MAX_LENGTH} are never pooled.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class StringPool {
+	/**
+	 * Maximum length of a pooled string, longer strings are unlikely to repeat
+	 */
+	public static final int MAX_LENGTH = 64;
+
+	private final Map<String, String> entries = new ConcurrentHashMap<>();
+	private final AtomicInteger entryCount = new AtomicInteger();
+	private final LongAdder rejected = new LongAdder();
+	private volatile int maxEntries;
+
+	/**
+	 * Constructs a new instance of StringPool
+	 *
+	 * @param maxEntries maximum number of pooled strings, 0 disables the pool
+	 */
+	public StringPool(int maxEntries) {
+		setMaxEntries(maxEntries);
+	}
+
+	/**
+	 * Sets {@link #maxEntries} value, strings already pooled are kept
+	 *
+	 * @param maxEntries maximum number of pooled strings, 0 disables the pool
+	 */
+	public void setMaxEntries(int maxEntries) {
+		this.maxEntries = Math.max(maxEntries, 0);
+	}
+
+	/**
+	 * Retrieves {@link #maxEntries}
+	 *
+	 * @return value of {@link #maxEntries}
+	 */
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * Retrieves the canonical instance of a string
+	 *
+	 * @param value string to canonicalize
+	 * @return pooled instance equal to the value, or the value itself if it is not pooled
+	 */
+	public String canonicalize(String value) {
+		if (value == null || value.length() > MAX_LENGTH) {
+			return value;
+		}
+		String pooled = entries.get(value);
+		if (pooled != null) {
+			return pooled;
+		}
+		if (entryCount.incrementAndGet() > maxEntries) {
+			entryCount.decrementAndGet();
+			rejected.increment();
+			return value;
+		}
+		pooled = entries.putIfAbsent(value, value);
+		if (pooled != null) {
+			entryCount.decrementAndGet();
+			return pooled;
+		}
+		return value;
+	}
+
+	/**
+	 * Retrieves the number of pooled strings
+	 *
+	 * @return number of entries
+	 */
+	public int size() {
+		return entryCount.get();
+	}
+
+	/**
+	 * Retrieves the number of strings that were not pooled because the pool was full
+	 *
+	 * @return number of rejected strings
+	 */
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+
+	/**
+	 * Drops all pooled strings
+	 */
+	public void clear() {
+		entries.clear();
+		entryCount.set(0);
+		rejected.reset();
+	}
+}
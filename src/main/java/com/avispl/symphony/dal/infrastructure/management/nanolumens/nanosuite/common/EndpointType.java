@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common;
+
+/**
+ * EndpointType represents the NanoSuite API endpoints the adapter sends requests to
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum EndpointType {
+	SETTINGS("Settings"),
+	SCREEN_ASSET("ScreenAsset"),
+	FILTER_ASSET("FilterAsset");
+
+	private final String name;
+
+	EndpointType(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the statistics group name of the endpoint for the given profile type
+	 *
+	 * @param profileType profile type the request is filtered by, or null if it is not filtered
+	 * @return group name, e.g. FilterAssetReceiverCard
+	 */
+	public String getGroupName(ProfileType profileType) {
+		return profileType == null ? name : name + profileType.getName().replace(" ", "");
+	}
+}
@@ -14,6 +14,7 @@ package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.c
 public class NanoSuiteConstant {
 		public static final String NONE = "None";
 		public static final String METADATA = "metadata";
+		public static final String OVERALL_HEALTH_STATE = "healthState";
 		public static final String HEALTHSTATE = "HealthState";
 		public static final String PROFILE_TYPE = "ProfileType";
 		public static final String SUBSYSTEM_NAME = "SubsystemName";
@@ -22,12 +23,106 @@ public class NanoSuiteConstant {
 		public static final String ERROR = "error";
 		public static final String ISSAC_SETTING_URL = "api/v1/settings";
 		public static final int DEFAULT_NUMBER_THREAD = 8;
+		public static final int DEFAULT_MAX_NUMBER_THREAD = 64;
+		public static final int DEFAULT_DISCOVERY_PAGE_SIZE = 100;
+		public static final int THREADS_PER_PROCESSOR = 16;
+		public static final int DEFAULT_TARGET_CYCLE_TIME = 20;
+		public static final String AUTO = "auto";
 		public static final String FILTER_ASSET_URL = "api/v1/infra/assets?profileType=%s&metadata[novastarScreenName]=%s";
 		public static final String SCREEN_ASSET_URL =  "api/v1/infra/assets?profileType=novastar_screen";
 		public static final String NOVASTAR_SCREEN_NAME = "novastarScreenName";
+		public static final String NOVASTAR_SCREEN_ID = "novastarScreen";
 		public static final String ISAAC_TOKEN = "isaac-token";
 		public static final String NOVASTAR_SCREEN = "NovastarScreen";
 		public static final String TRUE = "true";
 		public static final String FALSE = "false";
 		public static final String DEVICE_MODEL = "Nixel";
+		public static final String DATA_STALE = "DataStale";
+		public static final String SNAPSHOT_FILE_NAME = "nanosuite-%s-shard-%s-of-%s.snapshot";
+		public static final int DEFAULT_SNAPSHOT_INTERVAL = 300;
+		public static final String TRAFFIC_FILE_NAME = "nanosuite-traffic-%s-%s.jsonl";
+		public static final String TRAFFIC_FILE_TIMESTAMP = "yyyyMMdd-HHmmss";
+		public static final int DEFAULT_TRAFFIC_CAPTURE_MAX_ENTRIES = 100000;
+		public static final int DEFAULT_TELEMETRY_BUFFER_SIZE = 120;
+		public static final int DEFAULT_TELEMETRY_MAX_SERIES = 10000;
+		public static final int DEFAULT_STRING_POOL_MAX_ENTRIES = 20000;
+		public static final int DEFAULT_SCREEN_EVICTION_CYCLES = 1;
+		public static final int DEFAULT_HEDGE_MAX_PERCENT = 5;
+		public static final String ROLLING_MIN = "Min";
+		public static final String ROLLING_MAX = "Max";
+		public static final String ROLLING_AVERAGE = "Avg";
+		public static final String MINUTE_SUFFIX = "m";
+		public static final String COMMA = ",";
+		public static final String DISPLAY_NAME = "displayName";
+		public static final String METRICS = "metrics";
+		public static final String METRIC_TYPE = "metricType";
+		public static final String LAST_VALUE = "lastValue";
+		public static final String REQUEST_STATISTICS_GROUP = "Request%s#";
+		public static final String REQUESTS = "Requests";
+		public static final String LATENCY_P50 = "LatencyP50(ms)";
+		public static final String LATENCY_P95 = "LatencyP95(ms)";
+		public static final String LATENCY_P99 = "LatencyP99(ms)";
+		public static final String LATENCY_MAX = "LatencyMax(ms)";
+		public static final String ERRORS = "Errors";
+		public static final String MONITORING_CYCLE_GROUP = "MonitoringCycle#";
+		public static final String CYCLE_DURATION = "LastCycleDuration(ms)";
+		public static final String CYCLE_FETCH_TIME = "FetchTime(ms)";
+		public static final String CYCLE_PARSE_TIME = "ParseTime(ms)";
+		public static final String CYCLE_CACHE_UPDATE_TIME = "CacheUpdateTime(ms)";
+		public static final String CYCLE_DEVICE_BUILD_TIME = "DeviceBuildTime(ms)";
+		public static final String CYCLE_SCREENS_REFRESHED = "ScreensRefreshed";
+		public static final String CYCLE_SCREENS_FAILED = "ScreensFailed";
+		public static final String CYCLE_SCREENS_SKIPPED = "ScreensSkipped";
+		public static final String CYCLE_SCREENS_TIMED_OUT = "ScreensTimedOut";
+		public static final String CYCLE_SCREENS_DEFERRED = "ScreensDeferred";
+		public static final String DEMANDED_SCREENS = "DemandedScreens";
+		public static final String CYCLE_SUMMARY_SCREENS = "SummaryScreens";
+		public static final String OUT_OF_CYCLE_SCREENS_REFRESHED = "OutOfCycleScreensRefreshed";
+		public static final String OUT_OF_CYCLE_SCREENS_FAILED = "OutOfCycleScreensFailed";
+		public static final String CYCLE_THREADS = "Threads";
+		public static final String CYCLE_THREAD_MODE = "ThreadMode";
+		public static final String THREAD_MODE_VIRTUAL = "Virtual";
+		public static final String THREAD_MODE_PLATFORM = "Platform";
+		public static final String CYCLE_AVERAGE_FETCH_LATENCY = "AverageFetchLatency(ms)";
+		public static final String CYCLE_STRING_POOL_ENTRIES = "StringPoolEntries";
+		public static final String CYCLE_LAST_END = "LastCycleEnd";
+		public static final String OLDEST_DATA_AGE = "OldestDataAge(s)";
+		public static final String SHARDING_GROUP = "Sharding#";
+		public static final String SHARD_INDEX = "ShardIndex";
+		public static final String SHARD_COUNT = "ShardCount";
+		public static final String DISCOVERED_SCREENS = "DiscoveredScreens";
+		public static final String OWNED_SCREENS = "OwnedScreens";
+		public static final String HEDGING_GROUP = "Hedging#";
+		public static final String HEDGES = "Hedges";
+		public static final String HEDGE_WINS = "HedgeWins";
+		public static final String HEDGE_LOSSES = "HedgeLosses";
+		public static final String HEDGES_THROTTLED = "HedgesThrottled";
+		public static final String RATE_LIMIT_GROUP = "RateLimit%s#";
+		public static final String RATE_LIMIT_DISCOVERY = "Discovery";
+		public static final String RATE_LIMIT_DETAIL = "Detail";
+		public static final String THROTTLED_REQUESTS = "ThrottledRequests";
+		public static final String QUEUE_WAIT_P50 = "QueueWaitP50(ms)";
+		public static final String QUEUE_WAIT_P95 = "QueueWaitP95(ms)";
+		public static final String QUEUE_WAIT_MAX = "QueueWaitMax(ms)";
+		public static final String FLEET_HEALTH_GROUP = "FleetHealth#";
+		public static final String ERROR_SCREENS = "ErrorScreens";
+		public static final String WARNING_SCREENS = "WarningScreens";
+		public static final String OFFLINE_RECEIVERS = "OfflineReceivers";
+		public static final String DISCOVERY_GROUP = "Discovery#";
+		public static final String ADDED_SCREENS = "AddedScreens";
+		public static final String REMOVED_SCREENS = "RemovedScreens";
+		public static final String RENAMED_SCREENS = "RenamedScreens";
+		public static final String CACHE_GROUP = "Cache#";
+		public static final String CACHED_SCREENS = "Screens";
+		public static final String CACHE_ESTIMATED_SIZE = "EstimatedSize(KB)";
+		public static final String EVICTED_SCREENS = "EvictedScreens";
+		public static final String REJECTED_SCREENS = "RejectedScreens";
+		public static final String TRANSFER_GROUP = "Transfer#";
+		public static final String RESPONSES = "Responses";
+		public static final String COMPRESSED_RESPONSES = "CompressedResponses";
+		public static final String RECEIVED_BYTES = "ReceivedBytes";
+		public static final String DECODED_BYTES = "DecodedBytes";
+		public static final String COMPRESSION_RATIO = "CompressionRatio";
+		public static final String LAST_UPDATED = "LastUpdated";
+		public static final String DATA_AGE_SECONDS = "DataAgeSeconds";
 }
\ No newline at end of file
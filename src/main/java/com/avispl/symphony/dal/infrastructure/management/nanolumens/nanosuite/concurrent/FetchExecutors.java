@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * FetchExecutors creates the executors running the per-screen fetches of a monitoring cycle.
+ * On Java 21 and later, a virtual thread per task executor can be used, so that blocking requests cost almost no memory.
+ * The adapter is built for Java 8, so the virtual thread executor is looked up by reflection once, and a fixed platform
+ * thread pool is used whenever it is not available.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public final class FetchExecutors {
+	private static final Method VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+	private FetchExecutors() {
+	}
+
+	/**
+	 * Check whether the running JVM supports virtual threads
+	 *
+	 * @return true if Executors#newVirtualThreadPerTaskExecutor is available
+	 */
+	public static boolean isVirtualThreadSupported() {
+		return VIRTUAL_THREAD_EXECUTOR != null;
+	}
+
+	/**
+	 * Creates a virtual thread per task executor, or a fixed platform thread pool if virtual threads are not wanted or not supported
+	 *
+	 * @param threads number of platform threads
+	 * @param virtualThreads whether virtual threads should be used when they are supported
+	 * @return new executor
+	 */
+	public static ExecutorService newFetchExecutor(int threads, boolean virtualThreads) {
+		if (virtualThreads && VIRTUAL_THREAD_EXECUTOR != null) {
+			try {
+				return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invoke(null);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				// fall back to platform threads
+			}
+		}
+		return Executors.newFixedThreadPool(threads);
+	}
+
+	private static Method findVirtualThreadExecutor() {
+		try {
+			return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+		} catch (NoSuchMethodException | SecurityException e) {
+			return null;
+		}
+	}
+}
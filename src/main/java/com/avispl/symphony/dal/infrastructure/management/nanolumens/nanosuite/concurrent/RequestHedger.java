@@ -0,0 +1,361 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.LatencyHistogram;
+
+/**
+ * RequestHedger cuts the tail latency of requests by sending a duplicate, the hedge, once the original request has taken
+ * longer than the 95th percentile of the observed latencies, and by taking whichever answers first.
+ * The original request runs on the calling thread, only the hedge is sent from a pool of at most as many threads as hedges
+ * allowed at the same time. The request answering last is cancelled through the cancellation it registered with
+ * {@link #onCancel(Runnable)}, or its response is dropped if it registered none.
+ * Hedges are capped to a share of the requests, so a server that is slow for every request is not sent twice the load.
+ * Requests are run without hedging until enough latencies have been observed to estimate the percentile.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RequestHedger implements AutoCloseable {
+	/**
+	 * Number of latencies observed before requests are hedged
+	 */
+	public static final int MIN_SAMPLES = 20;
+
+	private static final double HEDGE_PERCENTILE = 95;
+
+	/**
+	 * Attempt run by the current thread, for the attempts to register their cancellation
+	 */
+	private static final ThreadLocal<Attempt> CURRENT_ATTEMPT = new ThreadLocal<>();
+
+	private final ScheduledExecutorService hedgeTimer;
+	private final ThreadPoolExecutor hedgeExecutor;
+	private final Semaphore hedgeSlots;
+	private final double maxHedgeRatio;
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder hedges = new LongAdder();
+	private final LongAdder wins = new LongAdder();
+	private final LongAdder losses = new LongAdder();
+	private final LongAdder throttled = new LongAdder();
+
+	/**
+	 * Constructs a new instance of RequestHedger
+	 *
+	 * @param maxHedgePercent maximum number of hedges per 100 requests
+	 * @param maxConcurrentHedges maximum number of hedges running at the same time
+	 */
+	public RequestHedger(int maxHedgePercent, int maxConcurrentHedges) {
+		int slots = Math.max(1, maxConcurrentHedges);
+		this.maxHedgeRatio = maxHedgePercent / 100.0;
+		this.hedgeSlots = new Semaphore(slots);
+		this.hedgeTimer = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("nanosuite-hedge-timer-"));
+		this.hedgeExecutor = new ThreadPoolExecutor(slots, slots, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), daemonThreadFactory("nanosuite-hedge-"));
+		this.hedgeExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Registers how to cancel the attempt run by the current thread, such as aborting its HTTP request.
+	 * Nothing is registered unless the current thread runs a hedged request or its hedge.
+	 * The cancellation is run right away if the attempt has already lost.
+	 *
+	 * @param cancellation cancellation of the attempt, replacing any registered before
+	 */
+	public static void onCancel(Runnable cancellation) {
+		Attempt attempt = CURRENT_ATTEMPT.get();
+		if (attempt != null) {
+			attempt.onCancel(cancellation);
+		}
+	}
+
+	/**
+	 * Runs a request on the calling thread, hedging it if it is slower than the 95th percentile of the given latencies
+	 *
+	 * @param request request to run, it must be safe to run twice at the same time
+	 * @param latency observed latencies of the requests of the same kind
+	 * @param <T> type of the response
+	 * @return response of the request or of its hedge, whichever is received first
+	 * @throws Exception if the request fails, and its hedge too if one was sent
+	 */
+	public <T> T execute(Callable<T> request, LatencyHistogram latency) throws Exception {
+		requests.increment();
+		if (latency.getCount() < MIN_SAMPLES) {
+			return request.call();
+		}
+		long hedgeDelay = Math.max(1, latency.getPercentile(HEDGE_PERCENTILE));
+		HedgedCall<T> call = new HedgedCall<>(request);
+		ScheduledFuture<?> timer;
+		try {
+			timer = hedgeTimer.schedule(() -> sendHedge(call), hedgeDelay, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			// closed, the request is no longer hedged
+			return request.call();
+		}
+		run(call, call.original);
+		timer.cancel(false);
+		try {
+			return call.first.get().response;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof Exception ? (Exception) cause : e;
+		}
+	}
+
+	/**
+	 * Retrieves the number of requests run
+	 *
+	 * @return number of requests
+	 */
+	public long getRequests() {
+		return requests.sum();
+	}
+
+	/**
+	 * Retrieves the number of hedges sent
+	 *
+	 * @return number of hedges
+	 */
+	public long getHedges() {
+		return hedges.sum();
+	}
+
+	/**
+	 * Retrieves the number of hedged requests answered by their hedge first
+	 *
+	 * @return number of hedges won
+	 */
+	public long getWins() {
+		return wins.sum();
+	}
+
+	/**
+	 * Retrieves the number of hedged requests answered by the original request first
+	 *
+	 * @return number of hedges lost
+	 */
+	public long getLosses() {
+		return losses.sum();
+	}
+
+	/**
+	 * Retrieves the number of hedges not sent because of the hedge cap or because all hedge threads were busy
+	 *
+	 * @return number of throttled hedges
+	 */
+	public long getThrottled() {
+		return throttled.sum();
+	}
+
+	/**
+	 * Resets the counters
+	 */
+	public void reset() {
+		requests.reset();
+		hedges.reset();
+		wins.reset();
+		losses.reset();
+		throttled.reset();
+	}
+
+	/**
+	 * Stops sending hedges, the hedges still running are left to finish
+	 */
+	@Override
+	public void close() {
+		hedgeTimer.shutdownNow();
+		hedgeExecutor.shutdown();
+	}
+
+	/**
+	 * Sends the hedge of a call still waiting for its original request, unless the hedge cap or the hedge threads are used up
+	 *
+	 * @param call call to hedge
+	 */
+	private <T> void sendHedge(HedgedCall<T> call) {
+		if (call.first.isDone()) {
+			return;
+		}
+		if (hedges.sum() + 1 > maxHedgeRatio * requests.sum() || !hedgeSlots.tryAcquire()) {
+			throttled.increment();
+			return;
+		}
+		// the hedge counts as running before it is sent, so the original request failing in the meantime leaves the call to the hedge
+		if (!call.reserveHedge()) {
+			hedgeSlots.release();
+			return;
+		}
+		hedges.increment();
+		call.first.whenComplete((outcome, e) -> {
+			if (outcome == null) {
+				return;
+			}
+			if (outcome.attempt == call.hedge) {
+				wins.increment();
+			} else {
+				losses.increment();
+			}
+		});
+		try {
+			hedgeExecutor.execute(() -> {
+				try {
+					run(call, call.hedge);
+				} finally {
+					hedgeSlots.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			hedgeSlots.release();
+			call.fail(null);
+		}
+	}
+
+	/**
+	 * Runs an attempt of a call on the current thread, the attempt answering first completes the call and cancels the other one
+	 *
+	 * @param call call the attempt belongs to
+	 * @param attempt original request or hedge of the call
+	 */
+	private static <T> void run(HedgedCall<T> call, Attempt attempt) {
+		if (call.first.isDone()) {
+			call.fail(null);
+			return;
+		}
+		CURRENT_ATTEMPT.set(attempt);
+		try {
+			T response = call.request.call();
+			if (call.first.complete(new Outcome<>(response, attempt))) {
+				call.other(attempt).cancel();
+			}
+		} catch (Exception e) {
+			// a failed attempt only fails the call once no other attempt can answer it, a cancelled one has nothing to report
+			call.fail(attempt.isCancelled() ? null : e);
+		} finally {
+			// a cancellation arriving after the attempt has returned must not abort anything else run by the thread
+			attempt.finish();
+			CURRENT_ATTEMPT.remove();
+		}
+	}
+
+	private static ThreadFactory daemonThreadFactory(String prefix) {
+		AtomicInteger threadCount = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Original request and hedge of a call, and the first response received
+	 */
+	private static class HedgedCall<T> {
+		private final Callable<T> request;
+		private final CompletableFuture<Outcome<T>> first = new CompletableFuture<>();
+		private final AtomicInteger running = new AtomicInteger(1);
+		private final AtomicReference<Exception> failure = new AtomicReference<>();
+		private final Attempt original = new Attempt();
+		private final Attempt hedge = new Attempt();
+
+		HedgedCall(Callable<T> request) {
+			this.request = request;
+		}
+
+		/**
+		 * Counts the hedge as running, unless the original request has already failed the call
+		 *
+		 * @return true if the hedge is to be sent
+		 */
+		boolean reserveHedge() {
+			for (int count = running.get(); count > 0; count = running.get()) {
+				if (running.compareAndSet(count, count + 1)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Ends an attempt without a response, failing the call with the first failure once no attempt is left running
+		 *
+		 * @param e failure of the attempt, or null if it was cancelled
+		 */
+		void fail(Exception e) {
+			if (e != null) {
+				failure.compareAndSet(null, e);
+			}
+			if (running.decrementAndGet() == 0) {
+				Exception cause = failure.get();
+				first.completeExceptionally(cause == null ? new IllegalStateException("Hedged request cancelled") : cause);
+			}
+		}
+
+		Attempt other(Attempt attempt) {
+			return attempt == original ? hedge : original;
+		}
+	}
+
+	/**
+	 * Original request or hedge of a call, with the cancellation it registered
+	 */
+	private static class Attempt {
+		private Runnable cancellation;
+		private boolean cancelled;
+
+		synchronized void onCancel(Runnable cancellation) {
+			if (cancelled) {
+				cancellation.run();
+			} else {
+				this.cancellation = cancellation;
+			}
+		}
+
+		synchronized void cancel() {
+			if (!cancelled) {
+				cancelled = true;
+				if (cancellation != null) {
+					cancellation.run();
+				}
+			}
+		}
+
+		synchronized boolean isCancelled() {
+			return cancelled;
+		}
+
+		synchronized void finish() {
+			cancellation = null;
+		}
+	}
+
+	/**
+	 * Response of the original request or of its hedge
+	 */
+	private static class Outcome<T> {
+		private final T response;
+		private final Attempt attempt;
+
+		Outcome(T response, Attempt attempt) {
+			this.response = response;
+			this.attempt = attempt;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.LatencyHistogram;
+
+/**
+ * TokenBucket limits the rate of the requests sent to a server. Tokens are added at a sustained rate up to the burst size,
+ * and each request takes one, waiting for it if the bucket is empty.
+ * Requests waiting for a token reserve it when they arrive, so they are let through in order, one every 1/rate seconds,
+ * however many threads are waiting.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TokenBucket {
+	private final double tokensPerNano;
+	private final int burst;
+	private final LatencyHistogram queueWait = new LatencyHistogram();
+	private final LongAdder throttled = new LongAdder();
+	private double tokens;
+	private long lastRefill;
+
+	/**
+	 * Constructs a new instance of TokenBucket, full
+	 *
+	 * @param ratePerSecond sustained number of requests per second
+	 * @param burst number of requests let through at once after the bucket was idle
+	 */
+	public TokenBucket(double ratePerSecond, int burst) {
+		this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+		this.burst = Math.max(1, burst);
+		this.tokens = this.burst;
+		this.lastRefill = System.nanoTime();
+	}
+
+	/**
+	 * Takes a token, waiting until one is available
+	 *
+	 * @return nanoseconds waited for the token
+	 * @throws InterruptedException if the thread is interrupted while waiting, the reserved token is not given back
+	 */
+	public long acquire() throws InterruptedException {
+		long waitNanos;
+		synchronized (this) {
+			long now = System.nanoTime();
+			tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+			lastRefill = now;
+			tokens--;
+			// a negative balance is the number of tokens reserved by the requests waiting before this one
+			waitNanos = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+		}
+		queueWait.record(TimeUnit.NANOSECONDS.toMillis(waitNanos));
+		if (waitNanos > 0) {
+			throttled.increment();
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+		return waitNanos;
+	}
+
+	/**
+	 * Retrieves the time the requests waited for a token, in milliseconds
+	 *
+	 * @return histogram of the queue wait times
+	 */
+	public LatencyHistogram getQueueWait() {
+		return queueWait;
+	}
+
+	/**
+	 * Retrieves the number of requests that waited for a token
+	 *
+	 * @return number of throttled requests
+	 */
+	public long getThrottled() {
+		return throttled.sum();
+	}
+
+	/**
+	 * Resets the wait times and throttled count, the tokens are kept
+	 */
+	public void reset() {
+		queueWait.reset();
+		throttled.reset();
+	}
+}
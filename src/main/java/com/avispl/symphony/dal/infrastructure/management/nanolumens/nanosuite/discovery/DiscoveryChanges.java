@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DiscoveryChanges holds the screens added, removed and renamed by a discovery, as reconciled by {@link ScreenReconciler}.
+ * A name taken over from a removed screen is both removed, for the screen that had it, and added, for the screen that has it now.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class DiscoveryChanges {
+	private final List<String> added;
+	private final List<String> removed;
+	private final Map<String, String> renamed;
+
+	/**
+	 * Constructs a new instance of DiscoveryChanges
+	 *
+	 * @param added names of the added screens
+	 * @param removed names of the removed screens
+	 * @param renamed new names of the renamed screens keyed by their previous names
+	 */
+	public DiscoveryChanges(List<String> added, List<String> removed, Map<String, String> renamed) {
+		this.added = Collections.unmodifiableList(added);
+		this.removed = Collections.unmodifiableList(removed);
+		this.renamed = Collections.unmodifiableMap(renamed);
+	}
+
+	/**
+	 * Retrieves {@link #added}
+	 *
+	 * @return value of {@link #added}
+	 */
+	public List<String> getAdded() {
+		return added;
+	}
+
+	/**
+	 * Retrieves {@link #removed}
+	 *
+	 * @return value of {@link #removed}
+	 */
+	public List<String> getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * Retrieves {@link #renamed}
+	 *
+	 * @return value of {@link #renamed}
+	 */
+	public Map<String, String> getRenamed() {
+		return renamed;
+	}
+
+	/**
+	 * Check whether the discovery changed nothing
+	 *
+	 * @return true if no screen was added, removed or renamed
+	 */
+	public boolean isEmpty() {
+		return added.isEmpty() && removed.isEmpty() && renamed.isEmpty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s added, %s removed, %s renamed", added.size(), removed.size(), renamed.size());
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * PagedJsonArray describes how a JSON array response is consumed by {@link PagedJsonArrayConverter}: elements are
+ * handed over in pages of at most {@link #pageSize} elements while the response is still being read, so that only one
+ * page is held in memory at a time. Once the response is read, it holds the number of elements and pages consumed.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PagedJsonArray {
+	private final int pageSize;
+	private final Consumer<List<JsonNode>> pageHandler;
+	private int elementCount;
+	private int pageCount;
+	private boolean array;
+
+	/**
+	 * Constructs a new instance of PagedJsonArray
+	 *
+	 * @param pageSize maximum number of elements per page
+	 * @param pageHandler handler of each page, called on the thread reading the response
+	 */
+	public PagedJsonArray(int pageSize, Consumer<List<JsonNode>> pageHandler) {
+		this.pageSize = pageSize;
+		this.pageHandler = pageHandler;
+	}
+
+	/**
+	 * Retrieves {@link #pageSize}
+	 *
+	 * @return value of {@link #pageSize}
+	 */
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * Hands a page over to the page handler
+	 *
+	 * @param page elements of the page
+	 */
+	void handlePage(List<JsonNode> page) {
+		elementCount += page.size();
+		pageCount++;
+		pageHandler.accept(page);
+	}
+
+	/**
+	 * Marks whether the response was a JSON array
+	 *
+	 * @param array true if the response was a JSON array
+	 */
+	void setArray(boolean array) {
+		this.array = array;
+	}
+
+	/**
+	 * Check whether the response was a JSON array, responses of any other type are skipped
+	 *
+	 * @return true if the response was a JSON array
+	 */
+	public boolean isArray() {
+		return array;
+	}
+
+	/**
+	 * Retrieves {@link #elementCount}
+	 *
+	 * @return number of elements consumed
+	 */
+	public int getElementCount() {
+		return elementCount;
+	}
+
+	/**
+	 * Retrieves {@link #pageCount}
+	 *
+	 * @return number of pages consumed
+	 */
+	public int getPageCount() {
+		return pageCount;
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * PagedJsonArrayConverter reads a JSON array response element by element straight from the response stream and hands
+ * the elements over in pages, instead of building the whole response in memory first.
+ * The {@link PagedJsonArray} describing the pages is bound to the requesting thread with {@link #bind(PagedJsonArray)}
+ * before the request is sent, the RestTemplate then returns that same instance.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PagedJsonArrayConverter extends AbstractHttpMessageConverter<PagedJsonArray> {
+	private final ThreadLocal<PagedJsonArray> boundArray = new ThreadLocal<>();
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Constructs a new instance of PagedJsonArrayConverter
+	 *
+	 * @param objectMapper mapper used to read the elements
+	 */
+	public PagedJsonArrayConverter(ObjectMapper objectMapper) {
+		super(MediaType.ALL);
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Binds the array to read the next response into to the current thread
+	 *
+	 * @param array array to read the response into
+	 */
+	public void bind(PagedJsonArray array) {
+		boundArray.set(array);
+	}
+
+	/**
+	 * Unbinds the array of the current thread
+	 */
+	public void unbind() {
+		boundArray.remove();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return PagedJsonArray.class == clazz;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean canWrite(MediaType mediaType) {
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected PagedJsonArray readInternal(Class<? extends PagedJsonArray> clazz, HttpInputMessage inputMessage) throws IOException {
+		PagedJsonArray array = boundArray.get();
+		if (array == null) {
+			throw new HttpMessageNotReadableException("No paged array is bound to the current thread", inputMessage);
+		}
+		try (JsonParser parser = objectMapper.getFactory().createParser(inputMessage.getBody())) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				array.setArray(false);
+				return array;
+			}
+			array.setArray(true);
+			List<JsonNode> page = new ArrayList<>(array.getPageSize());
+			JsonToken token;
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				if (token == null) {
+					throw new HttpMessageNotReadableException("Unexpected end of the array", inputMessage);
+				}
+				page.add(parser.readValueAsTree());
+				if (page.size() >= array.getPageSize()) {
+					array.handlePage(page);
+					page = new ArrayList<>(array.getPageSize());
+				}
+			}
+			if (!page.isEmpty()) {
+				array.handlePage(page);
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void writeInternal(PagedJsonArray array, HttpOutputMessage outputMessage) throws HttpMessageNotWritableException {
+		throw new HttpMessageNotWritableException("Paged arrays are read only");
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * ScreenReconciler tracks the screens owned by this instance by novastarScreenName, along with their novastarScreen id.
+ * Each discovery is reconciled against the tracked screens in a single step that returns the added, removed and renamed
+ * screens as {@link DiscoveryChanges}. A screen discovered under a new name with the id of a tracked screen is renamed.
+ * The tracked screens are replaced as a whole, so readers always see the screens of the previous or of the new discovery,
+ * never a partially rebuilt set.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ScreenReconciler {
+	private volatile Map<String, String> screenIds = Collections.emptyMap();
+	private volatile Map<String, String> screenNames = Collections.emptyMap();
+	private long addedScreens;
+	private long removedScreens;
+	private long renamedScreens;
+
+	/**
+	 * Retrieves the names of the tracked screens
+	 *
+	 * @return read only set of the screen names
+	 */
+	public Set<String> getScreenNames() {
+		return screenIds.keySet();
+	}
+
+	/**
+	 * Retrieves the name of a tracked screen from its id, a screen tracked without id is identified by its name
+	 *
+	 * @param screenId novastarScreen id of the screen, or its name if it has no id
+	 * @return novastarScreenName of the screen, or null if it is not tracked
+	 */
+	public String getScreenName(String screenId) {
+		String screenName = screenNames.get(screenId);
+		if (screenName == null) {
+			Map<String, String> ids = screenIds;
+			return ids.containsKey(screenId) && ids.get(screenId) == null ? screenId : null;
+		}
+		return screenName;
+	}
+
+	/**
+	 * Retrieves the number of tracked screens
+	 *
+	 * @return number of screens
+	 */
+	public int size() {
+		return screenIds.size();
+	}
+
+	/**
+	 * Check whether no screen is tracked
+	 *
+	 * @return true if no screen is tracked
+	 */
+	public boolean isEmpty() {
+		return screenIds.isEmpty();
+	}
+
+	/**
+	 * Check whether a discovered screen differs from the tracked screens, because its name is tracked with another id,
+	 * or its id is tracked under another name. A screen whose name and id are both unknown is new, not changed.
+	 *
+	 * @param screenName novastarScreenName of the screen
+	 * @param screenId novastarScreen id of the screen, or null if it has none
+	 * @return true if the screen is renamed or takes over the name of another screen
+	 */
+	public boolean isChanged(String screenName, String screenId) {
+		Map<String, String> ids = screenIds;
+		if (ids.containsKey(screenName)) {
+			return !isSameScreen(ids.get(screenName), screenId);
+		}
+		return screenId != null && screenNames.containsKey(screenId);
+	}
+
+	/**
+	 * Tracks a screen outside of a discovery, such as a screen restored from a snapshot
+	 *
+	 * @param screenName novastarScreenName of the screen
+	 * @param screenId novastarScreen id of the screen, or null if it has none
+	 */
+	public synchronized void add(String screenName, String screenId) {
+		Map<String, String> ids = new LinkedHashMap<>(screenIds);
+		ids.put(screenName, screenId);
+		publish(ids);
+	}
+
+	/**
+	 * Stops tracking screens, so they are added again by the next discovery finding them
+	 *
+	 * @param names novastarScreenName of the screens
+	 */
+	public synchronized void remove(Collection<String> names) {
+		if (names.isEmpty()) {
+			return;
+		}
+		Map<String, String> ids = new LinkedHashMap<>(screenIds);
+		ids.keySet().removeAll(names);
+		publish(ids);
+	}
+
+	/**
+	 * Reconciles the screens of a discovery against the tracked screens, and tracks the discovered screens instead
+	 *
+	 * @param discovered novastarScreen id of each discovered screen, or null for a screen without id, keyed by novastarScreenName
+	 * @return screens added, removed and renamed by the discovery
+	 */
+	public synchronized DiscoveryChanges reconcile(Map<String, String> discovered) {
+		Map<String, String> previousIds = screenIds;
+		Map<String, String> previousNames = screenNames;
+		List<String> added = new ArrayList<>();
+		Map<String, String> renamed = new LinkedHashMap<>();
+		Set<String> kept = new HashSet<>();
+		for (Map.Entry<String, String> screen : discovered.entrySet()) {
+			String screenName = screen.getKey();
+			String screenId = screen.getValue();
+			if (previousIds.containsKey(screenName) && isSameScreen(previousIds.get(screenName), screenId)) {
+				kept.add(screenName);
+				continue;
+			}
+			String previousName = screenId == null ? null : previousNames.get(screenId);
+			if (previousName != null && !renamed.containsKey(previousName) && !Objects.equals(discovered.get(previousName), screenId)) {
+				renamed.put(previousName, screenName);
+			} else {
+				added.add(screenName);
+			}
+		}
+		List<String> removed = new ArrayList<>();
+		for (String screenName : previousIds.keySet()) {
+			if (!kept.contains(screenName) && !renamed.containsKey(screenName)) {
+				removed.add(screenName);
+			}
+		}
+		publish(new LinkedHashMap<>(discovered));
+		addedScreens += added.size();
+		removedScreens += removed.size();
+		renamedScreens += renamed.size();
+		return new DiscoveryChanges(added, removed, renamed);
+	}
+
+	/**
+	 * Retrieves the number of screens added by all discoveries
+	 *
+	 * @return number of added screens
+	 */
+	public synchronized long getAddedScreens() {
+		return addedScreens;
+	}
+
+	/**
+	 * Retrieves the number of screens removed by all discoveries
+	 *
+	 * @return number of removed screens
+	 */
+	public synchronized long getRemovedScreens() {
+		return removedScreens;
+	}
+
+	/**
+	 * Retrieves the number of screens renamed by all discoveries
+	 *
+	 * @return number of renamed screens
+	 */
+	public synchronized long getRenamedScreens() {
+		return renamedScreens;
+	}
+
+	/**
+	 * Stops tracking all screens and resets the counters
+	 */
+	public synchronized void clear() {
+		publish(new LinkedHashMap<>());
+		addedScreens = 0;
+		removedScreens = 0;
+		renamedScreens = 0;
+	}
+
+	private void publish(Map<String, String> ids) {
+		Map<String, String> names = new HashMap<>();
+		ids.forEach((screenName, screenId) -> {
+			if (screenId != null) {
+				names.put(screenId, screenName);
+			}
+		});
+		screenNames = names;
+		screenIds = Collections.unmodifiableMap(ids);
+	}
+
+	/**
+	 * Screens missing an id, such as screens restored from a snapshot of an older version, are identified by name only
+	 */
+	private static boolean isSameScreen(String previousId, String screenId) {
+		return previousId == null || screenId == null || previousId.equals(screenId);
+	}
+}
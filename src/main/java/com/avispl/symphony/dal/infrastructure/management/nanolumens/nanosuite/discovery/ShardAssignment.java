@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery;
+
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * ShardAssignment splits the screens of a NanoSuite host between several adapter instances. Each screen is assigned to a
+ * shard by a jump consistent hash of its novastarScreenName, so every instance computes the same assignment on its own,
+ * and changing the number of shards from N to N+1 only moves about 1/(N+1) of the screens.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ShardAssignment {
+	/**
+	 * Assignment of a single instance owning every screen
+	 */
+	public static final ShardAssignment NONE = new ShardAssignment(0, 1);
+
+	private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+	private final int shardIndex;
+	private final int shardCount;
+
+	/**
+	 * Constructs a new instance of ShardAssignment
+	 *
+	 * @param shardIndex index of the shard of this instance, from 0 to shardCount - 1
+	 * @param shardCount total number of shards
+	 */
+	public ShardAssignment(int shardIndex, int shardCount) {
+		if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+			throw new IllegalArgumentException(String.format("Invalid shard %s of %s", shardIndex, shardCount));
+		}
+		this.shardIndex = shardIndex;
+		this.shardCount = shardCount;
+	}
+
+	/**
+	 * Retrieves {@link #shardIndex}
+	 *
+	 * @return value of {@link #shardIndex}
+	 */
+	public int getShardIndex() {
+		return shardIndex;
+	}
+
+	/**
+	 * Retrieves {@link #shardCount}
+	 *
+	 * @return value of {@link #shardCount}
+	 */
+	public int getShardCount() {
+		return shardCount;
+	}
+
+	/**
+	 * Check whether the screens are split between several instances
+	 *
+	 * @return true if there is more than one shard
+	 */
+	public boolean isSharded() {
+		return shardCount > 1;
+	}
+
+	/**
+	 * Retrieves the shard a screen is assigned to
+	 *
+	 * @param screenName novastarScreenName of the screen
+	 * @return index of the shard
+	 */
+	public int shardOf(String screenName) {
+		if (shardCount == 1) {
+			return 0;
+		}
+		return Hashing.consistentHash(HASH_FUNCTION.hashString(screenName, StandardCharsets.UTF_8), shardCount);
+	}
+
+	/**
+	 * Check whether a screen is assigned to the shard of this instance
+	 *
+	 * @param screenName novastarScreenName of the screen
+	 * @return true if this instance fetches and reports the screen
+	 */
+	public boolean owns(String screenName) {
+		return shardOf(screenName) == shardIndex;
+	}
+}
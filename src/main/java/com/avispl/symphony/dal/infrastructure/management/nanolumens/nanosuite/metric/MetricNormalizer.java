@@ -0,0 +1,284 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.HealthStateStatus;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.NanoSuiteConstant;
+
+/**
+ * MetricNormalizer converts the last value of a metric into its property value. There is a normalizer per kind of metric
+ * (numeric, boolean mapped, health state and text), chosen once per metric type, so the value is not scanned by every
+ * conversion in turn. Plain decimal values already in their canonical form are returned as they are, without being
+ * parsed and formatted again, and invalid values never throw.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public abstract class MetricNormalizer {
+	/**
+	 * Normalizer of the screen and asset health states
+	 */
+	public static final MetricNormalizer HEALTH_STATE = new HealthStateNormalizer();
+
+	/**
+	 * Maximum number of significant digits of a decimal value returned as it is
+	 */
+	private static final int MAX_CANONICAL_DIGITS = 9;
+
+	/**
+	 * Maximum number of integer digits of a decimal value returned as it is, larger values are formatted in scientific notation
+	 */
+	private static final int MAX_CANONICAL_INTEGER_DIGITS = 7;
+
+	/**
+	 * Maximum number of digits of an integer value returned as it is
+	 */
+	private static final int MAX_CANONICAL_LONG_DIGITS = 15;
+
+	private static final Map<ReceiverMetric, MetricNormalizer> RECEIVER_NORMALIZERS = new EnumMap<>(ReceiverMetric.class);
+	private static final Map<SenderMetric, MetricNormalizer> SENDER_NORMALIZERS = new EnumMap<>(SenderMetric.class);
+
+	static {
+		for (ReceiverMetric metric : ReceiverMetric.values()) {
+			RECEIVER_NORMALIZERS.put(metric, new NumericNormalizer(MetricMappingValue.getByName(metric.getName())));
+		}
+		for (SenderMetric metric : SenderMetric.values()) {
+			MetricMappingValue mappingValue = MetricMappingValue.getByName(metric.getName());
+			SENDER_NORMALIZERS.put(metric, mappingValue == null ? new TextNormalizer() : new BooleanMappedNormalizer(mappingValue));
+		}
+	}
+
+	/**
+	 * Converts the last value of a metric into its property value
+	 *
+	 * @param value last value of the metric, may be null
+	 * @return property value, "None" if the value is empty or invalid
+	 */
+	public abstract String normalize(String value);
+
+	/**
+	 * Retrieves the normalizer of a receiver metric
+	 *
+	 * @param metric receiver metric
+	 * @return normalizer rounding numeric values, mapping true and false values of the mapped metrics
+	 */
+	public static MetricNormalizer of(ReceiverMetric metric) {
+		return RECEIVER_NORMALIZERS.get(metric);
+	}
+
+	/**
+	 * Retrieves the normalizer of a sender metric
+	 *
+	 * @param metric sender metric
+	 * @return normalizer mapping true and false values of the mapped metrics, returning the value as it is otherwise
+	 */
+	public static MetricNormalizer of(SenderMetric metric) {
+		return SENDER_NORMALIZERS.get(metric);
+	}
+
+	/**
+	 * Parses a health state value
+	 *
+	 * @param value last value of the health state
+	 * @return health state, or null if the value is empty, None or not a known health state
+	 */
+	public static HealthStateStatus parseHealthState(String value) {
+		if (value == null || value.isEmpty()) {
+			return null;
+		}
+		int index = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+		if (index == value.length()) {
+			return null;
+		}
+		int result = 0;
+		for (; index < value.length(); index++) {
+			char c = value.charAt(index);
+			if (!isDigit(c)) {
+				return null;
+			}
+			// no health state has more than one digit, larger values only need to stay out of range
+			if (result < 10) {
+				result = result * 10 + (c - '0');
+			}
+		}
+		switch (value.charAt(0) == '-' ? -result : result) {
+			case 0:
+				return HealthStateStatus.HEALTHY;
+			case 1:
+				return HealthStateStatus.WARNING;
+			case 2:
+				return HealthStateStatus.ERROR;
+			case -1:
+				return HealthStateStatus.UNKNOWN;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Check whether a value is null or empty
+	 *
+	 * @param value value to check
+	 * @return true if the value is null or empty
+	 */
+	private static boolean isEmpty(String value) {
+		return value == null || value.isEmpty();
+	}
+
+	/**
+	 * Retrieves the canonical form of a plain decimal value, as {@link Double#toString(double)} would format it,
+	 * without converting it when it is already canonical
+	 *
+	 * @param value value to check
+	 * @return canonical form of the value, or null if the value is not a plain decimal that can be checked without parsing it
+	 */
+	static String canonicalNumber(String value) {
+		int length = value.length();
+		int start = value.charAt(0) == '-' ? 1 : 0;
+		int index = start;
+		while (index < length && isDigit(value.charAt(index))) {
+			index++;
+		}
+		int integerDigits = index - start;
+		if (integerDigits == 0 || (integerDigits > 1 && value.charAt(start) == '0')) {
+			return null;
+		}
+		boolean zeroInteger = integerDigits == 1 && value.charAt(start) == '0';
+		if (index == length) {
+			// integer, -0 is formatted as 0
+			return integerDigits > MAX_CANONICAL_LONG_DIGITS || (zeroInteger && start == 1) ? null : value;
+		}
+		if (value.charAt(index) != '.' || index == length - 1) {
+			return null;
+		}
+		int dot = index;
+		boolean zeroFraction = true;
+		int leadingFractionZeros = 0;
+		for (index = dot + 1; index < length; index++) {
+			char c = value.charAt(index);
+			if (!isDigit(c)) {
+				return null;
+			}
+			if (c != '0') {
+				if (zeroFraction) {
+					leadingFractionZeros = index - dot - 1;
+				}
+				zeroFraction = false;
+			}
+		}
+		if (zeroFraction) {
+			// whole number, formatted without its fraction
+			return integerDigits > MAX_CANONICAL_LONG_DIGITS || (zeroInteger && start == 1) ? null : value.substring(0, dot);
+		}
+		int fractionDigits = length - dot - 1;
+		int significantDigits = zeroInteger ? fractionDigits - leadingFractionZeros : integerDigits + fractionDigits;
+		if (value.charAt(length - 1) == '0' || integerDigits > MAX_CANONICAL_INTEGER_DIGITS || significantDigits > MAX_CANONICAL_DIGITS
+				|| (zeroInteger && leadingFractionZeros > 2)) {
+			// trailing zeros, scientific notation below 0.001 and from 10^7, or too many digits to be sure of the formatting
+			return null;
+		}
+		return value;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Normalizer of receiver metrics: numbers are rounded to a whole number when they have no fraction,
+	 * other values are mapped if the metric has a mapping
+	 */
+	private static final class NumericNormalizer extends MetricNormalizer {
+		private final MetricMappingValue mappingValue;
+
+		private NumericNormalizer(MetricMappingValue mappingValue) {
+			this.mappingValue = mappingValue;
+		}
+
+		@Override
+		public String normalize(String value) {
+			if (isEmpty(value)) {
+				return NanoSuiteConstant.NONE;
+			}
+			String number = canonicalNumber(value);
+			if (number != null) {
+				return number;
+			}
+			if (NumberUtils.isCreatable(value)) {
+				return formatNumber(value);
+			}
+			if (mappingValue != null) {
+				if (NanoSuiteConstant.TRUE.equals(value)) {
+					return mappingValue.getEnableValue();
+				}
+				if (NanoSuiteConstant.FALSE.equals(value)) {
+					return mappingValue.getDisableValue();
+				}
+			}
+			return value;
+		}
+
+		/**
+		 * Formats a number that is not a plain decimal, e.g. in scientific notation
+		 */
+		private static String formatNumber(String value) {
+			try {
+				double doubleNumber = Double.parseDouble(value);
+				return doubleNumber == (long) doubleNumber ? String.valueOf((long) doubleNumber) : String.valueOf(doubleNumber);
+			} catch (NumberFormatException e) {
+				return NanoSuiteConstant.NONE;
+			}
+		}
+	}
+
+	/**
+	 * Normalizer of sender metrics mapping true and false values
+	 */
+	private static final class BooleanMappedNormalizer extends MetricNormalizer {
+		private final MetricMappingValue mappingValue;
+
+		private BooleanMappedNormalizer(MetricMappingValue mappingValue) {
+			this.mappingValue = mappingValue;
+		}
+
+		@Override
+		public String normalize(String value) {
+			if (NanoSuiteConstant.TRUE.equals(value)) {
+				return mappingValue.getEnableValue();
+			}
+			if (NanoSuiteConstant.FALSE.equals(value)) {
+				return mappingValue.getDisableValue();
+			}
+			return isEmpty(value) ? NanoSuiteConstant.NONE : value;
+		}
+	}
+
+	/**
+	 * Normalizer of health states, converted to their name
+	 */
+	private static final class HealthStateNormalizer extends MetricNormalizer {
+		@Override
+		public String normalize(String value) {
+			HealthStateStatus status = parseHealthState(value);
+			return status == null ? NanoSuiteConstant.NONE : status.getName();
+		}
+	}
+
+	/**
+	 * Normalizer of text metrics, returned as they are
+	 */
+	private static final class TextNormalizer extends MetricNormalizer {
+		@Override
+		public String normalize(String value) {
+			return isEmpty(value) ? NanoSuiteConstant.NONE : value;
+		}
+	}
+}
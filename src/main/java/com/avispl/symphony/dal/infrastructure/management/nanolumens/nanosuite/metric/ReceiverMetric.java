@@ -5,6 +5,8 @@
 package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * ReceiverMetric class represents metric of novastar receiver asset type
@@ -35,6 +37,18 @@ public enum ReceiverMetric {
 	private String value;
 	private String screenValue;
 
+	/**
+	 * Metrics by their exact {@link #value} and {@link #screenValue}, so the metric types sent by NanoSuite are found without a scan
+	 */
+	private static final Map<String, ReceiverMetric> BY_VALUE = new HashMap<>();
+
+	static {
+		for (ReceiverMetric metric : values()) {
+			BY_VALUE.putIfAbsent(metric.getValue(), metric);
+			BY_VALUE.putIfAbsent(metric.getScreenValue(), metric);
+		}
+	}
+
 	ReceiverMetric(String name, String value, String screenValue) {
 		this.name = name;
 		this.value = value;
@@ -75,6 +89,10 @@ public enum ReceiverMetric {
 	 * @return {@link ReceiverMetric}
 	 */
 	 public static ReceiverMetric getByValue(String value) {
+		 ReceiverMetric metric = BY_VALUE.get(value);
+		 if (metric != null) {
+			 return metric;
+		 }
 		 return Arrays.stream(values())
 				 .filter(receiver -> receiver.getValue().equalsIgnoreCase(value) || receiver.getScreenValue().equalsIgnoreCase(value))
 				 .findFirst()
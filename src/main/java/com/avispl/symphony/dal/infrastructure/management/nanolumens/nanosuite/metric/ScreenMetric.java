@@ -4,6 +4,9 @@
 
 package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * ScreenMetric class represents metric of novastar screen/display asset type
  *
@@ -17,6 +20,11 @@ public enum ScreenMetric {
 	RECEIVER_GROUP("Receiver");
 	private String group;
 
+	/**
+	 * Property names of the metric types already resolved, only known metric types are kept
+	 */
+	private static final Map<String, String> PROPERTY_NAMES = new ConcurrentHashMap<>();
+
 	ScreenMetric(String group) {
 		this.group = group;
 	}
@@ -35,6 +43,23 @@ public enum ScreenMetric {
 	 * Retrieve group name of screen/display asset by value
 	 */
 	public static String getByValue(String value) {
+		if (value == null) {
+			return null;
+		}
+		String propertyName = PROPERTY_NAMES.get(value);
+		if (propertyName == null) {
+			propertyName = resolve(value);
+			if (propertyName != null) {
+				PROPERTY_NAMES.put(value, propertyName);
+			}
+		}
+		return propertyName;
+	}
+
+	/**
+	 * Resolve the group name of screen/display asset by value
+	 */
+	private static String resolve(String value) {
 		SenderMetric senderMetric = SenderMetric.getByValue(value);
 		if (senderMetric != null) {
 			return SENDER_GROUP.getGroup() + senderMetric.getName();
@@ -5,6 +5,8 @@
 package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * SenderMetric class represents metric of novastar sender asset type
@@ -32,6 +34,18 @@ public enum SenderMetric {
 	private String value;
 	private String screenValue;
 
+	/**
+	 * Metrics by their exact {@link #value} and {@link #screenValue}, so the metric types sent by NanoSuite are found without a scan
+	 */
+	private static final Map<String, SenderMetric> BY_VALUE = new HashMap<>();
+
+	static {
+		for (SenderMetric metric : values()) {
+			BY_VALUE.putIfAbsent(metric.getValue(), metric);
+			BY_VALUE.putIfAbsent(metric.getScreenValue(), metric);
+		}
+	}
+
 	SenderMetric(String name, String value, String screenValue) {
 		this.name = name;
 		this.value = value;
@@ -72,6 +86,10 @@ public enum SenderMetric {
 	 * @return {@link SenderMetric}
 	 */
 	public static SenderMetric getByValue(String value) {
+		SenderMetric metric = BY_VALUE.get(value);
+		if (metric != null) {
+			return metric;
+		}
 		return Arrays.stream(values())
 				.filter(receiver -> receiver.getValue().equalsIgnoreCase(value) || receiver.getScreenValue().equalsIgnoreCase(value))
 				.findFirst()
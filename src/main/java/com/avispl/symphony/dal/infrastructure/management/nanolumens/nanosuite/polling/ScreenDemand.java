@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.polling;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ScreenDemand tracks which screens Symphony recently requested, so the monitoring cycles poll them at full rate and
+ * the screens nobody reads at a background rate. A screen is in demand for a window after its last request.
+ * While no screen at all is in demand, as when Symphony only requests the whole device list, every screen is in demand.
+ * It also throttles the on-demand fetches of requested screens whose data is too old, so a screen requested again while
+ * its fetch is running is not fetched twice.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ScreenDemand {
+	private final Map<String, Long> lastRequested = new ConcurrentHashMap<>();
+	private final Map<String, Long> lastOnDemandFetch = new ConcurrentHashMap<>();
+	private final long windowMillis;
+	private volatile long lastRequestTime;
+
+	/**
+	 * Constructs a new instance of ScreenDemand
+	 *
+	 * @param windowMillis time in milliseconds a screen stays in demand after it is requested
+	 */
+	public ScreenDemand(long windowMillis) {
+		this.windowMillis = windowMillis;
+	}
+
+	/**
+	 * Records a request of screens
+	 *
+	 * @param screenNames names of the requested screens
+	 * @param now epoch milliseconds of the request
+	 */
+	public void record(Collection<String> screenNames, long now) {
+		for (String screenName : screenNames) {
+			lastRequested.put(screenName, now);
+		}
+		if (!screenNames.isEmpty()) {
+			lastRequestTime = now;
+		}
+	}
+
+	/**
+	 * Check whether some screen was requested within the demand window
+	 *
+	 * @param now current epoch milliseconds
+	 * @return true if the screens are polled according to their demand
+	 */
+	public boolean isActive(long now) {
+		return lastRequestTime != 0 && now - lastRequestTime <= windowMillis;
+	}
+
+	/**
+	 * Check whether a screen is polled at full rate, because it was requested within the demand window or because no
+	 * screen was
+	 *
+	 * @param screenName name of the screen
+	 * @param now current epoch milliseconds
+	 * @return true if the screen is in demand
+	 */
+	public boolean isDemanded(String screenName, long now) {
+		return !isActive(now) || isRequested(screenName, now);
+	}
+
+	/**
+	 * Check whether a screen itself was requested within the demand window
+	 *
+	 * @param screenName name of the screen
+	 * @param now current epoch milliseconds
+	 * @return true if the screen was requested
+	 */
+	public boolean isRequested(String screenName, long now) {
+		Long requested = lastRequested.get(screenName);
+		return requested != null && now - requested <= windowMillis;
+	}
+
+	/**
+	 * Check whether a requested screen should be fetched right away because its data is older than the given age,
+	 * and records the fetch. A screen is fetched on demand at most once per maximum age.
+	 *
+	 * @param screenName name of the screen
+	 * @param lastUpdated epoch milliseconds of the last refresh of the screen, or 0 if it was never refreshed
+	 * @param maxAgeMillis maximum age of the data in milliseconds
+	 * @param now current epoch milliseconds
+	 * @return true if the screen should be fetched
+	 */
+	public boolean tryOnDemandFetch(String screenName, long lastUpdated, long maxAgeMillis, long now) {
+		if (now - lastUpdated <= maxAgeMillis) {
+			return false;
+		}
+		boolean[] fetch = new boolean[1];
+		lastOnDemandFetch.compute(screenName, (name, lastFetch) -> {
+			if (lastFetch != null && now - lastFetch < maxAgeMillis) {
+				return lastFetch;
+			}
+			fetch[0] = true;
+			return now;
+		});
+		return fetch[0];
+	}
+
+	/**
+	 * Retrieves the number of screens requested within the demand window
+	 *
+	 * @param now current epoch milliseconds
+	 * @return number of requested screens
+	 */
+	public int getDemandedScreens(long now) {
+		int demandedScreens = 0;
+		for (Long requested : lastRequested.values()) {
+			if (now - requested <= windowMillis) {
+				demandedScreens++;
+			}
+		}
+		return demandedScreens;
+	}
+
+	/**
+	 * Moves the demand of a screen to its new name
+	 *
+	 * @param screenName previous name of the screen
+	 * @param newScreenName new name of the screen
+	 */
+	public void rename(String screenName, String newScreenName) {
+		Long requested = lastRequested.remove(screenName);
+		if (requested != null) {
+			lastRequested.put(newScreenName, requested);
+		}
+		lastOnDemandFetch.remove(screenName);
+	}
+
+	/**
+	 * Forgets the demand of screens
+	 *
+	 * @param screenNames names of the screens
+	 */
+	public void remove(Collection<String> screenNames) {
+		lastRequested.keySet().removeAll(screenNames);
+		lastOnDemandFetch.keySet().removeAll(screenNames);
+	}
+
+	/**
+	 * Forgets the demand of every screen
+	 */
+	public void clear() {
+		lastRequested.clear();
+		lastOnDemandFetch.clear();
+		lastRequestTime = 0;
+	}
+}
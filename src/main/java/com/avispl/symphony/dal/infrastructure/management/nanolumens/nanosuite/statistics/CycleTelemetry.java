@@ -0,0 +1,310 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * CycleTelemetry accumulates the time spent in each phase of a monitoring cycle and the number of refreshed,
+ * failed, skipped and timed out screens. Phase times are summed over all worker threads, so they can exceed the cycle duration.
+ * The values of the last finished cycle are kept until the next cycle finishes.
+ * The average fetch latency of the last cycle is what the automatic thread sizing relies on.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class CycleTelemetry {
+	private final LongAdder fetchNanos = new LongAdder();
+	private final LongAdder fetches = new LongAdder();
+	private final LongAdder parseNanos = new LongAdder();
+	private final LongAdder cacheUpdateNanos = new LongAdder();
+	private final LongAdder refreshedScreens = new LongAdder();
+	private final LongAdder failedScreens = new LongAdder();
+	private final LongAdder skippedScreens = new LongAdder();
+	private final LongAdder timedOutScreens = new LongAdder();
+	private final LongAdder deferredScreens = new LongAdder();
+	private final LongAdder summaryScreens = new LongAdder();
+	private volatile long cycleStartNanos;
+	private volatile int threads;
+	private volatile boolean virtualThreads;
+
+	private volatile long lastCycleDuration;
+	private volatile long lastFetchTime;
+	private volatile long lastAverageFetchLatency;
+	private volatile int lastThreads;
+	private volatile boolean lastVirtualThreads;
+	private volatile long lastParseTime;
+	private volatile long lastCacheUpdateTime;
+	private volatile long lastDeviceBuildTime;
+	private volatile long lastRefreshedScreens;
+	private volatile long lastFailedScreens;
+	private volatile long lastSkippedScreens;
+	private volatile long lastTimedOutScreens;
+	private volatile long lastDeferredScreens;
+	private volatile long lastSummaryScreens;
+	private volatile long lastCycleEnd;
+
+	/**
+	 * Starts a new cycle, clearing the accumulated values of the current one
+	 *
+	 * @param threads number of threads the screens are fetched with, or number of concurrent fetches on virtual threads
+	 * @param virtualThreads whether the screens are fetched on virtual threads
+	 */
+	public void startCycle(int threads, boolean virtualThreads) {
+		this.threads = threads;
+		this.virtualThreads = virtualThreads;
+		fetchNanos.reset();
+		fetches.reset();
+		parseNanos.reset();
+		cacheUpdateNanos.reset();
+		refreshedScreens.reset();
+		failedScreens.reset();
+		skippedScreens.reset();
+		timedOutScreens.reset();
+		deferredScreens.reset();
+		summaryScreens.reset();
+		cycleStartNanos = System.nanoTime();
+	}
+
+	/**
+	 * Finishes the current cycle and publishes its values
+	 */
+	public void endCycle() {
+		lastCycleDuration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cycleStartNanos);
+		lastFetchTime = TimeUnit.NANOSECONDS.toMillis(fetchNanos.sum());
+		long fetchCount = fetches.sum();
+		if (fetchCount > 0) {
+			lastAverageFetchLatency = TimeUnit.NANOSECONDS.toMillis(fetchNanos.sum() / fetchCount);
+		}
+		lastThreads = threads;
+		lastVirtualThreads = virtualThreads;
+		lastParseTime = TimeUnit.NANOSECONDS.toMillis(parseNanos.sum());
+		lastCacheUpdateTime = TimeUnit.NANOSECONDS.toMillis(cacheUpdateNanos.sum());
+		lastRefreshedScreens = refreshedScreens.sum();
+		lastFailedScreens = failedScreens.sum();
+		lastSkippedScreens = skippedScreens.sum();
+		lastTimedOutScreens = timedOutScreens.sum();
+		lastDeferredScreens = deferredScreens.sum();
+		lastSummaryScreens = summaryScreens.sum();
+		lastCycleEnd = System.currentTimeMillis();
+	}
+
+	/**
+	 * Adds time spent waiting for responses
+	 *
+	 * @param nanos elapsed time in nanoseconds
+	 */
+	public void recordFetch(long nanos) {
+		fetchNanos.add(nanos);
+		fetches.increment();
+	}
+
+	/**
+	 * Adds time spent reading and parsing responses, which are parsed while they are received
+	 *
+	 * @param nanos elapsed time in nanoseconds
+	 */
+	public void recordParse(long nanos) {
+		parseNanos.add(nanos);
+	}
+
+	/**
+	 * Adds time spent updating the cache
+	 *
+	 * @param nanos elapsed time in nanoseconds
+	 */
+	public void recordCacheUpdate(long nanos) {
+		cacheUpdateNanos.add(nanos);
+	}
+
+	/**
+	 * Records the time spent building the aggregated devices from the cache.
+	 * Devices are built when Symphony reads them rather than within the cycle, so the latest build is kept as is.
+	 *
+	 * @param nanos elapsed time in nanoseconds
+	 */
+	public void recordDeviceBuild(long nanos) {
+		lastDeviceBuildTime = TimeUnit.NANOSECONDS.toMillis(nanos);
+	}
+
+	/**
+	 * Counts a screen whose data was refreshed in the current cycle
+	 */
+	public void screenRefreshed() {
+		refreshedScreens.increment();
+	}
+
+	/**
+	 * Counts a screen whose refresh failed in the current cycle
+	 */
+	public void screenFailed() {
+		failedScreens.increment();
+	}
+
+	/**
+	 * Counts a screen that was not refreshed in the current cycle on purpose
+	 */
+	public void screenSkipped() {
+		skippedScreens.increment();
+	}
+
+	/**
+	 * Counts a screen that was still being fetched when the time budget of the current cycle was spent
+	 */
+	public void screenTimedOut() {
+		timedOutScreens.increment();
+	}
+
+	/**
+	 * Counts a screen that was not refreshed in the current cycle because it is only polled at the background rate
+	 */
+	public void screenDeferred() {
+		deferredScreens.increment();
+	}
+
+	/**
+	 * Counts a screen refreshed without its receiver cards because it is healthy and not requested
+	 */
+	public void screenSummarized() {
+		summaryScreens.increment();
+	}
+
+	/**
+	 * Retrieves {@link #lastCycleDuration}
+	 *
+	 * @return value of {@link #lastCycleDuration} in milliseconds
+	 */
+	public long getLastCycleDuration() {
+		return lastCycleDuration;
+	}
+
+	/**
+	 * Retrieves {@link #lastFetchTime}
+	 *
+	 * @return value of {@link #lastFetchTime} in milliseconds
+	 */
+	public long getLastFetchTime() {
+		return lastFetchTime;
+	}
+
+	/**
+	 * Retrieves {@link #lastAverageFetchLatency}, kept from the previous cycles if the last one had no successful fetch
+	 *
+	 * @return value of {@link #lastAverageFetchLatency} in milliseconds, or 0 if nothing was fetched yet
+	 */
+	public long getLastAverageFetchLatency() {
+		return lastAverageFetchLatency;
+	}
+
+	/**
+	 * Retrieves {@link #lastThreads}
+	 *
+	 * @return value of {@link #lastThreads}
+	 */
+	public int getLastThreads() {
+		return lastThreads;
+	}
+
+	/**
+	 * Retrieves {@link #lastVirtualThreads}
+	 *
+	 * @return value of {@link #lastVirtualThreads}
+	 */
+	public boolean isLastVirtualThreads() {
+		return lastVirtualThreads;
+	}
+
+	/**
+	 * Retrieves {@link #lastParseTime}
+	 *
+	 * @return value of {@link #lastParseTime} in milliseconds
+	 */
+	public long getLastParseTime() {
+		return lastParseTime;
+	}
+
+	/**
+	 * Retrieves {@link #lastCacheUpdateTime}
+	 *
+	 * @return value of {@link #lastCacheUpdateTime} in milliseconds
+	 */
+	public long getLastCacheUpdateTime() {
+		return lastCacheUpdateTime;
+	}
+
+	/**
+	 * Retrieves {@link #lastDeviceBuildTime}
+	 *
+	 * @return value of {@link #lastDeviceBuildTime} in milliseconds
+	 */
+	public long getLastDeviceBuildTime() {
+		return lastDeviceBuildTime;
+	}
+
+	/**
+	 * Retrieves {@link #lastRefreshedScreens}
+	 *
+	 * @return value of {@link #lastRefreshedScreens}
+	 */
+	public long getLastRefreshedScreens() {
+		return lastRefreshedScreens;
+	}
+
+	/**
+	 * Retrieves {@link #lastFailedScreens}
+	 *
+	 * @return value of {@link #lastFailedScreens}
+	 */
+	public long getLastFailedScreens() {
+		return lastFailedScreens;
+	}
+
+	/**
+	 * Retrieves {@link #lastSkippedScreens}
+	 *
+	 * @return value of {@link #lastSkippedScreens}
+	 */
+	public long getLastSkippedScreens() {
+		return lastSkippedScreens;
+	}
+
+	/**
+	 * Retrieves {@link #lastTimedOutScreens}
+	 *
+	 * @return value of {@link #lastTimedOutScreens}
+	 */
+	public long getLastTimedOutScreens() {
+		return lastTimedOutScreens;
+	}
+
+	/**
+	 * Retrieves {@link #lastDeferredScreens}
+	 *
+	 * @return value of {@link #lastDeferredScreens}
+	 */
+	public long getLastDeferredScreens() {
+		return lastDeferredScreens;
+	}
+
+	/**
+	 * Retrieves {@link #lastSummaryScreens}
+	 *
+	 * @return value of {@link #lastSummaryScreens}
+	 */
+	public long getLastSummaryScreens() {
+		return lastSummaryScreens;
+	}
+
+	/**
+	 * Retrieves {@link #lastCycleEnd}
+	 *
+	 * @return value of {@link #lastCycleEnd} as epoch milliseconds, or 0 if no cycle finished yet
+	 */
+	public long getLastCycleEnd() {
+		return lastCycleEnd;
+	}
+}
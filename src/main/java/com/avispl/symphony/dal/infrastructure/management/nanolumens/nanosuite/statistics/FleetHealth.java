@@ -0,0 +1,266 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.HealthStateStatus;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric.ReceiverMetric;
+
+/**
+ * FleetHealth rolls up the health of every screen as their data changes, so the fleet wide counts are read in constant
+ * time instead of scanning the aggregated devices. Each screen contributes its last health state and its offline receivers
+ * to atomic counters, its previous contribution being withdrawn when it is updated or removed.
+ * The minimum and maximum of the tracked receiver metrics are kept up to date as well, and only rescanned when the screen
+ * holding one of them moves away from it or is removed.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class FleetHealth {
+	private final Map<String, HealthStateStatus> screenHealths = new ConcurrentHashMap<>();
+	private final Map<String, Integer> screenOfflineReceivers = new ConcurrentHashMap<>();
+	private final AtomicInteger errorScreens = new AtomicInteger();
+	private final AtomicInteger warningScreens = new AtomicInteger();
+	private final AtomicInteger offlineReceivers = new AtomicInteger();
+	private final Map<ReceiverMetric, MetricRange> metricRanges = new EnumMap<>(ReceiverMetric.class);
+
+	/**
+	 * Constructs a new instance of FleetHealth
+	 *
+	 * @param trackedMetrics receiver metrics whose minimum and maximum are tracked
+	 */
+	public FleetHealth(Set<ReceiverMetric> trackedMetrics) {
+		for (ReceiverMetric metric : trackedMetrics) {
+			metricRanges.put(metric, new MetricRange());
+		}
+	}
+
+	/**
+	 * Updates the health state of a screen
+	 *
+	 * @param screenName name of the screen
+	 * @param health health state of the screen, or null if it is unknown
+	 */
+	public void updateScreenHealth(String screenName, HealthStateStatus health) {
+		if (health == null) {
+			removeScreenHealth(screenName);
+			return;
+		}
+		screenHealths.compute(screenName, (name, previous) -> {
+			countScreen(previous, -1);
+			countScreen(health, 1);
+			return health;
+		});
+	}
+
+	/**
+	 * Updates the receivers of a screen
+	 *
+	 * @param screenName name of the screen
+	 * @param offline number of offline receivers of the screen
+	 * @param ranges minimum and maximum of each tracked receiver metric of the screen, the metrics without value are omitted
+	 */
+	public void updateReceivers(String screenName, int offline, Map<ReceiverMetric, double[]> ranges) {
+		updateOfflineReceivers(screenName, offline);
+		metricRanges.forEach((metric, metricRange) -> {
+			double[] range = ranges.get(metric);
+			if (range == null) {
+				metricRange.remove(screenName);
+			} else {
+				metricRange.update(screenName, range[0], range[1]);
+			}
+		});
+	}
+
+	/**
+	 * Withdraws the receivers of a screen, keeping its health state
+	 *
+	 * @param screenName name of the screen
+	 */
+	public void removeReceivers(String screenName) {
+		removeOfflineReceivers(screenName);
+		metricRanges.values().forEach(metricRange -> metricRange.remove(screenName));
+	}
+
+	/**
+	 * Withdraws a screen
+	 *
+	 * @param screenName name of the screen
+	 */
+	public void remove(String screenName) {
+		removeScreenHealth(screenName);
+		removeReceivers(screenName);
+	}
+
+	/**
+	 * Moves the health state and receivers of a screen to its new name
+	 *
+	 * @param screenName previous name of the screen
+	 * @param newScreenName new name of the screen
+	 */
+	public void rename(String screenName, String newScreenName) {
+		updateScreenHealth(newScreenName, removeScreenHealth(screenName));
+		Integer offline = removeOfflineReceivers(screenName);
+		if (offline == null) {
+			removeOfflineReceivers(newScreenName);
+		} else {
+			updateOfflineReceivers(newScreenName, offline);
+		}
+		metricRanges.values().forEach(metricRange -> metricRange.rename(screenName, newScreenName));
+	}
+
+	/**
+	 * Retrieves the number of screens in error
+	 *
+	 * @return number of screens
+	 */
+	public int getErrorScreens() {
+		return errorScreens.get();
+	}
+
+	/**
+	 * Retrieves the number of screens in warning
+	 *
+	 * @return number of screens
+	 */
+	public int getWarningScreens() {
+		return warningScreens.get();
+	}
+
+	/**
+	 * Retrieves the number of offline receivers across the screens
+	 *
+	 * @return number of receivers
+	 */
+	public int getOfflineReceivers() {
+		return offlineReceivers.get();
+	}
+
+	/**
+	 * Retrieves the minimum of a tracked receiver metric across the screens
+	 *
+	 * @param metric receiver metric
+	 * @return minimum value, or NaN if no screen has a value
+	 */
+	public double getMin(ReceiverMetric metric) {
+		MetricRange metricRange = metricRanges.get(metric);
+		return metricRange == null ? Double.NaN : metricRange.min;
+	}
+
+	/**
+	 * Retrieves the maximum of a tracked receiver metric across the screens
+	 *
+	 * @param metric receiver metric
+	 * @return maximum value, or NaN if no screen has a value
+	 */
+	public double getMax(ReceiverMetric metric) {
+		MetricRange metricRange = metricRanges.get(metric);
+		return metricRange == null ? Double.NaN : metricRange.max;
+	}
+
+	/**
+	 * Withdraws every screen
+	 */
+	public void clear() {
+		screenHealths.keySet().forEach(this::removeScreenHealth);
+		screenOfflineReceivers.keySet().forEach(this::removeOfflineReceivers);
+		metricRanges.values().forEach(MetricRange::clear);
+	}
+
+	private HealthStateStatus removeScreenHealth(String screenName) {
+		HealthStateStatus[] removed = new HealthStateStatus[1];
+		screenHealths.computeIfPresent(screenName, (name, previous) -> {
+			countScreen(previous, -1);
+			removed[0] = previous;
+			return null;
+		});
+		return removed[0];
+	}
+
+	private void updateOfflineReceivers(String screenName, int offline) {
+		screenOfflineReceivers.compute(screenName, (name, previous) -> {
+			offlineReceivers.addAndGet(offline - (previous == null ? 0 : previous));
+			return offline;
+		});
+	}
+
+	private Integer removeOfflineReceivers(String screenName) {
+		Integer[] removed = new Integer[1];
+		screenOfflineReceivers.computeIfPresent(screenName, (name, previous) -> {
+			offlineReceivers.addAndGet(-previous);
+			removed[0] = previous;
+			return null;
+		});
+		return removed[0];
+	}
+
+	private void countScreen(HealthStateStatus health, int delta) {
+		if (health == HealthStateStatus.ERROR) {
+			errorScreens.addAndGet(delta);
+		} else if (health == HealthStateStatus.WARNING) {
+			warningScreens.addAndGet(delta);
+		}
+	}
+
+	/**
+	 * Minimum and maximum of a receiver metric across the screens, along with the range of each screen.
+	 * The updates are serialized, the extremes are read without locking.
+	 */
+	private static class MetricRange {
+		private final Map<String, double[]> screenRanges = new HashMap<>();
+		private volatile double min = Double.NaN;
+		private volatile double max = Double.NaN;
+
+		synchronized void update(String screenName, double screenMin, double screenMax) {
+			double[] previous = screenRanges.put(screenName, new double[] { screenMin, screenMax });
+			if (previous != null && (previous[0] == min && screenMin > min || previous[1] == max && screenMax < max)) {
+				// the screen holding an extreme moved away from it, another screen may hold it now
+				rescan();
+				return;
+			}
+			min = Double.isNaN(min) ? screenMin : Math.min(min, screenMin);
+			max = Double.isNaN(max) ? screenMax : Math.max(max, screenMax);
+		}
+
+		synchronized double[] remove(String screenName) {
+			double[] previous = screenRanges.remove(screenName);
+			if (previous != null && (previous[0] == min || previous[1] == max)) {
+				rescan();
+			}
+			return previous;
+		}
+
+		synchronized void rename(String screenName, String newScreenName) {
+			double[] range = remove(screenName);
+			remove(newScreenName);
+			if (range != null) {
+				update(newScreenName, range[0], range[1]);
+			}
+		}
+
+		synchronized void clear() {
+			screenRanges.clear();
+			rescan();
+		}
+
+		private void rescan() {
+			double rangeMin = Double.NaN;
+			double rangeMax = Double.NaN;
+			for (double[] range : screenRanges.values()) {
+				rangeMin = Double.isNaN(rangeMin) ? range[0] : Math.min(rangeMin, range[0]);
+				rangeMax = Double.isNaN(rangeMax) ? range[1] : Math.max(rangeMax, range[1]);
+			}
+			min = rangeMin;
+			max = rangeMax;
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LatencyHistogram records latencies in milliseconds into fixed log-linear buckets without locking.
+ * Values below 16 ms get one bucket each, every following power of two range is split into 8 linear buckets,
+ * so percentiles are reported with a relative error of 12.5% at most. Values above the last range are clamped into it.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class LatencyHistogram {
+	private static final int LINEAR_BUCKETS = 16;
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int MIN_EXPONENT = 4;
+	private static final int MAX_EXPONENT = 21;
+	private static final int BUCKET_COUNT = LINEAR_BUCKETS + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+	/**
+	 * Records a latency
+	 *
+	 * @param latencyMillis latency in milliseconds
+	 */
+	public void record(long latencyMillis) {
+		long value = Math.max(0L, latencyMillis);
+		buckets.incrementAndGet(bucketIndex(value));
+		count.increment();
+		max.accumulate(value);
+	}
+
+	/**
+	 * Retrieves the number of recorded latencies
+	 *
+	 * @return number of recorded latencies
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Retrieves the maximum recorded latency
+	 *
+	 * @return maximum latency in milliseconds, or 0 if nothing was recorded
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Retrieves the latency at the given percentile
+	 *
+	 * @param percentile percentile between 0 and 100
+	 * @return upper bound in milliseconds of the bucket holding the percentile, capped by the maximum, or 0 if nothing was recorded
+	 */
+	public long getPercentile(double percentile) {
+		long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			snapshot[i] = buckets.get(i);
+			total += snapshot[i];
+		}
+		if (total == 0) {
+			return 0L;
+		}
+		long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			seen += snapshot[i];
+			if (seen >= rank) {
+				return i == BUCKET_COUNT - 1 ? getMax() : Math.min(bucketUpperBound(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Clears all recorded latencies. Latencies recorded concurrently with the reset may be partially kept.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			buckets.set(i, 0L);
+		}
+		count.reset();
+		max.reset();
+	}
+
+	/**
+	 * Retrieves the bucket of a latency
+	 *
+	 * @param value latency in milliseconds
+	 * @return index of the bucket
+	 */
+	static int bucketIndex(long value) {
+		if (value < LINEAR_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		if (exponent > MAX_EXPONENT) {
+			return BUCKET_COUNT - 1;
+		}
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return LINEAR_BUCKETS + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Retrieves the highest latency of a bucket
+	 *
+	 * @param index index of the bucket
+	 * @return upper bound of the bucket in milliseconds
+	 */
+	static long bucketUpperBound(int index) {
+		if (index < LINEAR_BUCKETS) {
+			return index;
+		}
+		int exponent = (index - LINEAR_BUCKETS) / SUB_BUCKETS + MIN_EXPONENT;
+		int subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		return ((long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+	}
+}
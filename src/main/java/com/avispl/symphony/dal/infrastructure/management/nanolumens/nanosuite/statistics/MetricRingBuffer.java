@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+/**
+ * MetricRingBuffer keeps the latest samples of a single numeric metric in fixed size primitive arrays.
+ * Once the buffer is full, the oldest sample is overwritten, so its memory never grows after construction.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class MetricRingBuffer {
+	private final double[] values;
+	private final long[] timestamps;
+	private int next;
+	private int size;
+
+	/**
+	 * Constructs a new instance of MetricRingBuffer
+	 *
+	 * @param capacity maximum number of samples kept
+	 */
+	public MetricRingBuffer(int capacity) {
+		this.values = new double[capacity];
+		this.timestamps = new long[capacity];
+	}
+
+	/**
+	 * Records a new sample, overwriting the oldest one if the buffer is full
+	 *
+	 * @param timestamp epoch milliseconds of the sample
+	 * @param value sample value
+	 */
+	public synchronized void record(long timestamp, double value) {
+		values[next] = value;
+		timestamps[next] = timestamp;
+		next = (next + 1) % values.length;
+		if (size < values.length) {
+			size++;
+		}
+	}
+
+	/**
+	 * Retrieves the minimum of the samples recorded at or after the given timestamp
+	 *
+	 * @param since epoch milliseconds the window starts at
+	 * @return minimum value, or {@link Double#NaN} if there is no sample in the window
+	 */
+	public synchronized double min(long since) {
+		double result = Double.NaN;
+		for (int i = 0; i < size; i++) {
+			if (timestamps[i] >= since && (Double.isNaN(result) || values[i] < result)) {
+				result = values[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Retrieves the maximum of the samples recorded at or after the given timestamp
+	 *
+	 * @param since epoch milliseconds the window starts at
+	 * @return maximum value, or {@link Double#NaN} if there is no sample in the window
+	 */
+	public synchronized double max(long since) {
+		double result = Double.NaN;
+		for (int i = 0; i < size; i++) {
+			if (timestamps[i] >= since && (Double.isNaN(result) || values[i] > result)) {
+				result = values[i];
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Retrieves the average of the samples recorded at or after the given timestamp
+	 *
+	 * @param since epoch milliseconds the window starts at
+	 * @return average value, or {@link Double#NaN} if there is no sample in the window
+	 */
+	public synchronized double average(long since) {
+		double sum = 0;
+		int count = 0;
+		for (int i = 0; i < size; i++) {
+			if (timestamps[i] >= since) {
+				sum += values[i];
+				count++;
+			}
+		}
+		return count == 0 ? Double.NaN : sum / count;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.CompactPropertyMap;
+
+/**
+ * PropertyDelta represents the difference between two consecutive property maps of an aggregated device
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class PropertyDelta {
+	private final Set<String> changedKeys;
+	private final Set<String> removedKeys;
+
+	/**
+	 * Constructs a new instance of PropertyDelta
+	 *
+	 * @param changedKeys keys that were added or whose value changed
+	 * @param removedKeys keys that are no longer present
+	 */
+	public PropertyDelta(Set<String> changedKeys, Set<String> removedKeys) {
+		this.changedKeys = Collections.unmodifiableSet(changedKeys);
+		this.removedKeys = Collections.unmodifiableSet(removedKeys);
+	}
+
+	/**
+	 * Computes the difference between the previous and the current properties
+	 *
+	 * @param previous previous properties, or null if there were none
+	 * @param current current properties
+	 * @return delta of the current properties against the previous ones
+	 */
+	public static PropertyDelta between(Map<String, String> previous, Map<String, String> current) {
+		return between(previous, current, key -> false);
+	}
+
+	/**
+	 * Computes the difference between the previous and the current properties, leaving out the properties whose value
+	 * changes on every populated device list regardless of the device data, such as the age of the data
+	 *
+	 * @param previous previous properties, or null if there were none
+	 * @param current current properties
+	 * @param ignoredKeys keys left out of the delta
+	 * @return delta of the current properties against the previous ones
+	 */
+	public static PropertyDelta between(Map<String, String> previous, Map<String, String> current, Predicate<String> ignoredKeys) {
+		Set<String> changedKeys = new HashSet<>();
+		Set<String> removedKeys = new HashSet<>();
+		if (previous == null) {
+			for (String key : current.keySet()) {
+				if (!ignoredKeys.test(key)) {
+					changedKeys.add(key);
+				}
+			}
+			return new PropertyDelta(changedKeys, removedKeys);
+		}
+		if (previous instanceof CompactPropertyMap && current instanceof CompactPropertyMap
+				&& ((CompactPropertyMap) previous).getSchema() == ((CompactPropertyMap) current).getSchema()) {
+			return between((CompactPropertyMap) previous, (CompactPropertyMap) current, ignoredKeys);
+		}
+		for (Map.Entry<String, String> entry : current.entrySet()) {
+			if ((!previous.containsKey(entry.getKey()) || !Objects.equals(previous.get(entry.getKey()), entry.getValue())) && !ignoredKeys.test(entry.getKey())) {
+				changedKeys.add(entry.getKey());
+			}
+		}
+		for (String key : previous.keySet()) {
+			if (!current.containsKey(key) && !ignoredKeys.test(key)) {
+				removedKeys.add(key);
+			}
+		}
+		return new PropertyDelta(changedKeys, removedKeys);
+	}
+
+	/**
+	 * Computes the difference between two compact property maps of the same schema slot by slot,
+	 * without materializing the entries of their slots
+	 *
+	 * @param previous previous properties
+	 * @param current current properties
+	 * @param ignoredKeys keys left out of the delta
+	 * @return delta of the current properties against the previous ones
+	 */
+	private static PropertyDelta between(CompactPropertyMap previous, CompactPropertyMap current, Predicate<String> ignoredKeys) {
+		Set<String> changedKeys = new HashSet<>();
+		Set<String> removedKeys = new HashSet<>();
+		int slots = Math.max(previous.slotCount(), current.slotCount());
+		for (int slot = 0; slot < slots; slot++) {
+			String previousValue = previous.valueAt(slot);
+			String currentValue = current.valueAt(slot);
+			if (currentValue == null) {
+				if (previousValue != null && !ignoredKeys.test(current.getSchema().keyAt(slot))) {
+					removedKeys.add(current.getSchema().keyAt(slot));
+				}
+			} else if (!currentValue.equals(previousValue)) {
+				// the property may have been in the overflow of the previous map before it became a slot
+				String key = current.getSchema().keyAt(slot);
+				if ((previousValue != null || !currentValue.equals(previous.get(key))) && !ignoredKeys.test(key)) {
+					changedKeys.add(key);
+				}
+			}
+		}
+		for (Map.Entry<String, String> entry : current.getOverflow().entrySet()) {
+			if (!entry.getValue().equals(previous.get(entry.getKey())) && !ignoredKeys.test(entry.getKey())) {
+				changedKeys.add(entry.getKey());
+			}
+		}
+		for (String key : previous.getOverflow().keySet()) {
+			if (!current.containsKey(key) && !ignoredKeys.test(key)) {
+				removedKeys.add(key);
+			}
+		}
+		return new PropertyDelta(changedKeys, removedKeys);
+	}
+
+	/**
+	 * Retrieves {@link #changedKeys}
+	 *
+	 * @return value of {@link #changedKeys}
+	 */
+	public Set<String> getChangedKeys() {
+		return changedKeys;
+	}
+
+	/**
+	 * Retrieves {@link #removedKeys}
+	 *
+	 * @return value of {@link #removedKeys}
+	 */
+	public Set<String> getRemovedKeys() {
+		return removedKeys;
+	}
+
+	/**
+	 * Retrieves the number of changed and removed keys
+	 *
+	 * @return number of changes
+	 */
+	public int getChangeCount() {
+		return changedKeys.size() + removedKeys.size();
+	}
+
+	/**
+	 * Check whether there is no change
+	 *
+	 * @return true if no key was changed or removed
+	 */
+	public boolean isEmpty() {
+		return changedKeys.isEmpty() && removedKeys.isEmpty();
+	}
+}
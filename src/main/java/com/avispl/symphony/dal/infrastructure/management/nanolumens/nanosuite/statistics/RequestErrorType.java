@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import java.net.SocketTimeoutException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import javax.security.auth.login.FailedLoginException;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+
+/**
+ * RequestErrorType represents the cause of a failed request to NanoSuite
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public enum RequestErrorType {
+	TIMEOUT("Timeout"),
+	UNAUTHORIZED("Unauthorized"),
+	SERVER_ERROR("ServerError"),
+	PARSE_ERROR("ParseError"),
+	OTHER("Other");
+
+	private final String name;
+
+	RequestErrorType(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Classifies the exception thrown by a request
+	 *
+	 * @param exception exception thrown by the request
+	 * @return type of the error
+	 */
+	public static RequestErrorType of(Throwable exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof FailedLoginException) {
+				return UNAUTHORIZED;
+			}
+			if (cause instanceof CommandFailureException) {
+				int statusCode = ((CommandFailureException) cause).getStatusCode();
+				if (statusCode == 401) {
+					return UNAUTHORIZED;
+				}
+				if (statusCode >= 500) {
+					return SERVER_ERROR;
+				}
+			}
+			if (cause instanceof SocketTimeoutException || cause instanceof ConnectTimeoutException) {
+				return TIMEOUT;
+			}
+			if (cause instanceof JsonProcessingException || cause instanceof HttpMessageNotReadableException) {
+				return PARSE_ERROR;
+			}
+		}
+		return OTHER;
+	}
+}
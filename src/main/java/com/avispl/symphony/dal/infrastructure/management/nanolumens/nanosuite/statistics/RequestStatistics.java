@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * RequestStatistics holds the latency histogram and the error counters of a single endpoint group
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class RequestStatistics {
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final AtomicLongArray errors = new AtomicLongArray(RequestErrorType.values().length);
+
+	/**
+	 * Records the latency of a request
+	 *
+	 * @param latencyMillis latency in milliseconds
+	 */
+	public void recordLatency(long latencyMillis) {
+		latency.record(latencyMillis);
+	}
+
+	/**
+	 * Records a failed request
+	 *
+	 * @param errorType cause of the failure
+	 */
+	public void recordError(RequestErrorType errorType) {
+		errors.incrementAndGet(errorType.ordinal());
+	}
+
+	/**
+	 * Retrieves {@link #latency}
+	 *
+	 * @return value of {@link #latency}
+	 */
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Retrieves the number of failed requests of the given cause
+	 *
+	 * @param errorType cause of the failure
+	 * @return number of failed requests
+	 */
+	public long getErrorCount(RequestErrorType errorType) {
+		return errors.get(errorType.ordinal());
+	}
+
+	/**
+	 * Clears the latency histogram and the error counters
+	 */
+	public void reset() {
+		latency.reset();
+		for (int i = 0; i < errors.length(); i++) {
+			errors.set(i, 0L);
+		}
+	}
+}
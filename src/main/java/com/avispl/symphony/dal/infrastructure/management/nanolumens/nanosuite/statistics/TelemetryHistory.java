@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TelemetryHistory holds a {@link MetricRingBuffer} per screen and metric series (receiver card and metric).
+ * The number of series is capped, so the total memory used is bounded by the series limit times the buffer capacity.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TelemetryHistory {
+	private final Map<String, Map<String, MetricRingBuffer>> history = new ConcurrentHashMap<>();
+	private final AtomicInteger seriesCount = new AtomicInteger();
+	private final int capacity;
+	private final int maxSeries;
+
+	/**
+	 * Constructs a new instance of TelemetryHistory
+	 *
+	 * @param capacity number of samples kept per series
+	 * @param maxSeries maximum number of series tracked, samples of new series are dropped once it is reached
+	 */
+	public TelemetryHistory(int capacity, int maxSeries) {
+		this.capacity = capacity;
+		this.maxSeries = maxSeries;
+	}
+
+	/**
+	 * Records a sample of a series
+	 *
+	 * @param screenName name of the screen
+	 * @param series series key within the screen
+	 * @param timestamp epoch milliseconds of the sample
+	 * @param value sample value
+	 */
+	public void record(String screenName, String series, long timestamp, double value) {
+		Map<String, MetricRingBuffer> screenHistory = history.computeIfAbsent(screenName, key -> new ConcurrentHashMap<>());
+		MetricRingBuffer buffer = screenHistory.get(series);
+		if (buffer == null) {
+			if (seriesCount.incrementAndGet() > maxSeries) {
+				seriesCount.decrementAndGet();
+				return;
+			}
+			MetricRingBuffer created = new MetricRingBuffer(capacity);
+			buffer = screenHistory.putIfAbsent(series, created);
+			if (buffer == null) {
+				buffer = created;
+			} else {
+				seriesCount.decrementAndGet();
+			}
+		}
+		buffer.record(timestamp, value);
+	}
+
+	/**
+	 * Retrieves the buffer of a series
+	 *
+	 * @param screenName name of the screen
+	 * @param series series key within the screen
+	 * @return buffer of the series, or null if it is not tracked
+	 */
+	public MetricRingBuffer get(String screenName, String series) {
+		Map<String, MetricRingBuffer> screenHistory = history.get(screenName);
+		return screenHistory == null ? null : screenHistory.get(series);
+	}
+
+	/**
+	 * Drops all series of a screen
+	 *
+	 * @param screenName name of the screen
+	 */
+	public void remove(String screenName) {
+		Map<String, MetricRingBuffer> screenHistory = history.remove(screenName);
+		if (screenHistory != null) {
+			seriesCount.addAndGet(-screenHistory.size());
+		}
+	}
+
+	/**
+	 * Moves all series of a screen to its new name, dropping the series already held under the new name
+	 *
+	 * @param screenName previous name of the screen
+	 * @param newScreenName new name of the screen
+	 */
+	public void rename(String screenName, String newScreenName) {
+		Map<String, MetricRingBuffer> screenHistory = history.remove(screenName);
+		remove(newScreenName);
+		if (screenHistory != null) {
+			history.put(newScreenName, screenHistory);
+		}
+	}
+
+	/**
+	 * Drops all series
+	 */
+	public void clear() {
+		history.clear();
+		seriesCount.set(0);
+	}
+}
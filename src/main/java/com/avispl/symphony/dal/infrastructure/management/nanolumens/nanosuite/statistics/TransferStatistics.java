@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TransferStatistics counts the responses received from NanoSuite and their size, as received on the wire and once decoded.
+ * Both sizes are the same for responses that are not compressed.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TransferStatistics {
+	private final LongAdder responses = new LongAdder();
+	private final LongAdder compressedResponses = new LongAdder();
+	private final LongAdder receivedBytes = new LongAdder();
+	private final LongAdder decodedBytes = new LongAdder();
+
+	/**
+	 * Counts a response
+	 *
+	 * @param compressed whether the response body is compressed
+	 */
+	public void recordResponse(boolean compressed) {
+		responses.increment();
+		if (compressed) {
+			compressedResponses.increment();
+		}
+	}
+
+	/**
+	 * Adds bytes read from the wire
+	 *
+	 * @param bytes number of bytes
+	 */
+	public void addReceivedBytes(long bytes) {
+		receivedBytes.add(bytes);
+	}
+
+	/**
+	 * Adds bytes handed over to the reader of the response once decoded
+	 *
+	 * @param bytes number of bytes
+	 */
+	public void addDecodedBytes(long bytes) {
+		decodedBytes.add(bytes);
+	}
+
+	/**
+	 * Retrieves the number of responses
+	 *
+	 * @return number of responses
+	 */
+	public long getResponses() {
+		return responses.sum();
+	}
+
+	/**
+	 * Retrieves the number of compressed responses
+	 *
+	 * @return number of compressed responses
+	 */
+	public long getCompressedResponses() {
+		return compressedResponses.sum();
+	}
+
+	/**
+	 * Retrieves the number of bytes read from the wire
+	 *
+	 * @return number of bytes
+	 */
+	public long getReceivedBytes() {
+		return receivedBytes.sum();
+	}
+
+	/**
+	 * Retrieves the number of decoded bytes
+	 *
+	 * @return number of bytes
+	 */
+	public long getDecodedBytes() {
+		return decodedBytes.sum();
+	}
+
+	/**
+	 * Retrieves the ratio of the decoded size to the size received on the wire
+	 *
+	 * @return compression ratio, 1 if nothing was received yet
+	 */
+	public double getCompressionRatio() {
+		long received = receivedBytes.sum();
+		return received == 0 ? 1 : (double) decodedBytes.sum() / received;
+	}
+
+	/**
+	 * Clears all counters
+	 */
+	public void reset() {
+		responses.reset();
+		compressedResponses.reset();
+		receivedBytes.reset();
+		decodedBytes.reset();
+	}
+}
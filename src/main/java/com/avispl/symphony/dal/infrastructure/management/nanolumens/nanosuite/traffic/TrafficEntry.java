@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.traffic;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * TrafficEntry is a single recorded NanoSuite response
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TrafficEntry {
+	private long offset;
+	private long latency;
+	private String uri;
+	private int status;
+	private JsonNode body;
+
+	/**
+	 * Retrieves {@link #offset}
+	 *
+	 * @return milliseconds between the start of the capture and the request
+	 */
+	public long getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Sets {@link #offset} value
+	 *
+	 * @param offset new value of {@link #offset}
+	 */
+	public void setOffset(long offset) {
+		this.offset = offset;
+	}
+
+	/**
+	 * Retrieves {@link #latency}
+	 *
+	 * @return milliseconds the response took
+	 */
+	public long getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Sets {@link #latency} value
+	 *
+	 * @param latency new value of {@link #latency}
+	 */
+	public void setLatency(long latency) {
+		this.latency = latency;
+	}
+
+	/**
+	 * Retrieves {@link #uri}
+	 *
+	 * @return uri of the request, relative to the NanoSuite host
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Sets {@link #uri} value
+	 *
+	 * @param uri new value of {@link #uri}
+	 */
+	public void setUri(String uri) {
+		this.uri = uri;
+	}
+
+	/**
+	 * Retrieves {@link #status}
+	 *
+	 * @return HTTP status of the response
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * Sets {@link #status} value
+	 *
+	 * @param status new value of {@link #status}
+	 */
+	public void setStatus(int status) {
+		this.status = status;
+	}
+
+	/**
+	 * Retrieves {@link #body}
+	 *
+	 * @return sanitized body of the response, or null if it had none
+	 */
+	public JsonNode getBody() {
+		return body;
+	}
+
+	/**
+	 * Sets {@link #body} value
+	 *
+	 * @param body new value of {@link #body}
+	 */
+	public void setBody(JsonNode body) {
+		this.body = body;
+	}
+}
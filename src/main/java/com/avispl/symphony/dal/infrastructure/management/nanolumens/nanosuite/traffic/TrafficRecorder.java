@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.traffic;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * TrafficRecorder appends the NanoSuite responses to a JSON lines file, one {@link TrafficEntry} per line, so they can be
+ * replayed later. Bodies are sanitized before they are written: values of the sensitive fields are masked and the
+ * NanoSuite host name is replaced wherever it appears. Request headers, and so the ISAAC token, are never recorded.
+ * Recording stops once the maximum number of entries is reached.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TrafficRecorder implements AutoCloseable {
+	/**
+	 * Value written in place of the sanitized values
+	 */
+	public static final String MASK = "***";
+
+	/**
+	 * Value written in place of the NanoSuite host name
+	 */
+	public static final String HOST_MASK = "isaac-host";
+
+	private static final Set<String> SENSITIVE_FIELDS = new HashSet<>(Arrays.asList("systemHostname", "hostname", "ipAddress", "macAddress", "token", "password"));
+
+	private final ObjectMapper objectMapper;
+	private final Path file;
+	private final String host;
+	private final long maxEntries;
+	private final long startTime = System.currentTimeMillis();
+	private final AtomicLong entries = new AtomicLong();
+	private final BufferedWriter writer;
+
+	/**
+	 * Constructs a new instance of TrafficRecorder
+	 *
+	 * @param objectMapper mapper used to write the entries
+	 * @param file file the entries are appended to
+	 * @param host NanoSuite host name to sanitize
+	 * @param maxEntries maximum number of entries recorded
+	 * @throws IOException if the file cannot be opened
+	 */
+	public TrafficRecorder(ObjectMapper objectMapper, Path file, String host, long maxEntries) throws IOException {
+		this.objectMapper = objectMapper;
+		this.file = file;
+		this.host = host;
+		this.maxEntries = maxEntries;
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Retrieves {@link #file}
+	 *
+	 * @return value of {@link #file}
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Retrieves the number of entries recorded
+	 *
+	 * @return number of entries
+	 */
+	public long getEntryCount() {
+		return Math.min(entries.get(), maxEntries);
+	}
+
+	/**
+	 * Records a response
+	 *
+	 * @param uri uri of the request
+	 * @param status HTTP status of the response
+	 * @param latency milliseconds the response took
+	 * @param body body of the response, it is not modified
+	 * @throws IOException if the entry cannot be written
+	 */
+	public void record(String uri, int status, long latency, JsonNode body) throws IOException {
+		if (entries.incrementAndGet() > maxEntries) {
+			return;
+		}
+		TrafficEntry entry = new TrafficEntry();
+		entry.setOffset(System.currentTimeMillis() - startTime - latency);
+		entry.setLatency(latency);
+		entry.setUri(uri);
+		entry.setStatus(status);
+		entry.setBody(body == null ? null : sanitize(body.deepCopy()));
+		String line = objectMapper.writeValueAsString(entry);
+		synchronized (writer) {
+			writer.write(line);
+			writer.newLine();
+			writer.flush();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (writer) {
+			writer.close();
+		}
+	}
+
+	private JsonNode sanitize(JsonNode node) {
+		if (node.isObject()) {
+			Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				if (SENSITIVE_FIELDS.contains(field.getKey()) && field.getValue().isValueNode()) {
+					field.setValue(new TextNode(MASK));
+				} else {
+					field.setValue(sanitize(field.getValue()));
+				}
+			}
+		} else if (node.isArray()) {
+			ArrayNode array = (ArrayNode) node;
+			for (int i = 0; i < array.size(); i++) {
+				array.set(i, sanitize(array.get(i)));
+			}
+		} else if (node.isTextual() && host != null && !host.isEmpty() && node.asText().contains(host)) {
+			return new TextNode(node.asText().replace(host, HOST_MASK));
+		}
+		return node;
+	}
+}
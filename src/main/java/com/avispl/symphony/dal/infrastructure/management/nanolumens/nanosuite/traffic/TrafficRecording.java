@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.traffic;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * TrafficRecording holds the entries of a file written by {@link TrafficRecorder}, grouped by uri.
+ * Each call to {@link #next(String)} returns the following response of the uri, starting over once all were returned,
+ * so a recording of a few monitoring cycles can be replayed for as long as needed.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class TrafficRecording {
+	private final Map<String, List<TrafficEntry>> entries;
+	private final Map<String, AtomicInteger> positions = new ConcurrentHashMap<>();
+
+	private TrafficRecording(Map<String, List<TrafficEntry>> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Loads a recording
+	 *
+	 * @param objectMapper mapper used to read the entries
+	 * @param file file written by {@link TrafficRecorder}
+	 * @return loaded recording
+	 * @throws IOException if the file cannot be read
+	 */
+	public static TrafficRecording load(ObjectMapper objectMapper, Path file) throws IOException {
+		Map<String, List<TrafficEntry>> entries = new LinkedHashMap<>();
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isEmpty()) {
+					continue;
+				}
+				TrafficEntry entry = objectMapper.readValue(line, TrafficEntry.class);
+				entries.computeIfAbsent(entry.getUri(), key -> new ArrayList<>()).add(entry);
+			}
+		}
+		return new TrafficRecording(entries);
+	}
+
+	/**
+	 * Retrieves the next recorded response of a uri
+	 *
+	 * @param uri uri of the request
+	 * @return recorded response, or null if the uri was never recorded
+	 */
+	public TrafficEntry next(String uri) {
+		List<TrafficEntry> uriEntries = entries.get(uri);
+		if (uriEntries == null) {
+			return null;
+		}
+		int position = positions.computeIfAbsent(uri, key -> new AtomicInteger()).getAndIncrement();
+		return uriEntries.get(Math.floorMod(position, uriEntries.size()));
+	}
+
+	/**
+	 * Retrieves the recorded uris
+	 *
+	 * @return unmodifiable set of uris
+	 */
+	public Set<String> getUris() {
+		return Collections.unmodifiableSet(entries.keySet());
+	}
+
+	/**
+	 * Retrieves the number of recorded responses
+	 *
+	 * @return number of responses
+	 */
+	public int size() {
+		return entries.values().stream().mapToInt(List::size).sum();
+	}
+}
@@ -0,0 +1,310 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.transfer;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.util.Locale;
+import java.util.function.LongConsumer;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.entity.DeflateInputStream;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent.RequestHedger;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.TransferStatistics;
+
+/**
+ * ContentDecodingHttpClient wraps the HTTP client of the communicator to ask NanoSuite for gzip or deflate compressed
+ * responses. The responses are decoded here instead of by the wrapped client, so the compressed bytes received on the wire
+ * and the decoded bytes can both be counted into {@link TransferStatistics}.
+ * Decoding is done while the body is read, so a compressed response is never held in memory as a whole.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class ContentDecodingHttpClient extends CloseableHttpClient implements Configurable {
+	/**
+	 * Encodings advertised in the Accept-Encoding header of each request
+	 */
+	public static final String ACCEPTED_ENCODINGS = "gzip, deflate";
+
+	private final CloseableHttpClient httpClient;
+	private final TransferStatistics transferStatistics;
+
+	/**
+	 * Constructs a new instance of ContentDecodingHttpClient
+	 *
+	 * @param httpClient client sending the requests
+	 * @param transferStatistics statistics the responses are counted into
+	 */
+	public ContentDecodingHttpClient(CloseableHttpClient httpClient, TransferStatistics transferStatistics) {
+		this.httpClient = httpClient;
+		this.transferStatistics = transferStatistics;
+	}
+
+	/**
+	 * Retrieves {@link #httpClient}
+	 *
+	 * @return value of {@link #httpClient}
+	 */
+	public CloseableHttpClient getHttpClient() {
+		return httpClient;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context) throws IOException, ClientProtocolException {
+		if (!request.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+			request.addHeader(HttpHeaders.ACCEPT_ENCODING, ACCEPTED_ENCODINGS);
+		}
+		if (request instanceof HttpRequestBase) {
+			// the wrapped client would otherwise decode the response itself and hide its compressed size
+			HttpRequestBase requestBase = (HttpRequestBase) request;
+			requestBase.setConfig(RequestConfig.copy(getRequestConfig(requestBase, context)).setContentCompressionEnabled(false).build());
+			// a hedged request answered first by its hedge, or the other way round, is aborted instead of being read to the end
+			RequestHedger.onCancel(requestBase::abort);
+		}
+		CloseableHttpResponse response = httpClient.execute(target, request, context);
+		HttpEntity entity = response.getEntity();
+		if (entity == null) {
+			return response;
+		}
+		Header contentEncoding = entity.getContentEncoding();
+		String encoding = contentEncoding == null ? null : contentEncoding.getValue().trim().toLowerCase(Locale.ROOT);
+		boolean compressed = "gzip".equals(encoding) || "x-gzip".equals(encoding) || "deflate".equals(encoding);
+		transferStatistics.recordResponse(compressed);
+		response.setEntity(new CountingEntity(entity, compressed ? encoding : null));
+		if (compressed) {
+			response.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+			response.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+			response.removeHeaders(HttpHeaders.CONTENT_MD5);
+		}
+		return response;
+	}
+
+	/**
+	 * Retrieves the configuration the request would be sent with
+	 *
+	 * @param request request to send
+	 * @param context context of the request
+	 * @return configuration of the request, the context or the wrapped client, whichever is set first
+	 */
+	private RequestConfig getRequestConfig(HttpRequestBase request, HttpContext context) {
+		if (request.getConfig() != null) {
+			return request.getConfig();
+		}
+		Object config = context == null ? null : context.getAttribute(HttpClientContext.REQUEST_CONFIG);
+		if (config instanceof RequestConfig) {
+			return (RequestConfig) config;
+		}
+		RequestConfig defaultConfig = getConfig();
+		return defaultConfig == null ? RequestConfig.DEFAULT : defaultConfig;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public RequestConfig getConfig() {
+		return httpClient instanceof Configurable ? ((Configurable) httpClient).getConfig() : null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("deprecation")
+	public HttpParams getParams() {
+		return httpClient.getParams();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("deprecation")
+	public ClientConnectionManager getConnectionManager() {
+		return httpClient.getConnectionManager();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws IOException {
+		httpClient.close();
+	}
+
+	/**
+	 * Entity counting the bytes of the wrapped entity, and decoding them if it is compressed
+	 */
+	private class CountingEntity extends HttpEntityWrapper {
+		private final String encoding;
+		private InputStream content;
+
+		CountingEntity(HttpEntity entity, String encoding) {
+			super(entity);
+			this.encoding = encoding;
+		}
+
+		@Override
+		public InputStream getContent() throws IOException {
+			if (content == null) {
+				InputStream received = new CountingInputStream(wrappedEntity.getContent(), transferStatistics::addReceivedBytes);
+				content = encoding == null ? new CountingInputStream(received, transferStatistics::addDecodedBytes)
+						: new CountingInputStream(new DecodingInputStream(received, encoding), transferStatistics::addDecodedBytes);
+			}
+			return content;
+		}
+
+		@Override
+		public long getContentLength() {
+			return encoding == null ? wrappedEntity.getContentLength() : -1;
+		}
+
+		@Override
+		public Header getContentEncoding() {
+			return encoding == null ? wrappedEntity.getContentEncoding() : null;
+		}
+
+		@Override
+		public boolean isStreaming() {
+			return true;
+		}
+
+		@Override
+		public boolean isRepeatable() {
+			return false;
+		}
+
+		@Override
+		public void writeTo(OutputStream outputStream) throws IOException {
+			try (InputStream inputStream = getContent()) {
+				byte[] buffer = new byte[4096];
+				int read;
+				while ((read = inputStream.read(buffer)) != -1) {
+					outputStream.write(buffer, 0, read);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Stream passing the number of bytes read to a counter
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+		private final LongConsumer counter;
+
+		CountingInputStream(InputStream inputStream, LongConsumer counter) {
+			super(inputStream);
+			this.counter = counter;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int value = super.read();
+			if (value != -1) {
+				counter.accept(1);
+			}
+			return value;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			int read = super.read(buffer, offset, length);
+			if (read > 0) {
+				counter.accept(read);
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long length) throws IOException {
+			long skipped = super.skip(length);
+			if (skipped > 0) {
+				counter.accept(skipped);
+			}
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
+
+	/**
+	 * Stream decoding a gzip or deflate body. The decoder is created on the first read,
+	 * so that an empty body, which carries no compression header, reads as empty instead of failing.
+	 */
+	private static class DecodingInputStream extends InputStream {
+		private final PushbackInputStream received;
+		private final String encoding;
+		private InputStream decoded;
+
+		DecodingInputStream(InputStream received, String encoding) {
+			this.received = new PushbackInputStream(received, 1);
+			this.encoding = encoding;
+		}
+
+		private InputStream decoded() throws IOException {
+			if (decoded == null) {
+				int first = received.read();
+				if (first == -1) {
+					decoded = received;
+				} else {
+					received.unread(first);
+					decoded = "deflate".equals(encoding) ? new DeflateInputStream(received) : new GZIPInputStream(received);
+				}
+			}
+			return decoded;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return decoded().read();
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			return decoded().read(buffer, offset, length);
+		}
+
+		@Override
+		public int available() throws IOException {
+			return decoded == null ? 0 : decoded.available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (decoded != null) {
+				decoded.close();
+			}
+			received.close();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.transfer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * JsonResponse holds the JSON tree of a response body parsed by {@link JsonResponseConverter},
+ * along with the time spent reading and parsing the body
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class JsonResponse {
+	private final JsonNode body;
+	private final long readNanos;
+
+	/**
+	 * Constructs a new instance of JsonResponse
+	 *
+	 * @param body parsed body, or null if the body was empty
+	 * @param readNanos nanoseconds spent reading and parsing the body
+	 */
+	public JsonResponse(JsonNode body, long readNanos) {
+		this.body = body;
+		this.readNanos = readNanos;
+	}
+
+	/**
+	 * Retrieves {@link #body}
+	 *
+	 * @return value of {@link #body}
+	 */
+	public JsonNode getBody() {
+		return body;
+	}
+
+	/**
+	 * Retrieves {@link #readNanos}
+	 *
+	 * @return value of {@link #readNanos}
+	 */
+	public long getReadNanos() {
+		return readNanos;
+	}
+}
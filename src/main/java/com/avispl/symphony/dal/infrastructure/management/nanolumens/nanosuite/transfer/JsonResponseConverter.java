@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.transfer;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JsonResponseConverter parses a response body into a JSON tree straight from the response stream,
+ * so the body is decoded and parsed as it is received instead of being buffered as a whole first
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class JsonResponseConverter extends AbstractHttpMessageConverter<JsonResponse> {
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Constructs a new instance of JsonResponseConverter
+	 *
+	 * @param objectMapper mapper used to read the body
+	 */
+	public JsonResponseConverter(ObjectMapper objectMapper) {
+		super(MediaType.ALL);
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return JsonResponse.class == clazz;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean canWrite(MediaType mediaType) {
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected JsonResponse readInternal(Class<? extends JsonResponse> clazz, HttpInputMessage inputMessage) throws IOException {
+		long startTime = System.nanoTime();
+		JsonNode body;
+		try {
+			body = objectMapper.readTree(inputMessage.getBody());
+		} catch (JsonProcessingException e) {
+			throw new HttpMessageNotReadableException("Unable to parse the response: " + e.getOriginalMessage(), e, inputMessage);
+		}
+		return new JsonResponse(body == null || body.isMissingNode() ? null : body, System.nanoTime() - startTime);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void writeInternal(JsonResponse response, HttpOutputMessage outputMessage) throws HttpMessageNotWritableException {
+		throw new HttpMessageNotWritableException("JSON responses are read only");
+	}
+}
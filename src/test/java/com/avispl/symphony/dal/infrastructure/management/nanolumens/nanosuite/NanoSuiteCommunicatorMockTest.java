@@ -0,0 +1,813 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.security.auth.login.FailedLoginException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.CompactPropertyMap;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.PropertySchema;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent.FetchExecutors;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock.MockIsaacServer;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock.NovaStarPayloadGenerator;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.PropertyDelta;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.traffic.TrafficRecording;
+
+/**
+ * NanoSuiteCommunicatorMockTest runs the adapter against {@link MockIsaacServer}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class NanoSuiteCommunicatorMockTest {
+	private static final String TOKEN = "mock-token";
+
+	@TempDir
+	Path workDirectory;
+
+	private MockIsaacServer server;
+	private NanoSuiteCommunicator nanoSuiteCommunicator;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = new MockIsaacServer().withFleet(20, 8, 1).withToken(TOKEN);
+		nanoSuiteCommunicator = createCommunicator(null);
+	}
+
+	private NanoSuiteCommunicator createCommunicator(String trafficCaptureDirectory) throws Exception {
+		NanoSuiteCommunicator communicator = new NanoSuiteCommunicator();
+		communicator.setTrafficCaptureDirectory(trafficCaptureDirectory);
+		return configure(communicator);
+	}
+
+	private NanoSuiteCommunicator configure(NanoSuiteCommunicator communicator) throws Exception {
+		communicator.setProtocol("http");
+		communicator.setHost(server.getHost());
+		communicator.setPort(server.getPort());
+		communicator.setPassword(TOKEN);
+		communicator.setSnapshotDirectory(workDirectory.resolve("snapshot").toString());
+		communicator.init();
+		return communicator;
+	}
+
+	@AfterEach
+	void destroy() {
+		nanoSuiteCommunicator.destroy();
+		server.close();
+	}
+
+	/**
+	 * Test aggregator statistics retrieved from the settings endpoint
+	 */
+	@Test
+	void testGetMultipleStatistics() throws Exception {
+		ExtendedStatistics extendedStatistics = (ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0);
+		Map<String, String> statistics = extendedStatistics.getStatistics();
+		assertEquals("ISAAC Mock", statistics.get("SystemName"));
+		assertEquals("1", statistics.get("RequestSettings#Requests"));
+		assertEquals("1", statistics.get("RequestScreenAsset#Requests"));
+	}
+
+	/**
+	 * Test every screen of the fleet is reported as an aggregated device after a monitoring cycle
+	 */
+	@Test
+	void testRetrieveMultipleStatistics() throws Exception {
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		List<AggregatedDevice> aggregatedDevices = nanoSuiteCommunicator.retrieveMultipleStatistics();
+		assertEquals(20, aggregatedDevices.size());
+		AggregatedDevice device = aggregatedDevices.stream()
+				.filter(aggregatedDevice -> NovaStarPayloadGenerator.screenId(3).equals(aggregatedDevice.getDeviceId())).findFirst().orElse(null);
+		assertEquals(NovaStarPayloadGenerator.screenName(3), device.getDeviceName());
+		assertEquals("false", device.getProperties().get("DataStale"));
+	}
+
+	/**
+	 * Test property names and values repeated across devices share one instance, unless the string pool is disabled,
+	 * and the pool never grows beyond its cap
+	 */
+	@Test
+	void testStringPool() throws Exception {
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		List<AggregatedDevice> aggregatedDevices = nanoSuiteCommunicator.retrieveMultipleStatistics();
+		Map<String, String> first = aggregatedDevices.get(0).getProperties();
+		Map<String, String> second = aggregatedDevices.get(1).getProperties();
+		String key = first.keySet().stream().filter(name -> name.startsWith("ReceiverCard1#")).findFirst().orElse(null);
+		assertSame(keyInstance(first, key), keyInstance(second, key));
+		assertSame(first.get("SubsystemName"), second.get("SubsystemName"));
+
+		nanoSuiteCommunicator.destroy();
+		nanoSuiteCommunicator.setStringPoolMaxEntries("0");
+		nanoSuiteCommunicator.init();
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		aggregatedDevices = nanoSuiteCommunicator.retrieveMultipleStatistics();
+		assertNotSame(aggregatedDevices.get(0).getProperties().get("SubsystemName"), aggregatedDevices.get(1).getProperties().get("SubsystemName"));
+
+		nanoSuiteCommunicator.destroy();
+		nanoSuiteCommunicator.setStringPoolMaxEntries("10");
+		nanoSuiteCommunicator.init();
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("10", statistics.get("MonitoringCycle#StringPoolEntries"));
+	}
+
+	/**
+	 * Test devices of the same shape store their properties in compact maps of a shared schema,
+	 * which behave like the hash maps they replace
+	 */
+	@Test
+	void testCompactProperties() throws Exception {
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		List<AggregatedDevice> aggregatedDevices = nanoSuiteCommunicator.retrieveMultipleStatistics();
+		CompactPropertyMap first = (CompactPropertyMap) aggregatedDevices.get(0).getProperties();
+		CompactPropertyMap second = (CompactPropertyMap) aggregatedDevices.get(1).getProperties();
+		assertSame(first.getSchema(), second.getSchema());
+
+		Map<String, String> copy = new HashMap<>(first);
+		assertEquals(copy, first);
+		assertEquals(copy.hashCode(), first.hashCode());
+		assertEquals(copy.get("SubsystemName"), first.get("SubsystemName"));
+		assertEquals(null, first.get("Unknown"));
+
+		first.put("Unknown", "value");
+		assertEquals("value", first.get("Unknown"));
+		assertEquals(copy.size() + 1, first.size());
+		assertEquals("value", first.remove("Unknown"));
+		assertEquals(copy, first);
+		assertFalse(second.containsKey("Unknown"));
+	}
+
+	/**
+	 * Test every property is reported as changed on the first populated device list, and a screen that did not change
+	 * has an empty delta on the next one even though its data got older
+	 */
+	@Test
+	void testPropertyDeltas() throws Exception {
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		List<AggregatedDevice> aggregatedDevices = nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList();
+		Map<String, PropertyDelta> deltas = nanoSuiteCommunicator.retrievePropertyDeltas();
+		assertEquals(20, deltas.size());
+		AggregatedDevice device = aggregatedDevices.get(0);
+		Set<String> changedKeys = deltas.get(device.getDeviceId()).getChangedKeys();
+		assertTrue(changedKeys.contains("SubsystemName"));
+		assertTrue(changedKeys.contains("DataStale"));
+		assertFalse(changedKeys.contains("LastUpdated"));
+		assertFalse(changedKeys.contains("DataAgeSeconds"));
+		assertTrue(device.getProperties().keySet().containsAll(changedKeys));
+
+		TimeUnit.MILLISECONDS.sleep(1100);
+		nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList();
+		deltas = nanoSuiteCommunicator.retrievePropertyDeltas();
+		assertEquals(20, deltas.size());
+		for (Map.Entry<String, PropertyDelta> delta : deltas.entrySet()) {
+			assertTrue(delta.getValue().isEmpty(), delta.getKey() + " changed " + delta.getValue().getChangedKeys());
+		}
+	}
+
+	/**
+	 * Test a full monitoring cycle that re-fetches unchanged screens yields empty deltas, even with rolling
+	 * telemetry windows whose values are excluded from the delta
+	 */
+	@Test
+	void testPropertyDeltasAcrossCycles() throws Exception {
+		nanoSuiteCommunicator.destroy();
+		nanoSuiteCommunicator = new NanoSuiteCommunicator();
+		nanoSuiteCommunicator.setTelemetryWindows("5,15");
+		configure(nanoSuiteCommunicator);
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList();
+		nanoSuiteCommunicator.retrievePropertyDeltas();
+
+		TimeUnit.MILLISECONDS.sleep(1100);
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList();
+		Map<String, PropertyDelta> deltas = nanoSuiteCommunicator.retrievePropertyDeltas();
+		assertEquals(20, deltas.size());
+		for (Map.Entry<String, PropertyDelta> delta : deltas.entrySet()) {
+			assertTrue(delta.getValue().isEmpty(), delta.getKey() + " changed " + delta.getValue().getChangedKeys());
+		}
+	}
+
+	/**
+	 * Test rolling properties are only reported for the configured windows, and none by default
+	 */
+	@Test
+	void testRollingWindows() throws Exception {
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		Map<String, String> properties = nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList().get(0).getProperties();
+		assertTrue(hasReceiverProperties(properties));
+		assertFalse(properties.keySet().stream().anyMatch(name -> name.matches(".*(Min|Max|Avg)\\d+m")), properties.keySet().toString());
+
+		nanoSuiteCommunicator.destroy();
+		nanoSuiteCommunicator = new NanoSuiteCommunicator();
+		nanoSuiteCommunicator.setTelemetryWindows("15");
+		configure(nanoSuiteCommunicator);
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		properties = nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList().get(0).getProperties();
+		Set<String> names = properties.keySet();
+		for (String statistic : Arrays.asList("Min", "Max", "Avg")) {
+			assertTrue(names.stream().anyMatch(name -> name.startsWith("ReceiverCard1#") && name.endsWith(statistic + "15m")), statistic);
+			assertFalse(names.stream().anyMatch(name -> name.endsWith(statistic + "5m") && !name.endsWith(statistic + "15m")), statistic);
+		}
+	}
+
+	/**
+	 * Test the schema only holds the properties shared by the screens, so it stays the same size however many times
+	 * the devices are populated and however many screens are added
+	 */
+	@Test
+	void testCompactPropertiesAcrossCycles() throws Exception {
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		CompactPropertyMap properties = (CompactPropertyMap) nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList().get(0).getProperties();
+		PropertySchema schema = properties.getSchema();
+		int schemaSize = schema.size();
+		assertTrue(schemaSize > 0);
+		for (int i = 0; i < 3; i++) {
+			nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList();
+			assertEquals(schemaSize, schema.size());
+		}
+
+		server.withFleet(40, 8, 1);
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		for (int i = 0; i < 3; i++) {
+			List<AggregatedDevice> aggregatedDevices = nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList();
+			assertEquals(40, aggregatedDevices.size());
+			assertEquals(schemaSize, schema.size());
+			for (AggregatedDevice device : aggregatedDevices) {
+				assertTrue(((CompactPropertyMap) device.getProperties()).slotCount() <= schemaSize);
+			}
+		}
+	}
+
+	private static String keyInstance(Map<String, String> properties, String key) {
+		return properties.keySet().stream().filter(key::equals).findFirst().orElse(null);
+	}
+
+	/**
+	 * Test gzip and deflate compressed responses are requested, decoded while they are read and counted on the wire and decoded,
+	 * and yield the same devices as uncompressed responses
+	 */
+	@Test
+	void testCompressedResponses() throws Exception {
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		Map<String, Map<String, String>> expected = propertiesByDeviceId(nanoSuiteCommunicator.retrieveMultipleStatistics());
+		assertEquals("gzip, deflate", server.getLastAcceptEncoding());
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("0", statistics.get("Transfer#CompressedResponses"));
+		assertEquals(statistics.get("Transfer#ReceivedBytes"), statistics.get("Transfer#DecodedBytes"));
+
+		for (String encoding : new String[] { "gzip", "deflate" }) {
+			nanoSuiteCommunicator.destroy();
+			server.withCompression(encoding);
+			nanoSuiteCommunicator = createCommunicator(null);
+			nanoSuiteCommunicator.getMultipleStatistics();
+			nanoSuiteCommunicator.populateDeviceDetails();
+			Map<String, Map<String, String>> actual = propertiesByDeviceId(nanoSuiteCommunicator.retrieveMultipleStatistics());
+			assertEquals(expected.keySet(), actual.keySet());
+			for (Map.Entry<String, Map<String, String>> entry : expected.entrySet()) {
+				Map<String, String> properties = actual.get(entry.getKey());
+				Map<String, String> expectedProperties = entry.getValue();
+				Stream.of("LastUpdated", "DataAgeSeconds").forEach(key -> {
+					properties.remove(key);
+					expectedProperties.remove(key);
+				});
+				assertEquals(expectedProperties, properties, encoding);
+			}
+
+			statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+			long responses = Long.parseLong(statistics.get("Transfer#Responses"));
+			assertEquals(responses, Long.parseLong(statistics.get("Transfer#CompressedResponses")), encoding);
+			long receivedBytes = Long.parseLong(statistics.get("Transfer#ReceivedBytes"));
+			long decodedBytes = Long.parseLong(statistics.get("Transfer#DecodedBytes"));
+			assertTrue(receivedBytes > 0 && receivedBytes * 3 < decodedBytes, encoding + ": " + receivedBytes + " of " + decodedBytes);
+			assertTrue(Double.parseDouble(statistics.get("Transfer#CompressionRatio")) > 3, encoding);
+		}
+	}
+
+	private static Map<String, Map<String, String>> propertiesByDeviceId(List<AggregatedDevice> aggregatedDevices) {
+		return aggregatedDevices.stream().collect(Collectors.toMap(AggregatedDevice::getDeviceId, device -> new HashMap<>(device.getProperties())));
+	}
+
+	/**
+	 * Test screens streamed in pages smaller than the fleet are all discovered, and removed screens are dropped
+	 */
+	@Test
+	void testPagedDiscovery() throws Exception {
+		nanoSuiteCommunicator.setDiscoveryPageSize("7");
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		assertEquals(20, nanoSuiteCommunicator.retrieveMultipleStatistics().size());
+
+		server.withFleet(12, 8, 1);
+		nanoSuiteCommunicator.getMultipleStatistics();
+		assertEquals(12, nanoSuiteCommunicator.retrieveMultipleStatistics().size());
+	}
+
+	/**
+	 * Test screens missing from discovery are kept as stale and not fetched until they are missing from screenEvictionCycles
+	 * discoveries, and screens beyond cacheMaxScreens are not cached
+	 */
+	@Test
+	void testScreenEviction() throws Exception {
+		nanoSuiteCommunicator.destroy();
+		nanoSuiteCommunicator = new NanoSuiteCommunicator();
+		nanoSuiteCommunicator.setScreenEvictionCycles("2");
+		nanoSuiteCommunicator.setCacheMaxScreens("16");
+		nanoSuiteCommunicator = configure(nanoSuiteCommunicator);
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("16", statistics.get("Cache#Screens"));
+		assertEquals("4", statistics.get("Cache#RejectedScreens"));
+		nanoSuiteCommunicator.populateDeviceDetails();
+		assertTrue(Long.parseLong(statistics.get("Cache#EstimatedSize(KB)")) > 0);
+
+		server.withFleet(10, 8, 1);
+		statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("16", statistics.get("Cache#Screens"));
+		server.resetCounters();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		assertEquals(10 * 2, server.getRequestCount());
+		List<AggregatedDevice> aggregatedDevices = nanoSuiteCommunicator.retrieveMultipleStatistics();
+		assertEquals(16, aggregatedDevices.size());
+		assertEquals(6, aggregatedDevices.stream().filter(device -> "true".equals(device.getProperties().get("DataStale"))).count());
+
+		statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("10", statistics.get("Cache#Screens"));
+		assertEquals("6", statistics.get("Cache#EvictedScreens"));
+		assertEquals(10, nanoSuiteCommunicator.retrieveMultipleStatistics().size());
+	}
+
+	/**
+	 * Test a renamed screen keeps its device id and its data under the new name,
+	 * and a screen added by a later discovery is fetched without waiting for the next monitoring cycle
+	 */
+	@Test
+	void testDiscoveryReconciliation() throws Exception {
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		String renamedId = NovaStarPayloadGenerator.screenId(3);
+		String addedId = NovaStarPayloadGenerator.screenId(20);
+		String receiverProperty = propertiesByDeviceId(nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList()).get(renamedId).keySet().stream()
+				.filter(name -> name.startsWith("ReceiverCard1#")).findFirst().orElse(null);
+
+		server.withScreenName(3, "Renamed Screen").withFleet(21, 8, 1);
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("21", statistics.get("Discovery#AddedScreens"));
+		assertEquals("1", statistics.get("Discovery#RenamedScreens"));
+		assertEquals("0", statistics.get("Discovery#RemovedScreens"));
+
+		List<AggregatedDevice> aggregatedDevices = nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList();
+		assertEquals(21, aggregatedDevices.size());
+		AggregatedDevice renamed = aggregatedDevices.stream().filter(device -> renamedId.equals(device.getDeviceId())).findFirst().orElse(null);
+		assertEquals("Renamed Screen", renamed.getDeviceName());
+		assertTrue(renamed.getProperties().containsKey(receiverProperty));
+		assertEquals("false", renamed.getProperties().get("DataStale"));
+
+		assertFalse(propertiesByDeviceId(aggregatedDevices).get(addedId).containsKey(receiverProperty));
+
+		// only the added screen is fetched while the loader waits for the next monitoring cycle
+		server.resetCounters();
+		nanoSuiteCommunicator.populateAddedScreens();
+		assertEquals(2, server.getRequestCount());
+		assertTrue(propertiesByDeviceId(nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList()).get(addedId).containsKey(receiverProperty));
+		server.resetCounters();
+		nanoSuiteCommunicator.populateAddedScreens();
+		assertEquals(0, server.getRequestCount());
+	}
+
+	/**
+	 * Test two shards together report every screen of the fleet exactly once, and each only fetches its own screens.
+	 * Shards sharing a snapshot directory each restore their own screens after a restart.
+	 */
+	@Test
+	void testSharding() throws Exception {
+		Map<Integer, Set<String>> screensByShard = new HashMap<>();
+		int reportedDevices = 0;
+		for (int shardIndex = 0; shardIndex < 2; shardIndex++) {
+			NanoSuiteCommunicator shard = createShard(shardIndex);
+			try {
+				shard.getMultipleStatistics();
+				shard.populateDeviceDetails();
+				List<AggregatedDevice> aggregatedDevices = shard.retrieveMultipleStatistics();
+				Map<String, String> statistics = ((ExtendedStatistics) shard.getMultipleStatistics().get(0)).getStatistics();
+				assertEquals("20", statistics.get("Sharding#DiscoveredScreens"));
+				assertEquals(String.valueOf(aggregatedDevices.size()), statistics.get("Sharding#OwnedScreens"));
+				assertEquals(String.valueOf(aggregatedDevices.size()), statistics.get("MonitoringCycle#ScreensRefreshed"));
+				screensByShard.put(shardIndex, aggregatedDevices.stream().map(AggregatedDevice::getDeviceName).collect(Collectors.toSet()));
+				reportedDevices += aggregatedDevices.size();
+				shard.saveCacheSnapshot();
+			} finally {
+				shard.destroy();
+			}
+		}
+		Set<String> reportedScreens = new HashSet<>();
+		screensByShard.values().forEach(reportedScreens::addAll);
+		assertEquals(20, reportedDevices);
+		assertEquals(20, reportedScreens.size());
+		assertTrue(reportedScreens.contains(NovaStarPayloadGenerator.screenName(19)));
+		try (Stream<Path> files = Files.list(workDirectory.resolve("shards"))) {
+			assertEquals(2, files.count());
+		}
+
+		for (int shardIndex = 0; shardIndex < 2; shardIndex++) {
+			NanoSuiteCommunicator shard = createShard(shardIndex);
+			try {
+				List<AggregatedDevice> aggregatedDevices = shard.cloneAndPopulateAggregatedDeviceList();
+				assertEquals(screensByShard.get(shardIndex), aggregatedDevices.stream().map(AggregatedDevice::getDeviceName).collect(Collectors.toSet()));
+				assertTrue(aggregatedDevices.stream().allMatch(device -> "true".equals(device.getProperties().get("DataStale"))));
+			} finally {
+				shard.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Test the cache snapshot is saved at most once per snapshot interval, and neither saved nor restored without a snapshot directory
+	 */
+	@Test
+	void testCacheSnapshotInterval() throws Exception {
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		nanoSuiteCommunicator.saveCacheSnapshot();
+		Path snapshotFile;
+		try (Stream<Path> files = Files.list(workDirectory.resolve("snapshot"))) {
+			snapshotFile = files.findFirst().orElse(null);
+		}
+		assertTrue(snapshotFile != null);
+		Files.delete(snapshotFile);
+		nanoSuiteCommunicator.populateDeviceDetails();
+		nanoSuiteCommunicator.saveCacheSnapshot();
+		assertFalse(Files.exists(snapshotFile));
+
+		// the interval starts over after a restart
+		nanoSuiteCommunicator.destroy();
+		nanoSuiteCommunicator.init();
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		nanoSuiteCommunicator.saveCacheSnapshot();
+		assertTrue(Files.exists(snapshotFile));
+
+		nanoSuiteCommunicator.destroy();
+		nanoSuiteCommunicator.setSnapshotDirectory(null);
+		nanoSuiteCommunicator.init();
+		assertTrue(nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList().isEmpty());
+	}
+
+	private NanoSuiteCommunicator createShard(int shardIndex) throws Exception {
+		NanoSuiteCommunicator shard = new NanoSuiteCommunicator();
+		shard.setProtocol("http");
+		shard.setHost(server.getHost());
+		shard.setPort(server.getPort());
+		shard.setPassword(TOKEN);
+		shard.setSnapshotDirectory(workDirectory.resolve("shards").toString());
+		shard.setShardIndex(String.valueOf(shardIndex));
+		shard.setShardCount("2");
+		shard.init();
+		return shard;
+	}
+
+	/**
+	 * Test the virtual thread mode fetches every screen, on virtual threads if the JVM supports them and on platform threads otherwise
+	 */
+	@Test
+	void testVirtualThreads() throws Exception {
+		nanoSuiteCommunicator.setVirtualThreads("true");
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("20", statistics.get("MonitoringCycle#ScreensRefreshed"));
+		assertEquals(FetchExecutors.isVirtualThreadSupported() ? "Virtual" : "Platform", statistics.get("MonitoringCycle#ThreadMode"));
+	}
+
+	/**
+	 * Test a cycle returns once its time budget is spent, and the screens not refreshed by then keep their previous data as stale
+	 */
+	@Test
+	void testCycleTimeBudget() throws Exception {
+		nanoSuiteCommunicator.setNumberThreads("2");
+		nanoSuiteCommunicator.setCycleTimeBudget("1");
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+
+		// 20 screens of 2 requests of 200ms on 2 threads take 4s
+		server.withLatency(200, 0);
+		long startTime = System.nanoTime();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+		assertTrue(duration < 2000, "Cycle took " + duration + "ms");
+
+		List<AggregatedDevice> aggregatedDevices = nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList();
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		long timedOut = Long.parseLong(statistics.get("MonitoringCycle#ScreensTimedOut"));
+		assertTrue(timedOut >= 10, timedOut + " screens timed out");
+		assertEquals(20, timedOut + Long.parseLong(statistics.get("MonitoringCycle#ScreensRefreshed")));
+		assertEquals(20, aggregatedDevices.size());
+		assertTrue(aggregatedDevices.stream().filter(device -> "true".equals(device.getProperties().get("DataStale"))).count() >= timedOut - 2);
+		assertTrue(aggregatedDevices.stream().allMatch(device -> device.getProperties().keySet().stream().anyMatch(name -> name.startsWith("ReceiverCard1#"))));
+	}
+
+	/**
+	 * Test the requested screens are polled at full rate and the others at the background rate,
+	 * and a requested screen with old data is fetched without waiting for the next cycle
+	 */
+	@Test
+	void testDemandDrivenPolling() throws Exception {
+		nanoSuiteCommunicator.setBackgroundPollInterval("60");
+		nanoSuiteCommunicator.setDemandMaxDataAge("1");
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+
+		// nothing requested yet, every screen is polled at full rate
+		server.resetCounters();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		assertEquals(20 * 2, server.getRequestCount());
+
+		List<String> deviceIds = Arrays.asList(NovaStarPayloadGenerator.screenId(3), NovaStarPayloadGenerator.screenId(7));
+		nanoSuiteCommunicator.recordDemand(deviceIds);
+		server.resetCounters();
+		nanoSuiteCommunicator.populateDemandedScreens();
+		assertEquals(0, server.getRequestCount());
+		nanoSuiteCommunicator.populateDeviceDetails();
+		assertEquals(2 * 2, server.getRequestCount());
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("18", statistics.get("MonitoringCycle#ScreensDeferred"));
+		assertEquals("2", statistics.get("MonitoringCycle#DemandedScreens"));
+
+		TimeUnit.MILLISECONDS.sleep(1100);
+		nanoSuiteCommunicator.recordDemand(deviceIds.subList(0, 1));
+		server.resetCounters();
+		nanoSuiteCommunicator.populateDemandedScreens();
+		assertEquals(2, server.getRequestCount());
+		nanoSuiteCommunicator.populateDemandedScreens();
+		assertEquals(2, server.getRequestCount());
+
+		// the screen fetched between the cycles is counted apart from the screens of the next cycle
+		nanoSuiteCommunicator.populateDeviceDetails();
+		statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("2", statistics.get("MonitoringCycle#ScreensRefreshed"));
+		assertEquals("1", statistics.get("MonitoringCycle#OutOfCycleScreensRefreshed"));
+		assertEquals("0", statistics.get("MonitoringCycle#OutOfCycleScreensFailed"));
+	}
+
+	/**
+	 * Test only the receiver cards of unhealthy and requested screens are fetched in summary mode,
+	 * and the receiver cards of a screen healthy again are dropped
+	 */
+	@Test
+	void testSummaryMode() throws Exception {
+		nanoSuiteCommunicator.setSummaryMode("true");
+		for (int i = 0; i < 20; i++) {
+			server.withScreenHealth(i, i == 5 ? 2 : 0);
+		}
+		nanoSuiteCommunicator.getMultipleStatistics();
+		server.resetCounters();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		assertEquals(20 + 1, server.getRequestCount());
+		Map<String, Map<String, String>> properties = propertiesByDeviceId(nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList());
+		assertEquals(20, properties.size());
+		assertTrue(hasReceiverProperties(properties.get(NovaStarPayloadGenerator.screenId(5))));
+		assertFalse(hasReceiverProperties(properties.get(NovaStarPayloadGenerator.screenId(6))));
+		assertTrue(properties.get(NovaStarPayloadGenerator.screenId(6)).keySet().stream().anyMatch(name -> name.startsWith("SenderCard1#")));
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("19", statistics.get("MonitoringCycle#SummaryScreens"));
+
+		// a requested screen is fetched in full right away
+		server.resetCounters();
+		nanoSuiteCommunicator.recordDemand(Collections.singletonList(NovaStarPayloadGenerator.screenId(6)));
+		nanoSuiteCommunicator.populateDemandedScreens();
+		assertEquals(2, server.getRequestCount());
+		assertTrue(hasReceiverProperties(propertiesByDeviceId(nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList()).get(NovaStarPayloadGenerator.screenId(6))));
+
+		server.withScreenHealth(5, 0);
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		properties = propertiesByDeviceId(nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList());
+		assertFalse(hasReceiverProperties(properties.get(NovaStarPayloadGenerator.screenId(5))));
+		assertTrue(hasReceiverProperties(properties.get(NovaStarPayloadGenerator.screenId(6))));
+	}
+
+	private static boolean hasReceiverProperties(Map<String, String> properties) {
+		return properties.keySet().stream().anyMatch(name -> name.startsWith("ReceiverCard1#"));
+	}
+
+	/**
+	 * Test the fleet health rollup matches a scan of the aggregated devices as screens change health and are removed
+	 */
+	@Test
+	void testFleetHealth() throws Exception {
+		for (int i = 0; i < 20; i++) {
+			server.withScreenHealth(i, i == 5 ? 2 : i == 6 || i == 15 ? 1 : 0);
+		}
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("1", statistics.get("FleetHealth#ErrorScreens"));
+		assertEquals("2", statistics.get("FleetHealth#WarningScreens"));
+		assertEquals("None", statistics.get("FleetHealth#MaxTemperature(C)"));
+
+		nanoSuiteCommunicator.populateDeviceDetails();
+		assertFleetHealth(nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList(),
+				((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics());
+
+		server.withScreenHealth(5, 0).withFleet(12, 8, 1);
+		statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("0", statistics.get("FleetHealth#ErrorScreens"));
+		assertEquals("1", statistics.get("FleetHealth#WarningScreens"));
+		assertFleetHealth(nanoSuiteCommunicator.cloneAndPopulateAggregatedDeviceList(), statistics);
+	}
+
+	private static void assertFleetHealth(List<AggregatedDevice> aggregatedDevices, Map<String, String> statistics) {
+		long offlineReceivers = 0;
+		double maxTemperature = Double.NEGATIVE_INFINITY;
+		double minVoltage = Double.POSITIVE_INFINITY;
+		for (AggregatedDevice device : aggregatedDevices) {
+			for (Map.Entry<String, String> property : device.getProperties().entrySet()) {
+				if (!property.getKey().startsWith("ReceiverCard")) {
+					continue;
+				}
+				if (property.getKey().endsWith("#HealthState") && "Error".equals(property.getValue())) {
+					offlineReceivers++;
+				} else if (property.getKey().endsWith("#Temperature(C)")) {
+					maxTemperature = Math.max(maxTemperature, Double.parseDouble(property.getValue()));
+				} else if (property.getKey().endsWith("#Voltage(V)")) {
+					minVoltage = Math.min(minVoltage, Double.parseDouble(property.getValue()));
+				}
+			}
+		}
+		assertEquals(String.valueOf(offlineReceivers), statistics.get("FleetHealth#OfflineReceivers"));
+		assertEquals(maxTemperature, Double.parseDouble(statistics.get("FleetHealth#MaxTemperature(C)")), 0.01);
+		assertEquals(minVoltage, Double.parseDouble(statistics.get("FleetHealth#MinVoltage(V)")), 0.01);
+	}
+
+	/**
+	 * Test screens are refreshed through hedged requests, and the hedges are only reported when hedging is enabled
+	 */
+	@Test
+	void testHedgedRequests() throws Exception {
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertFalse(statistics.containsKey("Hedging#Hedges"));
+
+		nanoSuiteCommunicator.destroy();
+		nanoSuiteCommunicator.setHedgeRequests("true");
+		nanoSuiteCommunicator.setHedgeMaxPercent("10");
+		nanoSuiteCommunicator.init();
+		server.withLatency(5, 20);
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("20", statistics.get("MonitoringCycle#ScreensRefreshed"));
+		long hedges = Long.parseLong(statistics.get("Hedging#Hedges"));
+		assertTrue(hedges <= 80 / 10, hedges + " hedges");
+		assertEquals(hedges, Long.parseLong(statistics.get("Hedging#HedgeWins")) + Long.parseLong(statistics.get("Hedging#HedgeLosses")));
+	}
+
+	/**
+	 * Test the requests are held to the sustained rate once the burst is spent, with the discovery requests in a budget
+	 * of their own, and the rate limits are only reported when set
+	 */
+	@Test
+	void testRateLimit() throws Exception {
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertFalse(statistics.keySet().stream().anyMatch(key -> key.startsWith("RateLimit")));
+
+		nanoSuiteCommunicator.destroy();
+		nanoSuiteCommunicator.setRequestRate("200");
+		nanoSuiteCommunicator.setRequestBurst("10");
+		nanoSuiteCommunicator.setDiscoveryRequestRate("50");
+		nanoSuiteCommunicator.init();
+		nanoSuiteCommunicator.getMultipleStatistics();
+		long startTime = System.nanoTime();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+		statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("20", statistics.get("MonitoringCycle#ScreensRefreshed"));
+		long requests = Long.parseLong(statistics.get("RateLimitDetail#Requests"));
+		assertTrue(elapsedMillis >= (requests - 10) * 1000 / 200 - 50, elapsedMillis + "ms for " + requests + " requests");
+		assertTrue(Long.parseLong(statistics.get("RateLimitDetail#ThrottledRequests")) > 0);
+		assertTrue(Long.parseLong(statistics.get("RateLimitDetail#QueueWaitMax(ms)")) > 0);
+		assertTrue(Long.parseLong(statistics.get("RateLimitDiscovery#Requests")) >= 2);
+		assertFalse(statistics.containsKey("RateLimit#Requests"));
+	}
+
+	/**
+	 * Test injected server errors are counted per endpoint and screen
+	 */
+	@Test
+	void testInjectedErrors() throws Exception {
+		nanoSuiteCommunicator.getMultipleStatistics();
+		server.withErrors(1, 503);
+		nanoSuiteCommunicator.populateDeviceDetails();
+		server.withErrors(0, 503);
+		Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+		assertEquals("20", statistics.get("MonitoringCycle#ScreensFailed"));
+		assertEquals("20", statistics.get("RequestFilterAssetReceiverCard#ErrorsServerError"));
+	}
+
+	/**
+	 * Test a captured monitoring cycle is sanitized and replayed to a new adapter
+	 */
+	@Test
+	void testRecordAndReplay() throws Exception {
+		nanoSuiteCommunicator.destroy();
+		Path captureDirectory = workDirectory.resolve("traffic");
+		nanoSuiteCommunicator = createCommunicator(captureDirectory.toString());
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		nanoSuiteCommunicator.destroy();
+
+		Path captureFile;
+		try (Stream<Path> files = Files.list(captureDirectory)) {
+			captureFile = files.collect(Collectors.toList()).get(0);
+		}
+		assertFalse(new String(Files.readAllBytes(captureFile), "UTF-8").contains(server.getHost()));
+		TrafficRecording recording = TrafficRecording.load(new ObjectMapper(), captureFile);
+		assertEquals(42, recording.size());
+
+		server.withFleet(0, 0, 0).withRecording(recording, 10);
+		nanoSuiteCommunicator = createCommunicator(null);
+		nanoSuiteCommunicator.getMultipleStatistics();
+		nanoSuiteCommunicator.populateDeviceDetails();
+		assertEquals(20, nanoSuiteCommunicator.retrieveMultipleStatistics().size());
+	}
+
+	/**
+	 * Test the configured number of threads is no longer capped at 8 but still bounded by maxNumberThreads
+	 */
+	@Test
+	void testNumberOfThreads() {
+		nanoSuiteCommunicator.setNumberThreads("32");
+		assertEquals(32, nanoSuiteCommunicator.getDefaultNumberOfThread());
+		nanoSuiteCommunicator.setNumberThreads("500");
+		assertEquals(64, nanoSuiteCommunicator.getDefaultNumberOfThread());
+		nanoSuiteCommunicator.setMaxNumberThreads("16");
+		assertEquals(16, nanoSuiteCommunicator.getDefaultNumberOfThread());
+	}
+
+	/**
+	 * Test the automatic number of threads follows the number of screens and the observed latency
+	 */
+	@Test
+	void testCalculateNumberOfThreads() {
+		int processorLimit = Runtime.getRuntime().availableProcessors() * 16;
+		assertEquals(Math.min(8, processorLimit), nanoSuiteCommunicator.calculateNumberOfThreads(600, 0, 64));
+		assertEquals(Math.min(6, processorLimit), nanoSuiteCommunicator.calculateNumberOfThreads(600, 100, 64));
+		assertEquals(Math.min(60, processorLimit), nanoSuiteCommunicator.calculateNumberOfThreads(600, 1000, 64));
+		assertEquals(Math.min(64, processorLimit), nanoSuiteCommunicator.calculateNumberOfThreads(6000, 1000, 64));
+		assertEquals(3, nanoSuiteCommunicator.calculateNumberOfThreads(3, 50000, 64));
+		nanoSuiteCommunicator.setTargetCycleTime("10");
+		assertEquals(Math.min(12, processorLimit), nanoSuiteCommunicator.calculateNumberOfThreads(600, 100, 64));
+	}
+
+	/**
+	 * Test a rejected token fails the login
+	 */
+	@Test
+	void testUnauthorized() {
+		server.withToken("other-token");
+		assertThrows(FailedLoginException.class, () -> nanoSuiteCommunicator.getMultipleStatistics());
+	}
+}
@@ -117,10 +117,11 @@ class NanoSuiteCommunicatorTest {
 	void testGetAggregatorData() throws Exception {
 		extendedStatistic = (ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0);
 		Map<String, String> statistics = extendedStatistic.getStatistics();
-		Assert.assertEquals(3, statistics.size());
 		Assert.assertEquals("R&D NanoSuite Test", statistics.get("SystemName"));
 		Assert.assertEquals("ISAAC", statistics.get("SystemHostname"));
 		Assert.assertEquals("Canada/Eastern", statistics.get("Timezone"));
+		Assert.assertEquals("1", statistics.get("RequestSettings#Requests"));
+		Assert.assertEquals("0", statistics.get("RequestSettings#ErrorsTimeout"));
 	}
 
 	/**
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.NanoSuiteConstant;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock.MockIsaacServer;
+
+/**
+ * NanoSuiteLoadTest measures the monitoring cycle time and the request throughput against {@link MockIsaacServer}
+ * for each combination of fleet size and number of threads. It is not part of the default test run:
+ * <pre>
+ * mvn test -Dtest.groups=Load -Dload.screens=100,1000,3000 -Dload.threads=1,8,32,auto -Dload.latency=20
+ * </pre>
+ * The HTTP client keeps its default connection limits unless load.connections is set, and load.targetCycleTime (seconds)
+ * is the target of the auto thread sizing. The retained heap per screen is measured with the string pool disabled and enabled.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Load")
+class NanoSuiteLoadTest {
+	private static final Log logger = LogFactory.getLog(NanoSuiteLoadTest.class);
+
+	@TempDir
+	Path workDirectory;
+
+	private MockIsaacServer server;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = new MockIsaacServer().withLatency(Long.getLong("load.latency", 20), Long.getLong("load.latencyJitter", 10));
+	}
+
+	@AfterEach
+	void destroy() {
+		server.close();
+	}
+
+	/**
+	 * Runs a monitoring cycle per fleet size and number of threads and reports its duration and requests per second.
+	 * Every screen must be refreshed with a receiver and a sender request, and with a server latency, more threads
+	 * must make a shorter cycle than a single thread.
+	 */
+	@Test
+	void testCycleTime() throws Exception {
+		int receivers = Integer.getInteger("load.receivers", 20);
+		Integer connections = Integer.getInteger("load.connections");
+		long latency = Long.getLong("load.latency", 20);
+		logger.info(String.format("%8s %8s %8s %12s %12s %10s", "screens", "threads", "used", "cycle(ms)", "requests/s", "failed"));
+		for (String screens : System.getProperty("load.screens", "100,1000").split(",")) {
+			int fleetSize = Integer.parseInt(screens.trim());
+			server.withFleet(fleetSize, receivers, 1);
+			Map<Integer, Long> cycleTimes = new LinkedHashMap<>();
+			for (String threads : System.getProperty("load.threads", "1,8,auto").split(",")) {
+				NanoSuiteCommunicator nanoSuiteCommunicator = new NanoSuiteCommunicator();
+				nanoSuiteCommunicator.setProtocol("http");
+				nanoSuiteCommunicator.setHost(server.getHost());
+				nanoSuiteCommunicator.setPort(server.getPort());
+				nanoSuiteCommunicator.setNumberThreads(threads.trim());
+				nanoSuiteCommunicator.setTargetCycleTime(System.getProperty("load.targetCycleTime"));
+				if (connections != null) {
+					nanoSuiteCommunicator.setMaxConnectionsPerRoute(connections);
+					nanoSuiteCommunicator.setMaxConnectionsTotal(connections);
+				}
+				nanoSuiteCommunicator.setSnapshotDirectory(workDirectory.resolve("load-" + System.nanoTime()).toString());
+				nanoSuiteCommunicator.init();
+				try {
+					nanoSuiteCommunicator.getMultipleStatistics();
+					if (NanoSuiteConstant.AUTO.equals(threads.trim())) {
+						// warm-up cycle, so that the latency is known when the number of threads is sized
+						nanoSuiteCommunicator.populateDeviceDetails();
+					}
+					server.resetCounters();
+					nanoSuiteCommunicator.populateDeviceDetails();
+					long requests = server.getRequestCount();
+					Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+					long cycleTime = Long.parseLong(statistics.get("MonitoringCycle#LastCycleDuration(ms)"));
+					int usedThreads = Integer.parseInt(statistics.get("MonitoringCycle#Threads"));
+					logger.info(String.format("%8d %8s %8d %12d %12.1f %10s", fleetSize, threads.trim(), usedThreads, cycleTime,
+							requests * 1000.0 / Math.max(cycleTime, 1), statistics.get("MonitoringCycle#ScreensFailed")));
+					assertEquals(String.valueOf(fleetSize), statistics.get("MonitoringCycle#ScreensRefreshed"));
+					assertEquals("0", statistics.get("MonitoringCycle#ScreensFailed"));
+					assertTrue(requests >= 2L * fleetSize, requests + " requests for " + fleetSize + " screens");
+					assertTrue(usedThreads >= 1, "Threads " + usedThreads);
+					cycleTimes.putIfAbsent(usedThreads, cycleTime);
+				} finally {
+					nanoSuiteCommunicator.destroy();
+				}
+			}
+			Long singleThreadCycleTime = cycleTimes.get(1);
+			int maxThreads = cycleTimes.keySet().stream().mapToInt(Integer::intValue).max().orElse(1);
+			if (latency > 0 && singleThreadCycleTime != null && maxThreads > 1) {
+				assertTrue(cycleTimes.get(maxThreads) < singleThreadCycleTime,
+						fleetSize + " screens: " + maxThreads + " threads took " + cycleTimes.get(maxThreads) + "ms, 1 thread " + singleThreadCycleTime + "ms");
+			}
+		}
+	}
+
+	/**
+	 * Runs a monitoring cycle with the string pool disabled and enabled and reports the heap retained per screen
+	 * by the cache and the aggregated devices. The pool must hold entries only when it is enabled, within its cap,
+	 * and must lower the heap retained per screen.
+	 */
+	@Test
+	void testRetainedHeap() throws Exception {
+		int fleetSize = Integer.getInteger("load.heapScreens", 1000);
+		server.withLatency(0, 0).withFleet(fleetSize, Integer.getInteger("load.receivers", 20), 1);
+		logger.info(String.format("%8s %12s %16s %12s", "screens", "pool", "bytes/screen", "poolEntries"));
+		Map<Integer, Long> bytesPerScreen = new LinkedHashMap<>();
+		for (String poolEntries : new String[] { "0", String.valueOf(NanoSuiteConstant.DEFAULT_STRING_POOL_MAX_ENTRIES) }) {
+			long baseline = usedHeap();
+			NanoSuiteCommunicator nanoSuiteCommunicator = new NanoSuiteCommunicator();
+			nanoSuiteCommunicator.setProtocol("http");
+			nanoSuiteCommunicator.setHost(server.getHost());
+			nanoSuiteCommunicator.setPort(server.getPort());
+			nanoSuiteCommunicator.setStringPoolMaxEntries(poolEntries);
+			nanoSuiteCommunicator.setSnapshotDirectory(workDirectory.resolve("load-" + System.nanoTime()).toString());
+			nanoSuiteCommunicator.init();
+			try {
+				nanoSuiteCommunicator.getMultipleStatistics();
+				nanoSuiteCommunicator.populateDeviceDetails();
+				assertEquals(fleetSize, nanoSuiteCommunicator.retrieveMultipleStatistics().size());
+				Map<String, String> statistics = ((ExtendedStatistics) nanoSuiteCommunicator.getMultipleStatistics().get(0)).getStatistics();
+				long retained = usedHeap() - baseline;
+				int maxEntries = Integer.parseInt(poolEntries);
+				int entries = Integer.parseInt(statistics.get("MonitoringCycle#StringPoolEntries"));
+				logger.info(String.format("%8d %12d %16d %12d", fleetSize, maxEntries, retained / fleetSize, entries));
+				assertTrue(retained > 0, "Retained " + retained + " bytes");
+				assertTrue(maxEntries == 0 ? entries == 0 : entries > 0 && entries <= maxEntries, entries + " pool entries");
+				bytesPerScreen.put(maxEntries, retained / fleetSize);
+			} finally {
+				nanoSuiteCommunicator.destroy();
+			}
+		}
+		long withoutPool = bytesPerScreen.get(0);
+		long withPool = bytesPerScreen.get(NanoSuiteConstant.DEFAULT_STRING_POOL_MAX_ENTRIES);
+		assertTrue(withPool < withoutPool, withPool + " bytes/screen with the string pool, " + withoutPool + " without");
+	}
+
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+			Thread.sleep(100);
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.ProfileType;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock.NovaStarPayloadGenerator;
+
+/**
+ * Unit test for {@link CacheSnapshotStore}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class CacheSnapshotStoreTest {
+	private static final String HOST = "isaac.local";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final NovaStarPayloadGenerator generator = new NovaStarPayloadGenerator(objectMapper, 1);
+
+	@TempDir
+	Path directory;
+
+	private Map<String, Map<String, JsonNode>> screens() {
+		Map<String, Map<String, JsonNode>> screens = new HashMap<>();
+		for (int i = 0; i < 3; i++) {
+			Map<String, JsonNode> assets = new HashMap<>();
+			assets.put(ProfileType.NOVASTAR_RECEIVER.getValue(), generator.receiverAssets(i, 4));
+			screens.put(NovaStarPayloadGenerator.screenName(i), assets);
+		}
+		return screens;
+	}
+
+	private CacheSnapshotStore store(String host) {
+		return new CacheSnapshotStore(objectMapper, directory.resolve("nanosuite.snapshot"), host);
+	}
+
+	/**
+	 * Test a saved snapshot is loaded back as saved, with its save time, and no temporary file is left behind
+	 */
+	@Test
+	void testRoundTrip() throws Exception {
+		Map<String, Map<String, JsonNode>> screens = screens();
+		long before = System.currentTimeMillis();
+		store(HOST).save(screens);
+
+		CacheSnapshotStore store = store(HOST);
+		assertEquals(screens, store.load());
+		assertTrue(store.getSavedAt() >= before && store.getSavedAt() <= System.currentTimeMillis());
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(1, files.count());
+		}
+
+		// a second save replaces the first snapshot
+		screens.remove(NovaStarPayloadGenerator.screenName(0));
+		store.save(screens);
+		assertEquals(screens, store(HOST).load());
+	}
+
+	/**
+	 * Test a missing snapshot file loads as an empty cache
+	 */
+	@Test
+	void testMissingFile() throws Exception {
+		CacheSnapshotStore store = store(HOST);
+		assertTrue(store.load().isEmpty());
+		assertEquals(0, store.getSavedAt());
+	}
+
+	/**
+	 * Test a snapshot saved for another host is ignored
+	 */
+	@Test
+	void testWrongHost() throws Exception {
+		store("other.local").save(screens());
+		CacheSnapshotStore store = store(HOST);
+		assertTrue(store.load().isEmpty());
+		assertEquals(0, store.getSavedAt());
+	}
+
+	/**
+	 * Test a snapshot written with another layout version is ignored
+	 */
+	@Test
+	void testWrongVersion() throws Exception {
+		ObjectNode root = objectMapper.createObjectNode();
+		root.put("version", CacheSnapshotStore.SNAPSHOT_VERSION + 1);
+		root.put("host", HOST);
+		root.put("savedAt", System.currentTimeMillis());
+		root.putObject("screens").putObject(NovaStarPayloadGenerator.screenName(0));
+		try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(directory.resolve("nanosuite.snapshot")))) {
+			objectMapper.writeValue(outputStream, root);
+		}
+		assertTrue(store(HOST).load().isEmpty());
+	}
+
+	/**
+	 * Test a truncated snapshot and a file that is not gzip compressed fail to load instead of yielding partial data
+	 */
+	@Test
+	void testCorruptFile() throws Exception {
+		store(HOST).save(screens());
+		Path snapshotFile = directory.resolve("nanosuite.snapshot");
+		byte[] content = Files.readAllBytes(snapshotFile);
+		Files.write(snapshotFile, Arrays.copyOf(content, content.length / 2));
+		assertThrows(IOException.class, () -> store(HOST).load());
+
+		Files.write(snapshotFile, "{\"version\":1}".getBytes("UTF-8"));
+		assertThrows(IOException.class, () -> store(HOST).load());
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link PropertySchema}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class PropertySchemaTest {
+	private final StringPool stringPool = new StringPool(1000);
+
+	private static Map<String, String> properties(String screenName) {
+		Map<String, String> properties = new HashMap<>();
+		properties.put("SubsystemName", "NanoSuite");
+		properties.put("ReceiverCard1#Temperature(C)", "41.5");
+		properties.put(screenName + "#Brightness", "80");
+		return properties;
+	}
+
+	/**
+	 * Test a property only becomes a slot once a second device has it, however many times the first device is built
+	 */
+	@Test
+	void testAdmit() {
+		PropertySchema schema = new PropertySchema();
+		for (int i = 0; i < 3; i++) {
+			assertEquals(-1, schema.admit("Screen A#Brightness", "A"));
+		}
+		assertEquals(0, schema.size());
+
+		assertEquals(-1, schema.admit("SubsystemName", "A"));
+		assertEquals(0, schema.admit("SubsystemName", "B"));
+		assertEquals(0, schema.admit("SubsystemName", "A"));
+		assertEquals(0, schema.slotOf("SubsystemName"));
+		assertEquals("SubsystemName", schema.keyAt(0));
+		assertEquals(-1, schema.slotOf("Screen A#Brightness"));
+	}
+
+	/**
+	 * Test a full candidate list only drops the property seen least recently, the others still become slots
+	 * when a second device has them
+	 */
+	@Test
+	void testCandidateEviction() {
+		PropertySchema schema = new PropertySchema();
+		assertEquals(-1, schema.admit("Oldest", "A"));
+		assertEquals(-1, schema.admit("Shared", "A"));
+		for (int i = 0; i < PropertySchema.MAX_CANDIDATES - 1; i++) {
+			assertEquals(-1, schema.admit("Screen A#Property" + i, "A"));
+		}
+		assertEquals(0, schema.admit("Shared", "B"));
+		assertEquals(-1, schema.admit("Oldest", "B"));
+		assertEquals(1, schema.admit("Screen A#Property0", "B"));
+		assertEquals(2, schema.size());
+	}
+
+	/**
+	 * Test the schema only holds the properties shared by the devices, however many times the fleet is built and
+	 * however many devices are added, and the properties unique to a device stay in its overflow
+	 */
+	@Test
+	void testSchemaSizeAcrossCycles() {
+		PropertySchema schema = new PropertySchema();
+		CompactPropertyMap compact = null;
+		for (int cycle = 0; cycle < 5; cycle++) {
+			for (int screen = 0; screen < 10 + cycle * 10; screen++) {
+				String screenName = "Screen " + screen;
+				compact = schema.compact(screenName, properties(screenName), stringPool);
+			}
+			assertEquals(2, schema.size());
+		}
+		assertEquals(properties("Screen 49"), compact);
+		assertEquals(1, compact.getOverflow().size());
+		assertTrue(compact.getOverflow().containsKey("Screen 49#Brightness"));
+		assertEquals(2, compact.slotCount());
+	}
+}
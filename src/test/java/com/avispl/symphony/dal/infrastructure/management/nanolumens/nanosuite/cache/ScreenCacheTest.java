@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.ProfileType;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock.NovaStarPayloadGenerator;
+
+/**
+ * Unit test for {@link ScreenCache}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class ScreenCacheTest {
+	private final NovaStarPayloadGenerator generator = new NovaStarPayloadGenerator(new ObjectMapper(), 1);
+
+	private Map<String, JsonNode> receivers(int screenIndex) {
+		return Collections.singletonMap(ProfileType.NOVASTAR_RECEIVER.getValue(), generator.receiverAssets(screenIndex, 10));
+	}
+
+	private void discover(ScreenCache cache, String... screenNames) {
+		for (String screenName : screenNames) {
+			cache.put(screenName, Collections.emptyMap());
+			cache.markSeen(screenName);
+		}
+	}
+
+	/**
+	 * Test a screen is only evicted once it is missing from the configured number of discovery cycles,
+	 * and keeps its assets until then
+	 */
+	@Test
+	void testIdleEviction() {
+		ScreenCache cache = new ScreenCache();
+		cache.setEvictionCycles(2);
+		discover(cache, "A", "B", "C");
+		cache.update("C", receivers(0));
+		assertTrue(cache.endDiscoveryCycle().isEmpty());
+
+		discover(cache, "A", "B");
+		assertTrue(cache.endDiscoveryCycle().isEmpty());
+		assertFalse(cache.isPresent("C"));
+		assertTrue(cache.asMap().get("C").containsKey(ProfileType.NOVASTAR_RECEIVER.getValue()));
+
+		discover(cache, "A", "B");
+		assertEquals(Collections.singletonList("C"), cache.endDiscoveryCycle());
+		assertEquals(new HashSet<>(Arrays.asList("A", "B")), cache.asMap().keySet());
+		assertEquals(1, cache.getEvictedScreens());
+		assertFalse(cache.update("C", receivers(0)));
+		assertFalse(cache.contains("C"));
+	}
+
+	/**
+	 * Test a screen added without being discovered, as restored from a snapshot, is evicted by the next discovery missing it
+	 */
+	@Test
+	void testRestoredScreenEviction() {
+		ScreenCache cache = new ScreenCache();
+		cache.put("A", receivers(0));
+		cache.put("B", receivers(1));
+		assertTrue(cache.isPresent("A"));
+		discover(cache, "A");
+		assertEquals(Collections.singletonList("B"), cache.endDiscoveryCycle());
+	}
+
+	/**
+	 * Test new screens take the place of screens missing from discovery once the screen cap is reached,
+	 * and are rejected while every cached screen is discovered
+	 */
+	@Test
+	void testMaxScreens() {
+		ScreenCache cache = new ScreenCache();
+		cache.setEvictionCycles(5);
+		cache.setMaxScreens(3);
+		discover(cache, "A", "B", "C", "D");
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.getRejectedScreens());
+		assertFalse(cache.contains("D"));
+		cache.endDiscoveryCycle();
+
+		discover(cache, "B", "C");
+		cache.endDiscoveryCycle();
+		discover(cache, "B", "C", "D");
+		assertEquals(new HashSet<>(Arrays.asList("B", "C", "D")), cache.asMap().keySet());
+		assertEquals(1, cache.getEvictedScreens());
+		assertEquals(Collections.singletonList("A"), cache.endDiscoveryCycle());
+	}
+
+	/**
+	 * Test the estimated footprint follows the cached assets, and the byte cap rejects new screens
+	 */
+	@Test
+	void testMaxBytes() {
+		ScreenCache cache = new ScreenCache();
+		Map<String, JsonNode> receivers = receivers(0);
+		discover(cache, "A");
+		cache.update("A", receivers);
+		long screenBytes = cache.getEstimatedBytes();
+		assertTrue(screenBytes > 10 * 1024, "Estimated " + screenBytes + " bytes for 10 receiver cards");
+		cache.update("A", receivers);
+		assertEquals(screenBytes, cache.getEstimatedBytes());
+
+		cache.setMaxBytes(screenBytes * 3 / 2);
+		discover(cache, "B");
+		cache.update("B", receivers(1));
+		discover(cache, "C");
+		assertFalse(cache.contains("C"));
+		assertEquals(1, cache.getRejectedScreens());
+
+		discover(cache, "A", "B");
+		cache.endDiscoveryCycle();
+		discover(cache, "B");
+		assertEquals(Collections.singletonList("A"), cache.endDiscoveryCycle());
+		assertTrue(cache.getEstimatedBytes() < screenBytes * 3 / 2);
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics.LatencyHistogram;
+
+/**
+ * Unit test for {@link RequestHedger}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class RequestHedgerTest {
+	private final LatencyHistogram latency = new LatencyHistogram();
+	private final RequestHedger hedger = new RequestHedger(5, 4);
+
+	@AfterEach
+	void tearDown() {
+		hedger.close();
+	}
+
+	/**
+	 * Runs quick requests until a hedge is allowed by the 5% cap, with 10ms observed latencies
+	 */
+	private void warmUp() throws Exception {
+		for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+			latency.record(10);
+			hedger.execute(() -> "quick", latency);
+		}
+	}
+
+	/**
+	 * Request whose calls take the given times in milliseconds, in order, and are interrupted once cancelled
+	 */
+	private static Callable<String> request(long... sleepMillis) {
+		AtomicInteger calls = new AtomicInteger();
+		return () -> {
+			int call = calls.getAndIncrement();
+			RequestHedger.onCancel(Thread.currentThread()::interrupt);
+			TimeUnit.MILLISECONDS.sleep(sleepMillis[Math.min(call, sleepMillis.length - 1)]);
+			return "call" + call;
+		};
+	}
+
+	/**
+	 * Test requests are run without hedging until enough latencies are observed
+	 */
+	@Test
+	void testNoHedgeWithoutSamples() throws Exception {
+		assertEquals("call0", hedger.execute(request(100, 0), latency));
+		assertEquals(0, hedger.getHedges());
+	}
+
+	/**
+	 * Test the original request runs on the calling thread, and only its hedge on another thread
+	 */
+	@Test
+	void testOriginalOnCallingThread() throws Exception {
+		warmUp();
+		Thread caller = Thread.currentThread();
+		List<Thread> threads = new CopyOnWriteArrayList<>();
+		Callable<String> request = request(3000, 0);
+		assertEquals("call1", hedger.execute(() -> {
+			threads.add(Thread.currentThread());
+			return request.call();
+		}, latency));
+		assertEquals(1, hedger.getHedges());
+		assertEquals(2, threads.size());
+		assertSame(caller, threads.get(0));
+		assertNotSame(caller, threads.get(1));
+	}
+
+	/**
+	 * Test a stalled request is answered by its hedge
+	 */
+	@Test
+	void testHedgeWins() throws Exception {
+		warmUp();
+		long startTime = System.nanoTime();
+		assertEquals("call1", hedger.execute(request(3000, 0), latency));
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) < 1000);
+		assertEquals(1, hedger.getHedges());
+		assertEquals(1, hedger.getWins());
+		assertEquals(0, hedger.getLosses());
+	}
+
+	/**
+	 * Test the original request is taken when it answers before its hedge
+	 */
+	@Test
+	void testHedgeLoses() throws Exception {
+		warmUp();
+		assertEquals("call0", hedger.execute(request(100, 3000), latency));
+		assertEquals(1, hedger.getHedges());
+		assertEquals(0, hedger.getWins());
+		assertEquals(1, hedger.getLosses());
+	}
+
+	/**
+	 * Test the request answering last is cancelled, whether it is the original request or the hedge
+	 */
+	@Test
+	void testLoserCancelled() throws Exception {
+		try (RequestHedger uncappedHedger = new RequestHedger(100, 4)) {
+			for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+				latency.record(10);
+			}
+			AtomicInteger cancelled = new AtomicInteger();
+			assertEquals("call0", uncappedHedger.execute(cancellableRequest(cancelled, 50, 3000), latency));
+			assertEquals("call1", uncappedHedger.execute(cancellableRequest(cancelled, 3000, 0), latency));
+			// the hedge of the first call may still be unwinding from its cancellation
+			for (int i = 0; i < 100 && cancelled.get() < 2; i++) {
+				TimeUnit.MILLISECONDS.sleep(10);
+			}
+			assertEquals(2, cancelled.get());
+			assertEquals(1, uncappedHedger.getWins());
+			assertEquals(1, uncappedHedger.getLosses());
+			assertFalse(Thread.interrupted());
+		}
+	}
+
+	/**
+	 * Test no more hedges than hedge threads run at the same time, the others being throttled
+	 */
+	@Test
+	void testConcurrentHedges() throws Exception {
+		ExecutorService callers = Executors.newFixedThreadPool(3);
+		try (RequestHedger boundedHedger = new RequestHedger(100, 1)) {
+			for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+				latency.record(10);
+			}
+			List<Future<String>> responses = new ArrayList<>();
+			for (int i = 0; i < 3; i++) {
+				responses.add(callers.submit(() -> boundedHedger.execute(request(300, 300), latency)));
+			}
+			for (Future<String> response : responses) {
+				response.get();
+			}
+			assertEquals(1, boundedHedger.getHedges());
+			assertEquals(2, boundedHedger.getThrottled());
+		} finally {
+			callers.shutdownNow();
+		}
+	}
+
+	/**
+	 * Request whose calls take the given times in milliseconds, in order, counting the calls interrupted by their cancellation
+	 */
+	private static Callable<String> cancellableRequest(AtomicInteger cancelled, long... sleepMillis) {
+		Callable<String> request = request(sleepMillis);
+		return () -> {
+			try {
+				return request.call();
+			} catch (InterruptedException e) {
+				cancelled.incrementAndGet();
+				throw e;
+			}
+		};
+	}
+
+	/**
+	 * Test hedges beyond the cap are not sent, and the original request is waited for
+	 */
+	@Test
+	void testHedgeRateCap() throws Exception {
+		warmUp();
+		hedger.execute(request(100, 0), latency);
+		assertEquals("call0", hedger.execute(request(100, 0), latency));
+		assertEquals(1, hedger.getHedges());
+		assertEquals(1, hedger.getThrottled());
+	}
+
+	/**
+	 * Test a failed request is answered by its hedge, and fails once its hedge fails too
+	 */
+	@Test
+	void testFailures() throws Exception {
+		for (int i = 0; i < 40; i++) {
+			latency.record(10);
+			hedger.execute(() -> "quick", latency);
+		}
+		AtomicInteger calls = new AtomicInteger();
+		assertEquals("hedge", hedger.execute(() -> {
+			if (calls.getAndIncrement() == 0) {
+				TimeUnit.MILLISECONDS.sleep(100);
+				throw new IOException("Original failed");
+			}
+			return "hedge";
+		}, latency));
+		IOException exception = assertThrows(IOException.class, () -> hedger.execute(() -> {
+			TimeUnit.MILLISECONDS.sleep(50);
+			throw new IOException("Failed");
+		}, latency));
+		assertEquals("Failed", exception.getMessage());
+		assertEquals(2, hedger.getHedges());
+	}
+
+	/**
+	 * Test a request failing after it was decided to hedge it, before or after its hedge is sent, is answered by the hedge
+	 */
+	@Test
+	void testOriginalFailsLate() throws Exception {
+		try (RequestHedger uncappedHedger = new RequestHedger(100, 4)) {
+			for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+				latency.record(10);
+			}
+			// the original request fails shortly after the 10ms hedge delay, while its hedge is being sent or running
+			for (int i = 0; i < 20; i++) {
+				assertEquals("hedge", uncappedHedger.execute(failingOriginal(12 + i, 50), latency), "Attempt " + i);
+			}
+			assertEquals(20, uncappedHedger.getHedges());
+			assertEquals(20, uncappedHedger.getWins());
+		}
+	}
+
+	/**
+	 * Request whose first call fails after the given time, and whose next calls answer after the given time
+	 */
+	private static Callable<String> failingOriginal(long failMillis, long hedgeMillis) {
+		AtomicInteger calls = new AtomicInteger();
+		return () -> {
+			if (calls.getAndIncrement() == 0) {
+				TimeUnit.MILLISECONDS.sleep(failMillis);
+				throw new IOException("Original failed");
+			}
+			TimeUnit.MILLISECONDS.sleep(hedgeMillis);
+			return "hedge";
+		};
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link TokenBucket}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class TokenBucketTest {
+
+	/**
+	 * Test the burst is let through at once, and the following requests wait for the sustained rate
+	 */
+	@Test
+	void testBurstThenRate() throws Exception {
+		TokenBucket tokenBucket = new TokenBucket(50, 5);
+		for (int i = 0; i < 5; i++) {
+			assertEquals(0, tokenBucket.acquire());
+		}
+		long startTime = System.nanoTime();
+		for (int i = 0; i < 10; i++) {
+			tokenBucket.acquire();
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+		assertTrue(elapsedMillis >= 180, elapsedMillis + "ms");
+		assertEquals(15, tokenBucket.getQueueWait().getCount());
+		assertTrue(tokenBucket.getThrottled() >= 9, tokenBucket.getThrottled() + " throttled");
+	}
+
+	/**
+	 * Test concurrent requests reserve their tokens in turn, so together they are held to the sustained rate
+	 */
+	@Test
+	void testConcurrentRequests() throws Exception {
+		TokenBucket tokenBucket = new TokenBucket(100, 1);
+		tokenBucket.acquire();
+		Thread[] threads = new Thread[4];
+		long startTime = System.nanoTime();
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				try {
+					for (int j = 0; j < 5; j++) {
+						tokenBucket.acquire();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+		assertTrue(elapsedMillis >= 180, elapsedMillis + "ms");
+		assertEquals(21, tokenBucket.getQueueWait().getCount());
+	}
+
+	/**
+	 * Test the bucket refills up to the burst while idle, and reset clears the counters only
+	 */
+	@Test
+	void testRefillAndReset() throws Exception {
+		TokenBucket tokenBucket = new TokenBucket(100, 2);
+		tokenBucket.acquire();
+		tokenBucket.acquire();
+		assertTrue(tokenBucket.acquire() > 0);
+		assertEquals(1, tokenBucket.getThrottled());
+		TimeUnit.MILLISECONDS.sleep(100);
+		assertEquals(0, tokenBucket.acquire());
+		assertEquals(0, tokenBucket.acquire());
+		tokenBucket.reset();
+		assertEquals(0, tokenBucket.getThrottled());
+		assertEquals(0, tokenBucket.getQueueWait().getCount());
+		assertTrue(tokenBucket.acquire() > 0);
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link ScreenReconciler}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class ScreenReconcilerTest {
+
+	private static Map<String, String> screens(String... nameIdPairs) {
+		Map<String, String> screens = new LinkedHashMap<>();
+		for (int i = 0; i < nameIdPairs.length; i += 2) {
+			screens.put(nameIdPairs[i], nameIdPairs[i + 1]);
+		}
+		return screens;
+	}
+
+	/**
+	 * Test added and removed screens are reported, and unchanged screens are not
+	 */
+	@Test
+	void testAddedAndRemoved() {
+		ScreenReconciler reconciler = new ScreenReconciler();
+		DiscoveryChanges changes = reconciler.reconcile(screens("A", "1", "B", "2"));
+		assertEquals(Arrays.asList("A", "B"), changes.getAdded());
+
+		changes = reconciler.reconcile(screens("B", "2", "C", "3"));
+		assertEquals(Collections.singletonList("C"), changes.getAdded());
+		assertEquals(Collections.singletonList("A"), changes.getRemoved());
+		assertTrue(changes.getRenamed().isEmpty());
+		assertTrue(reconciler.reconcile(screens("B", "2", "C", "3")).isEmpty());
+		assertEquals(3, reconciler.getAddedScreens());
+		assertEquals(1, reconciler.getRemovedScreens());
+	}
+
+	/**
+	 * Test a screen discovered under a new name with a known id is renamed, including two screens swapping their names
+	 */
+	@Test
+	void testRenamed() {
+		ScreenReconciler reconciler = new ScreenReconciler();
+		reconciler.reconcile(screens("A", "1", "B", "2", "C", "3"));
+		assertEquals("A", reconciler.getScreenName("1"));
+		assertNull(reconciler.getScreenName("A"));
+		assertTrue(reconciler.isChanged("D", "1"));
+		assertFalse(reconciler.isChanged("A", "1"));
+		assertFalse(reconciler.isChanged("E", "5"));
+
+		DiscoveryChanges changes = reconciler.reconcile(screens("D", "1", "B", "2", "C", "3"));
+		assertEquals(Collections.singletonMap("A", "D"), changes.getRenamed());
+		assertTrue(changes.getAdded().isEmpty());
+		assertTrue(changes.getRemoved().isEmpty());
+
+		changes = reconciler.reconcile(screens("D", "1", "C", "2", "B", "3"));
+		Map<String, String> swapped = new HashMap<>();
+		swapped.put("B", "C");
+		swapped.put("C", "B");
+		assertEquals(swapped, changes.getRenamed());
+		assertEquals(3, reconciler.getRenamedScreens());
+	}
+
+	/**
+	 * Test a name taken over from a removed screen is both removed and added, and a name taken over from a renamed screen is only added
+	 */
+	@Test
+	void testNameTakenOver() {
+		ScreenReconciler reconciler = new ScreenReconciler();
+		reconciler.reconcile(screens("A", "1", "B", "2"));
+		assertTrue(reconciler.isChanged("A", "9"));
+
+		DiscoveryChanges changes = reconciler.reconcile(screens("A", "9", "B", "2"));
+		assertEquals(Collections.singletonList("A"), changes.getAdded());
+		assertEquals(Collections.singletonList("A"), changes.getRemoved());
+
+		changes = reconciler.reconcile(screens("C", "9", "A", "8", "B", "2"));
+		assertEquals(Collections.singletonMap("A", "C"), changes.getRenamed());
+		assertEquals(Collections.singletonList("A"), changes.getAdded());
+		assertTrue(changes.getRemoved().isEmpty());
+	}
+
+	/**
+	 * Test screens tracked without id, as restored from an older snapshot, are matched by name
+	 */
+	@Test
+	void testScreensWithoutId() {
+		ScreenReconciler reconciler = new ScreenReconciler();
+		reconciler.add("A", null);
+		assertEquals("A", reconciler.getScreenName("A"));
+		assertFalse(reconciler.isChanged("A", "1"));
+		assertTrue(reconciler.reconcile(screens("A", "1")).isEmpty());
+		assertTrue(reconciler.isChanged("B", "1"));
+	}
+
+	/**
+	 * Test the tracked screens are replaced as a whole, so a set read before a discovery is never changed by it
+	 */
+	@Test
+	void testTrackedScreensReplacedAtomically() {
+		ScreenReconciler reconciler = new ScreenReconciler();
+		reconciler.reconcile(screens("A", "1", "B", "2"));
+		Set<String> screenNames = reconciler.getScreenNames();
+		reconciler.reconcile(screens("C", "3"));
+		assertEquals(2, screenNames.size());
+		assertEquals(Collections.singleton("C"), reconciler.getScreenNames());
+		reconciler.remove(Collections.singletonList("C"));
+		assertTrue(reconciler.isEmpty());
+	}
+}
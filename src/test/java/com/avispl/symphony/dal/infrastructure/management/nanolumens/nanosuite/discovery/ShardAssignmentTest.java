@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.discovery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock.NovaStarPayloadGenerator;
+
+/**
+ * Unit test for {@link ShardAssignment}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class ShardAssignmentTest {
+	private static final int SCREENS = 10000;
+
+	/**
+	 * Test every screen is owned by exactly one shard and the screens are spread evenly
+	 */
+	@Test
+	void testEveryScreenOwnedOnce() {
+		int[] owned = new int[4];
+		for (int i = 0; i < SCREENS; i++) {
+			String screenName = NovaStarPayloadGenerator.screenName(i);
+			int owners = 0;
+			for (int shardIndex = 0; shardIndex < owned.length; shardIndex++) {
+				if (new ShardAssignment(shardIndex, owned.length).owns(screenName)) {
+					owners++;
+					owned[shardIndex]++;
+				}
+			}
+			assertEquals(1, owners);
+		}
+		for (int count : owned) {
+			assertTrue(Math.abs(count - SCREENS / owned.length) < SCREENS / 20, "Unbalanced shard with " + count + " screens");
+		}
+	}
+
+	/**
+	 * Test adding a shard only moves screens to the new shard, about 1/(N+1) of them
+	 */
+	@Test
+	void testMinimalMovementOnResize() {
+		ShardAssignment fourShards = new ShardAssignment(0, 4);
+		ShardAssignment fiveShards = new ShardAssignment(0, 5);
+		int moved = 0;
+		for (int i = 0; i < SCREENS; i++) {
+			String screenName = NovaStarPayloadGenerator.screenName(i);
+			int before = fourShards.shardOf(screenName);
+			int after = fiveShards.shardOf(screenName);
+			if (before != after) {
+				assertEquals(4, after);
+				moved++;
+			}
+		}
+		assertTrue(Math.abs(moved - SCREENS / 5) < SCREENS / 20, "Moved " + moved + " screens");
+	}
+
+	/**
+	 * Test a single shard owns every screen and invalid shards are rejected
+	 */
+	@Test
+	void testSingleAndInvalidShard() {
+		assertTrue(ShardAssignment.NONE.owns(NovaStarPayloadGenerator.screenName(0)));
+		assertThrows(IllegalArgumentException.class, () -> new ShardAssignment(2, 2));
+		assertThrows(IllegalArgumentException.class, () -> new ShardAssignment(-1, 2));
+	}
+}
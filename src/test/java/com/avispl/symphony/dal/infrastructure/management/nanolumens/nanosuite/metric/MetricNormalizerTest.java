@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.HealthStateStatus;
+
+/**
+ * Unit test for {@link MetricNormalizer}, checked against the value conversions the properties were built with before
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class MetricNormalizerTest {
+	private static final List<String> EDGE_VALUES = Arrays.asList(null, "", "None", "none", "true", "false", "True", "abc", "A8s", "4.6.1.0",
+			"0", "-0", "0.0", "-0.0", "00", "007", "00.5", ".5", "5.", "+5", "-5", "1e3", "1.5E-4", "0x1F", "1L", "1f", "2.8", "4.50",
+			"0.001", "0.0001", "9999999.5", "10000000.5", "123456789", "123456789012345", "1234567890123456", "12345.6789", "1.23456789",
+			"0.123456789", "-273.15", "42.50", "1 ", " 1", "1-", "--1", "-.5");
+
+	/**
+	 * Test receiver values are rounded and mapped exactly as before, for edge values and a wide range of decimals
+	 */
+	@Test
+	void testReceiverValues() {
+		for (ReceiverMetric metric : ReceiverMetric.values()) {
+			MetricNormalizer normalizer = MetricNormalizer.of(metric);
+			for (String value : EDGE_VALUES) {
+				assertEquals(legacyReceiverValue(metric.getName(), value), normalizer.normalize(value), metric + " " + value);
+			}
+		}
+		MetricNormalizer temperature = MetricNormalizer.of(ReceiverMetric.TEMPERATURE);
+		for (String value : numericCorpus()) {
+			assertEquals(legacyReceiverValue(ReceiverMetric.TEMPERATURE.getName(), value), temperature.normalize(value), value);
+		}
+	}
+
+	/**
+	 * Test sender values are mapped exactly as before
+	 */
+	@Test
+	void testSenderValues() {
+		for (SenderMetric metric : SenderMetric.values()) {
+			MetricNormalizer normalizer = MetricNormalizer.of(metric);
+			for (String value : EDGE_VALUES) {
+				assertEquals(legacySenderValue(metric.getName(), value), normalizer.normalize(value), metric + " " + value);
+			}
+		}
+	}
+
+	/**
+	 * Test health states are converted as before, and values that used to throw are None
+	 */
+	@Test
+	void testHealthStates() {
+		for (String value : EDGE_VALUES) {
+			String expected = legacyHealthState(value);
+			assertEquals(expected == null ? "None" : expected, MetricNormalizer.HEALTH_STATE.normalize(value), value);
+		}
+		for (int i = -5; i < 5; i++) {
+			assertEquals(legacyHealthState(String.valueOf(i)), MetricNormalizer.HEALTH_STATE.normalize(String.valueOf(i)));
+		}
+		assertSame(HealthStateStatus.WARNING, MetricNormalizer.parseHealthState("+1"));
+		assertNull(MetricNormalizer.parseHealthState("99999999999"));
+	}
+
+	/**
+	 * Test canonical decimals are returned as the same instance
+	 */
+	@Test
+	void testCanonicalNumberIsNotCopied() {
+		String value = "42.5";
+		assertSame(value, MetricNormalizer.of(ReceiverMetric.TEMPERATURE).normalize(value));
+		assertNull(MetricNormalizer.canonicalNumber("4.50"));
+	}
+
+	private static List<String> numericCorpus() {
+		List<String> values = new ArrayList<>();
+		for (int i = -2000; i <= 200000; i += 7) {
+			values.add(String.valueOf(i));
+			values.add(String.valueOf(i / 10.0));
+			values.add(String.valueOf(i / 100.0));
+			values.add(String.valueOf(i / 1000.0));
+			values.add(String.format("%.2f", i / 100.0));
+		}
+		Random random = new Random(42);
+		for (int i = 0; i < 200000; i++) {
+			String digits = String.valueOf(random.nextInt(1000000000));
+			int dot = random.nextInt(digits.length() + 1);
+			String value = dot == digits.length() ? digits : (dot == 0 ? "0" : digits.substring(0, dot)) + "." + digits.substring(dot);
+			values.add(random.nextBoolean() ? value : "-" + value);
+			values.add(String.valueOf(random.nextDouble() * Math.pow(10, random.nextInt(12) - 4)));
+		}
+		return values;
+	}
+
+	private static String legacyReceiverValue(String metricName, String lastValue) {
+		String value = lastValue == null || lastValue.isEmpty() ? "None" : lastValue;
+		if (NumberUtils.isCreatable(value)) {
+			try {
+				double doubleNumber = Double.parseDouble(value);
+				return doubleNumber == (long) doubleNumber ? String.valueOf((long) doubleNumber) : String.valueOf(doubleNumber);
+			} catch (NumberFormatException e) {
+				return "None";
+			}
+		}
+		return legacyMapping(metricName, value);
+	}
+
+	private static String legacySenderValue(String metricName, String lastValue) {
+		String value = legacyMapping(metricName, lastValue);
+		return value == null || value.isEmpty() ? "None" : value;
+	}
+
+	private static String legacyMapping(String metricName, String value) {
+		MetricMappingValue mappingValue = MetricMappingValue.getByName(metricName);
+		if (mappingValue == null) return value;
+		if ("true".equals(value)) return mappingValue.getEnableValue();
+		if ("false".equals(value)) return mappingValue.getDisableValue();
+		return value;
+	}
+
+	/**
+	 * @return health state name, None, or null if the conversion used to throw
+	 */
+	private static String legacyHealthState(String lastValue) {
+		if (lastValue == null || lastValue.isEmpty() || "None".equals(lastValue)) {
+			return "None";
+		}
+		try {
+			HealthStateStatus status = HealthStateStatus.getByValue(Integer.parseInt(lastValue));
+			return status == null ? "None" : status.getName();
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
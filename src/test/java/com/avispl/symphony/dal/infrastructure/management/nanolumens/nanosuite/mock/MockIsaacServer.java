@@ -0,0 +1,445 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.NanoSuiteConstant;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.ProfileType;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.traffic.TrafficEntry;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.traffic.TrafficRecording;
+
+/**
+ * MockIsaacServer is an embedded HTTP server serving the ISAAC endpoints used by the adapter:
+ * <ul>
+ *   <li>api/v1/settings</li>
+ *   <li>api/v1/infra/assets?profileType=novastar_screen</li>
+ *   <li>api/v1/infra/assets?profileType=novastar_receiver|novastar_sender&amp;metadata[novastarScreenName]=...</li>
+ * </ul>
+ * The fleet size, the number of cards per screen, the screen names, the response latency and the error rate can be changed at any time.
+ * Payloads are generated by {@link NovaStarPayloadGenerator} with a seed per screen and cached until the fleet changes.
+ * Alternatively, the responses of a {@link TrafficRecording} are replayed with their recorded status and latency,
+ * divided by the replay speed.
+ * Responses can be compressed with gzip or deflate when the request accepts that encoding.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class MockIsaacServer implements AutoCloseable {
+	private static final String SETTINGS_PATH = "/api/v1/settings";
+	private static final String ASSETS_PATH = "/api/v1/infra/assets";
+	private static final String PROFILE_TYPE = "profileType";
+	private static final String SCREEN_NAME = "metadata[novastarScreenName]";
+
+	static {
+		// the JDK server writes headers and body separately, without TCP_NODELAY every response waits for a delayed ACK
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+	}
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<String, byte[]> payloads = new ConcurrentHashMap<>();
+	private final Map<Integer, String> screenNames = new ConcurrentHashMap<>();
+	private final Map<Integer, Integer> screenHealths = new ConcurrentHashMap<>();
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder errors = new LongAdder();
+	private final HttpServer server;
+	private final ExecutorService executorService;
+
+	private volatile int screens = 10;
+	private volatile int receiversPerScreen = 10;
+	private volatile int sendersPerScreen = 1;
+	private volatile long latency;
+	private volatile long latencyJitter;
+	private volatile double errorRate;
+	private volatile int errorStatus = 500;
+	private volatile String token;
+	private volatile TrafficRecording recording;
+	private volatile double replaySpeed = 1;
+	private volatile String contentEncoding;
+	private volatile String lastAcceptEncoding;
+
+	/**
+	 * Starts a new server on an ephemeral port of the loopback interface
+	 *
+	 * @throws IOException if the server cannot be bound
+	 */
+	public MockIsaacServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		executorService = Executors.newCachedThreadPool();
+		server.setExecutor(executorService);
+		server.createContext(SETTINGS_PATH, this::handleSettings);
+		server.createContext(ASSETS_PATH, this::handleAssets);
+		server.start();
+	}
+
+	/**
+	 * Retrieves the host the server is bound to
+	 *
+	 * @return host of the server
+	 */
+	public String getHost() {
+		return server.getAddress().getHostString();
+	}
+
+	/**
+	 * Retrieves the port the server is bound to
+	 *
+	 * @return port of the server
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Sets the number of screens and cards of the fleet
+	 *
+	 * @param screens number of screens
+	 * @param receiversPerScreen number of receiver cards per screen, which drives the size of the receiver payloads
+	 * @param sendersPerScreen number of sender cards per screen
+	 * @return this server
+	 */
+	public MockIsaacServer withFleet(int screens, int receiversPerScreen, int sendersPerScreen) {
+		this.screens = screens;
+		this.receiversPerScreen = receiversPerScreen;
+		this.sendersPerScreen = sendersPerScreen;
+		payloads.clear();
+		return this;
+	}
+
+	/**
+	 * Sets the latency added before each response
+	 *
+	 * @param latency fixed latency in milliseconds
+	 * @param latencyJitter maximum random latency added on top of the fixed one, in milliseconds
+	 * @return this server
+	 */
+	public MockIsaacServer withLatency(long latency, long latencyJitter) {
+		this.latency = latency;
+		this.latencyJitter = latencyJitter;
+		return this;
+	}
+
+	/**
+	 * Sets the share of requests answered with an error status
+	 *
+	 * @param errorRate share of failed requests, between 0 and 1
+	 * @param errorStatus HTTP status of the failed requests
+	 * @return this server
+	 */
+	public MockIsaacServer withErrors(double errorRate, int errorStatus) {
+		this.errorRate = errorRate;
+		this.errorStatus = errorStatus;
+		return this;
+	}
+
+	/**
+	 * Sets the token expected in the {@link NanoSuiteConstant#ISAAC_TOKEN} header, requests without it are rejected with 401
+	 *
+	 * @param token expected token, or null to accept any request
+	 * @return this server
+	 */
+	public MockIsaacServer withToken(String token) {
+		this.token = token;
+		return this;
+	}
+
+	/**
+	 * Replays a recording instead of the generated fleet
+	 *
+	 * @param recording recording to replay, or null to serve the generated fleet again
+	 * @param replaySpeed speed factor, 1 replays the recorded latencies as is and N divides them by N
+	 * @return this server
+	 */
+	public MockIsaacServer withRecording(TrafficRecording recording, double replaySpeed) {
+		this.recording = recording;
+		this.replaySpeed = replaySpeed;
+		return this;
+	}
+
+	/**
+	 * Renames a screen, keeping its id and its payloads
+	 *
+	 * @param screenIndex index of the screen
+	 * @param screenName new name of the screen
+	 * @return this server
+	 */
+	public MockIsaacServer withScreenName(int screenIndex, String screenName) {
+		screenNames.put(screenIndex, screenName);
+		payloads.clear();
+		return this;
+	}
+
+	/**
+	 * Sets the overall health state of a screen in the screen asset list
+	 *
+	 * @param screenIndex index of the screen
+	 * @param healthState health state value, 0 for healthy, 1 for warning and 2 for error
+	 * @return this server
+	 */
+	public MockIsaacServer withScreenHealth(int screenIndex, int healthState) {
+		screenHealths.put(screenIndex, healthState);
+		payloads.clear();
+		return this;
+	}
+
+	/**
+	 * Compresses the responses whose request accepts the given encoding
+	 *
+	 * @param contentEncoding gzip or deflate, or null to send every response uncompressed
+	 * @return this server
+	 */
+	public MockIsaacServer withCompression(String contentEncoding) {
+		this.contentEncoding = contentEncoding;
+		return this;
+	}
+
+	/**
+	 * Retrieves the Accept-Encoding header of the last request
+	 *
+	 * @return header value, or null if the last request had none
+	 */
+	public String getLastAcceptEncoding() {
+		return lastAcceptEncoding;
+	}
+
+	/**
+	 * Retrieves the number of requests received
+	 *
+	 * @return number of requests
+	 */
+	public long getRequestCount() {
+		return requests.sum();
+	}
+
+	/**
+	 * Retrieves the number of requests answered with an injected error
+	 *
+	 * @return number of failed requests
+	 */
+	public long getErrorCount() {
+		return errors.sum();
+	}
+
+	/**
+	 * Resets the request and error counters
+	 */
+	public void resetCounters() {
+		requests.reset();
+		errors.reset();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() {
+		server.stop(0);
+		executorService.shutdownNow();
+	}
+
+	private void handleSettings(HttpExchange exchange) throws IOException {
+		if (replay(exchange) || !accept(exchange)) {
+			return;
+		}
+		ObjectNode settings = objectMapper.createObjectNode();
+		settings.put("systemName", "ISAAC Mock");
+		settings.put("systemHostname", getHost());
+		settings.put("timezone", "UTC");
+		send(exchange, 200, objectMapper.writeValueAsBytes(settings));
+	}
+
+	private void handleAssets(HttpExchange exchange) throws IOException {
+		if (replay(exchange) || !accept(exchange)) {
+			return;
+		}
+		Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+		String profileType = query.get(PROFILE_TYPE);
+		if (ProfileType.NOVASTAR_SCREEN.getValue().equals(profileType)) {
+			send(exchange, 200, payloads.computeIfAbsent(profileType, key -> generate(this::screenAssets, 0)));
+			return;
+		}
+		int screenIndex = screenIndex(query.get(SCREEN_NAME));
+		if (screenIndex < 0) {
+			send(exchange, 200, "[]".getBytes(StandardCharsets.UTF_8));
+			return;
+		}
+		byte[] payload;
+		if (ProfileType.NOVASTAR_RECEIVER.getValue().equals(profileType)) {
+			payload = payloads.computeIfAbsent(profileType + screenIndex, key -> generate(generator -> generator.receiverAssets(screenIndex, receiversPerScreen), screenIndex));
+		} else if (ProfileType.NOVASTAR_SENDER.getValue().equals(profileType)) {
+			payload = payloads.computeIfAbsent(profileType + screenIndex, key -> generate(generator -> generator.senderAssets(screenIndex, sendersPerScreen), screenIndex));
+		} else {
+			payload = "[]".getBytes(StandardCharsets.UTF_8);
+		}
+		send(exchange, 200, payload);
+	}
+
+	/**
+	 * Answers the request from the replayed recording, if any
+	 *
+	 * @return true if the request was answered
+	 */
+	private boolean replay(HttpExchange exchange) throws IOException {
+		TrafficRecording currentRecording = recording;
+		if (currentRecording == null) {
+			return false;
+		}
+		requests.increment();
+		String rawQuery = exchange.getRequestURI().getRawQuery();
+		String uri = exchange.getRequestURI().getPath().substring(1) + (rawQuery == null ? "" : "?" + URLDecoder.decode(rawQuery, "UTF-8"));
+		TrafficEntry entry = currentRecording.next(uri);
+		if (entry == null) {
+			errors.increment();
+			send(exchange, 404, "{\"error\":\"Not recorded\"}".getBytes(StandardCharsets.UTF_8));
+			return true;
+		}
+		try {
+			TimeUnit.MICROSECONDS.sleep((long) (entry.getLatency() * 1000 / replaySpeed));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (entry.getStatus() != 200) {
+			errors.increment();
+			send(exchange, entry.getStatus(), "{\"error\":\"Recorded error\"}".getBytes(StandardCharsets.UTF_8));
+		} else {
+			send(exchange, 200, entry.getBody() == null ? new byte[0] : objectMapper.writeValueAsBytes(entry.getBody()));
+		}
+		return true;
+	}
+
+	/**
+	 * Counts the request, applies the latency and answers the injected errors
+	 *
+	 * @return true if the request should be answered normally
+	 */
+	private boolean accept(HttpExchange exchange) throws IOException {
+		requests.increment();
+		long delay = latency + (latencyJitter > 0 ? ThreadLocalRandom.current().nextLong(latencyJitter + 1) : 0);
+		if (delay > 0) {
+			try {
+				TimeUnit.MILLISECONDS.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (token != null && !token.equals(exchange.getRequestHeaders().getFirst(NanoSuiteConstant.ISAAC_TOKEN))) {
+			errors.increment();
+			send(exchange, 401, "{\"error\":\"Unauthorized\"}".getBytes(StandardCharsets.UTF_8));
+			return false;
+		}
+		if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+			errors.increment();
+			send(exchange, errorStatus, "{\"error\":\"Injected error\"}".getBytes(StandardCharsets.UTF_8));
+			return false;
+		}
+		return true;
+	}
+
+	private byte[] generate(PayloadFactory factory, int screenIndex) {
+		try {
+			return objectMapper.writeValueAsBytes(factory.create(new NovaStarPayloadGenerator(objectMapper, screenIndex)));
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to generate payload", e);
+		}
+	}
+
+	private ArrayNode screenAssets(NovaStarPayloadGenerator generator) {
+		ArrayNode assets = generator.screenAssets(screens);
+		screenNames.forEach((screenIndex, screenName) -> {
+			if (screenIndex < assets.size()) {
+				((ObjectNode) assets.get(screenIndex).get("metadata")).put("novastarScreenName", screenName);
+			}
+		});
+		screenHealths.forEach((screenIndex, healthState) -> {
+			if (screenIndex < assets.size()) {
+				((ObjectNode) assets.get(screenIndex).get("healthState")).put("lastValue", String.valueOf(healthState));
+			}
+		});
+		return assets;
+	}
+
+	private int screenIndex(String screenName) {
+		for (Map.Entry<Integer, String> renamed : screenNames.entrySet()) {
+			if (renamed.getValue().equals(screenName)) {
+				return renamed.getKey() < screens ? renamed.getKey() : -1;
+			}
+		}
+		if (screenName == null || !screenName.startsWith(NovaStarPayloadGenerator.SCREEN_NAME_PREFIX)) {
+			return -1;
+		}
+		try {
+			int index = Integer.parseInt(screenName.substring(NovaStarPayloadGenerator.SCREEN_NAME_PREFIX.length()));
+			return index < screens && !screenNames.containsKey(index) ? index : -1;
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static Map<String, String> parseQuery(String rawQuery) throws IOException {
+		Map<String, String> query = new HashMap<>();
+		if (rawQuery == null) {
+			return query;
+		}
+		for (String parameter : rawQuery.split("&")) {
+			int index = parameter.indexOf('=');
+			if (index > 0) {
+				query.put(URLDecoder.decode(parameter.substring(0, index), "UTF-8"), URLDecoder.decode(parameter.substring(index + 1), "UTF-8"));
+			}
+		}
+		return query;
+	}
+
+	private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+		String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+		lastAcceptEncoding = acceptEncoding;
+		String encoding = contentEncoding;
+		if (encoding != null && acceptEncoding != null && body.length > 0 && acceptEncoding.toLowerCase().contains(encoding)) {
+			body = compress(body, encoding);
+			exchange.getResponseHeaders().set("Content-Encoding", encoding);
+		}
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(body);
+		}
+	}
+
+	private static byte[] compress(byte[] body, String encoding) throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+		try (OutputStream outputStream = "gzip".equals(encoding) ? new GZIPOutputStream(compressed) : new DeflaterOutputStream(compressed)) {
+			outputStream.write(body);
+		}
+		return compressed.toByteArray();
+	}
+
+	/**
+	 * Creates the JSON payload of a response
+	 */
+	private interface PayloadFactory {
+		Object create(NovaStarPayloadGenerator generator);
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.mock;
+
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.ProfileType;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric.ReceiverMetric;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric.SenderMetric;
+
+/**
+ * NovaStarPayloadGenerator builds synthetic NanoSuite asset payloads shaped like the screen, sender and receiver
+ * responses of the infra assets endpoint. Values are generated from a seeded random, so payloads are reproducible.
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+public class NovaStarPayloadGenerator {
+	/**
+	 * Prefix of the generated screen names, followed by the screen index
+	 */
+	public static final String SCREEN_NAME_PREFIX = "MCTRL4K-";
+
+	private static final String SUBSYSTEM_ID = "56";
+	private static final String SUBSYSTEM_NAME = "NanoSuite";
+	private static final String[] INPUT_SOURCES = { "DVI", "HDMI", "DisplayPort", "SDI" };
+
+	private final ObjectMapper objectMapper;
+	private final Random random;
+
+	/**
+	 * Constructs a new instance of NovaStarPayloadGenerator
+	 *
+	 * @param objectMapper mapper used to create the JSON nodes
+	 * @param seed seed of the generated values
+	 */
+	public NovaStarPayloadGenerator(ObjectMapper objectMapper, long seed) {
+		this.objectMapper = objectMapper;
+		this.random = new Random(seed);
+	}
+
+	/**
+	 * Retrieves the name of the screen at the given index
+	 *
+	 * @param screenIndex index of the screen
+	 * @return screen name
+	 */
+	public static String screenName(int screenIndex) {
+		return SCREEN_NAME_PREFIX + screenIndex;
+	}
+
+	/**
+	 * Retrieves the id of the screen at the given index
+	 *
+	 * @param screenIndex index of the screen
+	 * @return screen id
+	 */
+	public static String screenId(int screenIndex) {
+		return String.valueOf(400 + screenIndex);
+	}
+
+	/**
+	 * Builds the screen asset list response
+	 *
+	 * @param screens number of screens
+	 * @return array of screen assets
+	 */
+	public ArrayNode screenAssets(int screens) {
+		ArrayNode assets = objectMapper.createArrayNode();
+		for (int i = 0; i < screens; i++) {
+			assets.add(screenAsset(i));
+		}
+		return assets;
+	}
+
+	/**
+	 * Builds the asset of a single screen
+	 *
+	 * @param screenIndex index of the screen
+	 * @return screen asset
+	 */
+	public ObjectNode screenAsset(int screenIndex) {
+		ObjectNode asset = asset(ProfileType.NOVASTAR_SCREEN, "Screen " + screenIndex, screenIndex);
+		ArrayNode metrics = asset.putArray("metrics");
+		for (SenderMetric metric : SenderMetric.values()) {
+			metrics.add(metric(metric.getScreenValue(), String.valueOf(healthValue())));
+		}
+		for (ReceiverMetric metric : ReceiverMetric.values()) {
+			metrics.add(metric(metric.getScreenValue(), String.valueOf(healthValue())));
+		}
+		return asset;
+	}
+
+	/**
+	 * Builds the receiver asset response of a screen
+	 *
+	 * @param screenIndex index of the screen
+	 * @param receivers number of receiver cards
+	 * @return array of receiver assets
+	 */
+	public ArrayNode receiverAssets(int screenIndex, int receivers) {
+		ArrayNode assets = objectMapper.createArrayNode();
+		for (int i = 0; i < receivers; i++) {
+			ObjectNode asset = asset(ProfileType.NOVASTAR_RECEIVER, "Receiver Card " + (i + 1), screenIndex);
+			ArrayNode metrics = asset.putArray("metrics");
+			for (ReceiverMetric metric : ReceiverMetric.values()) {
+				metrics.add(metric(metric.getValue(), receiverValue(metric)));
+			}
+			assets.add(asset);
+		}
+		return assets;
+	}
+
+	/**
+	 * Builds the sender asset response of a screen
+	 *
+	 * @param screenIndex index of the screen
+	 * @param senders number of sender cards
+	 * @return array of sender assets
+	 */
+	public ArrayNode senderAssets(int screenIndex, int senders) {
+		ArrayNode assets = objectMapper.createArrayNode();
+		for (int i = 0; i < senders; i++) {
+			ObjectNode asset = asset(ProfileType.NOVASTAR_SENDER, "Sender Card " + (i + 1), screenIndex);
+			ArrayNode metrics = asset.putArray("metrics");
+			for (SenderMetric metric : SenderMetric.values()) {
+				metrics.add(metric(metric.getValue(), senderValue(metric, i)));
+			}
+			assets.add(asset);
+		}
+		return assets;
+	}
+
+	private ObjectNode asset(ProfileType profileType, String displayName, int screenIndex) {
+		ObjectNode asset = objectMapper.createObjectNode();
+		asset.put("profileType", profileType.getValue());
+		asset.put("displayName", displayName);
+		asset.put("externalRef", profileType.getValue() + ":" + screenId(screenIndex) + ":" + displayName.hashCode());
+		ObjectNode metadata = asset.putObject("metadata");
+		metadata.put("subsystemId", SUBSYSTEM_ID);
+		metadata.put("novastarPort", "1");
+		metadata.put("novastarChain", "1");
+		metadata.put("novastarScreen", screenId(screenIndex));
+		metadata.put("novastarSender", "0");
+		metadata.put("novastarController", "1");
+		metadata.put("novastarScreenName", screenName(screenIndex));
+		metadata.put("novastarControllerName", "Controller " + screenIndex);
+		metadata.put("subsystemName", SUBSYSTEM_NAME);
+		ObjectNode healthState = asset.putObject("healthState");
+		healthState.put("lastValue", String.valueOf(healthValue()));
+		healthState.put("metricType", profileType.getValue() + "_health");
+		healthState.put("healthState", 0);
+		return asset;
+	}
+
+	private ObjectNode metric(String metricType, String lastValue) {
+		ObjectNode metric = objectMapper.createObjectNode();
+		metric.put("metricType", metricType);
+		metric.put("lastValue", lastValue);
+		metric.put("healthState", 0);
+		metric.put("displayName", metricType);
+		return metric;
+	}
+
+	private int healthValue() {
+		int value = random.nextInt(100);
+		return value < 90 ? 0 : value < 97 ? 1 : 2;
+	}
+
+	private String receiverValue(ReceiverMetric metric) {
+		switch (metric) {
+			case TEMPERATURE:
+				return String.valueOf(35 + random.nextInt(200) / 10.0);
+			case VOLTAGE:
+				return String.valueOf(4.5 + random.nextInt(10) / 10.0);
+			case BRIGHTNESS:
+			case BRIGHTNESS_BLUE:
+			case BRIGHTNESS_GREEN:
+			case BRIGHTNESS_RED:
+			case BRIGHTNESS_VRED:
+				return String.valueOf(random.nextInt(256));
+			case GAMMA:
+				return "2.8";
+			case MODEL:
+				return "A8s";
+			case VERSION_FPGA:
+			case VERSION_MCU:
+			case VERSION_SOFTWARE:
+				return "4.6.1.0";
+			case VIDEO_BLACKOUT:
+			case VIDEO_FREEZE:
+			case VIDEO_MAPPING:
+			case VIDEO_TEST:
+				return String.valueOf(random.nextInt(20) == 0);
+			default:
+				return "None";
+		}
+	}
+
+	private String senderValue(SenderMetric metric, int senderIndex) {
+		switch (metric) {
+			case INPUT_SOURCE:
+				return INPUT_SOURCES[random.nextInt(INPUT_SOURCES.length)];
+			case MODEL:
+				return "MCTRL4K";
+			case SERIALNUMBER:
+				return "SN" + (100000 + senderIndex);
+			case VERSION_FPGA:
+			case VERSION_MCU:
+				return "4.6.1.0";
+			default:
+				return String.valueOf(random.nextInt(10) != 0);
+		}
+	}
+}
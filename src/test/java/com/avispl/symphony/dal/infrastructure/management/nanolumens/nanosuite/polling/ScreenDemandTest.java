@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.polling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link ScreenDemand}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class ScreenDemandTest {
+
+	/**
+	 * Test every screen is in demand until some screen is requested, and only the requested screens within the window after that
+	 */
+	@Test
+	void testDemandWindow() {
+		ScreenDemand demand = new ScreenDemand(1000);
+		assertFalse(demand.isActive(0));
+		assertTrue(demand.isDemanded("A", 0));
+
+		demand.record(Arrays.asList("A", "B"), 1000);
+		demand.record(Collections.singletonList("B"), 1500);
+		assertTrue(demand.isDemanded("A", 2000));
+		assertFalse(demand.isDemanded("C", 2000));
+		assertTrue(demand.isRequested("A", 2000));
+		assertEquals(2, demand.getDemandedScreens(2000));
+
+		assertFalse(demand.isDemanded("A", 2100));
+		assertTrue(demand.isDemanded("B", 2100));
+		assertEquals(1, demand.getDemandedScreens(2100));
+
+		// nothing requested within the window, every screen is polled at full rate again
+		assertTrue(demand.isDemanded("C", 2600));
+		assertFalse(demand.isRequested("C", 2600));
+	}
+
+	/**
+	 * Test a requested screen is fetched on demand only when its data is too old, and at most once per maximum age
+	 */
+	@Test
+	void testOnDemandFetch() {
+		ScreenDemand demand = new ScreenDemand(1000);
+		assertFalse(demand.tryOnDemandFetch("A", 900, 500, 1000));
+		assertTrue(demand.tryOnDemandFetch("A", 100, 500, 1000));
+		assertFalse(demand.tryOnDemandFetch("A", 100, 500, 1200));
+		assertTrue(demand.tryOnDemandFetch("A", 100, 500, 1500));
+		assertTrue(demand.tryOnDemandFetch("B", 0, 500, 1500));
+	}
+
+	/**
+	 * Test the demand of a renamed screen follows it, and the demand of a removed screen is dropped
+	 */
+	@Test
+	void testRenameAndRemove() {
+		ScreenDemand demand = new ScreenDemand(1000);
+		demand.record(Arrays.asList("A", "B"), 1000);
+		demand.rename("A", "C");
+		assertTrue(demand.isDemanded("C", 1000));
+		assertFalse(demand.isDemanded("A", 1000));
+		demand.remove(Collections.singletonList("B"));
+		assertEquals(1, demand.getDemandedScreens(1000));
+		demand.clear();
+		assertFalse(demand.isActive(1000));
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.common.HealthStateStatus;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.metric.ReceiverMetric;
+
+/**
+ * Unit test for {@link FleetHealth}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class FleetHealthTest {
+	private final FleetHealth fleetHealth = new FleetHealth(EnumSet.of(ReceiverMetric.TEMPERATURE));
+
+	private static Map<ReceiverMetric, double[]> temperature(double min, double max) {
+		Map<ReceiverMetric, double[]> ranges = new EnumMap<>(ReceiverMetric.class);
+		ranges.put(ReceiverMetric.TEMPERATURE, new double[] { min, max });
+		return ranges;
+	}
+
+	/**
+	 * Test a screen changing health moves from one count to the other, and is withdrawn when removed
+	 */
+	@Test
+	void testScreenHealth() {
+		fleetHealth.updateScreenHealth("A", HealthStateStatus.ERROR);
+		fleetHealth.updateScreenHealth("B", HealthStateStatus.WARNING);
+		fleetHealth.updateScreenHealth("C", HealthStateStatus.HEALTHY);
+		assertEquals(1, fleetHealth.getErrorScreens());
+		assertEquals(1, fleetHealth.getWarningScreens());
+
+		fleetHealth.updateScreenHealth("A", HealthStateStatus.WARNING);
+		assertEquals(0, fleetHealth.getErrorScreens());
+		assertEquals(2, fleetHealth.getWarningScreens());
+
+		fleetHealth.remove("B");
+		fleetHealth.updateScreenHealth("A", null);
+		assertEquals(0, fleetHealth.getWarningScreens());
+	}
+
+	/**
+	 * Test the offline receivers of a screen replace its previous count
+	 */
+	@Test
+	void testOfflineReceivers() {
+		fleetHealth.updateReceivers("A", 3, Collections.emptyMap());
+		fleetHealth.updateReceivers("B", 2, Collections.emptyMap());
+		fleetHealth.updateReceivers("A", 1, Collections.emptyMap());
+		assertEquals(3, fleetHealth.getOfflineReceivers());
+		fleetHealth.removeReceivers("B");
+		assertEquals(1, fleetHealth.getOfflineReceivers());
+	}
+
+	/**
+	 * Test the extremes follow the screens, including when the screen holding one moves away from it or is removed
+	 */
+	@Test
+	void testMetricRange() {
+		assertTrue(Double.isNaN(fleetHealth.getMax(ReceiverMetric.TEMPERATURE)));
+		assertTrue(Double.isNaN(fleetHealth.getMax(ReceiverMetric.VOLTAGE)));
+		fleetHealth.updateReceivers("A", 0, temperature(30, 60));
+		fleetHealth.updateReceivers("B", 0, temperature(35, 50));
+		assertEquals(30, fleetHealth.getMin(ReceiverMetric.TEMPERATURE));
+		assertEquals(60, fleetHealth.getMax(ReceiverMetric.TEMPERATURE));
+
+		fleetHealth.updateReceivers("A", 0, temperature(40, 45));
+		assertEquals(35, fleetHealth.getMin(ReceiverMetric.TEMPERATURE));
+		assertEquals(50, fleetHealth.getMax(ReceiverMetric.TEMPERATURE));
+
+		fleetHealth.remove("B");
+		assertEquals(40, fleetHealth.getMin(ReceiverMetric.TEMPERATURE));
+		assertEquals(45, fleetHealth.getMax(ReceiverMetric.TEMPERATURE));
+		fleetHealth.updateReceivers("A", 0, Collections.emptyMap());
+		assertTrue(Double.isNaN(fleetHealth.getMin(ReceiverMetric.TEMPERATURE)));
+	}
+
+	/**
+	 * Test a renamed screen keeps its contribution under its new name, replacing what the new name contributed
+	 */
+	@Test
+	void testRename() {
+		fleetHealth.updateScreenHealth("A", HealthStateStatus.ERROR);
+		fleetHealth.updateReceivers("A", 2, temperature(30, 70));
+		fleetHealth.updateScreenHealth("B", HealthStateStatus.WARNING);
+		fleetHealth.updateReceivers("B", 1, temperature(20, 40));
+		fleetHealth.rename("A", "B");
+		assertEquals(1, fleetHealth.getErrorScreens());
+		assertEquals(0, fleetHealth.getWarningScreens());
+		assertEquals(2, fleetHealth.getOfflineReceivers());
+		assertEquals(30, fleetHealth.getMin(ReceiverMetric.TEMPERATURE));
+
+		fleetHealth.remove("A");
+		assertEquals(1, fleetHealth.getErrorScreens());
+		fleetHealth.clear();
+		assertEquals(0, fleetHealth.getErrorScreens());
+		assertEquals(0, fleetHealth.getOfflineReceivers());
+		assertTrue(Double.isNaN(fleetHealth.getMax(ReceiverMetric.TEMPERATURE)));
+	}
+}
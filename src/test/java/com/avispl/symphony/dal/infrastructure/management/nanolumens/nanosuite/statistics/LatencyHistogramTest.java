@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link LatencyHistogram}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class LatencyHistogramTest {
+
+	/**
+	 * Test values below 16 ms get a bucket each, and the following power of two ranges are split into 8 buckets
+	 */
+	@Test
+	void testBucketBoundaries() {
+		assertEquals(0, LatencyHistogram.bucketIndex(0));
+		assertEquals(15, LatencyHistogram.bucketIndex(15));
+		assertEquals(15, LatencyHistogram.bucketUpperBound(15));
+
+		// 16 to 31 is split into buckets of 2 ms
+		assertEquals(16, LatencyHistogram.bucketIndex(16));
+		assertEquals(16, LatencyHistogram.bucketIndex(17));
+		assertEquals(17, LatencyHistogram.bucketUpperBound(16));
+		assertEquals(23, LatencyHistogram.bucketIndex(31));
+		assertEquals(31, LatencyHistogram.bucketUpperBound(23));
+
+		// 32 to 63 is split into buckets of 4 ms
+		assertEquals(24, LatencyHistogram.bucketIndex(32));
+		assertEquals(24, LatencyHistogram.bucketIndex(35));
+		assertEquals(25, LatencyHistogram.bucketIndex(36));
+		assertEquals(35, LatencyHistogram.bucketUpperBound(24));
+	}
+
+	/**
+	 * Test every value up to the last range falls in a bucket whose upper bound is at most 12.5% above it,
+	 * and the buckets are contiguous
+	 */
+	@Test
+	void testBucketUpperBounds() {
+		int previousIndex = 0;
+		for (long value = 0; value < 1L << 22; value += value < 4096 ? 1 : 97) {
+			int index = LatencyHistogram.bucketIndex(value);
+			long upperBound = LatencyHistogram.bucketUpperBound(index);
+			assertTrue(upperBound >= value && upperBound - value <= value / 8, value + " in bucket up to " + upperBound);
+			assertTrue(index == previousIndex || index == previousIndex + 1, value + " skipped from bucket " + previousIndex + " to " + index);
+			previousIndex = index;
+		}
+	}
+
+	/**
+	 * Test values beyond the last range are clamped into the last bucket, whose percentile is the maximum
+	 */
+	@Test
+	void testOverflow() {
+		int lastIndex = LatencyHistogram.bucketIndex((1L << 22) - 1);
+		assertEquals(lastIndex, LatencyHistogram.bucketIndex(1L << 22));
+		assertEquals(lastIndex, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(10);
+		histogram.record(10_000_000);
+		assertEquals(10_000_000, histogram.getPercentile(100));
+		assertEquals(10_000_000, histogram.getMax());
+		assertEquals(10, histogram.getPercentile(50));
+
+		histogram.record(-5);
+		assertEquals(0, histogram.getPercentile(1));
+	}
+
+	/**
+	 * Test the percentiles of known distributions are the upper bound of their bucket, capped by the maximum
+	 */
+	@Test
+	void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getPercentile(50));
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i);
+		}
+		assertEquals(100, histogram.getCount());
+		assertEquals(51, histogram.getPercentile(50));
+		assertEquals(95, histogram.getPercentile(95));
+		assertEquals(100, histogram.getPercentile(99));
+		assertEquals(1, histogram.getPercentile(0));
+
+		// 94 fast requests and a slow tail
+		histogram = new LatencyHistogram();
+		for (int i = 0; i < 94; i++) {
+			histogram.record(5);
+		}
+		for (int i = 0; i < 6; i++) {
+			histogram.record(1000);
+		}
+		assertEquals(5, histogram.getPercentile(50));
+		assertEquals(5, histogram.getPercentile(94));
+		assertEquals(1000, histogram.getPercentile(95));
+		assertEquals(1000, histogram.getPercentile(99));
+	}
+
+	/**
+	 * Test a reset histogram reports nothing until new latencies are recorded
+	 */
+	@Test
+	void testReset() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(200);
+		histogram.record(400);
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0, histogram.getPercentile(99));
+
+		histogram.record(20);
+		assertEquals(1, histogram.getCount());
+		assertEquals(20, histogram.getMax());
+		assertEquals(20, histogram.getPercentile(99));
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link MetricRingBuffer}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class MetricRingBufferTest {
+
+	/**
+	 * Test an empty buffer has no min, max or average
+	 */
+	@Test
+	void testEmpty() {
+		MetricRingBuffer buffer = new MetricRingBuffer(4);
+		assertTrue(Double.isNaN(buffer.min(0)));
+		assertTrue(Double.isNaN(buffer.max(0)));
+		assertTrue(Double.isNaN(buffer.average(0)));
+	}
+
+	/**
+	 * Test the oldest samples are overwritten once the buffer is full, and only the kept samples are aggregated
+	 */
+	@Test
+	void testWrapAround() {
+		MetricRingBuffer buffer = new MetricRingBuffer(3);
+		buffer.record(1000, 50);
+		buffer.record(2000, 1);
+		assertEquals(1, buffer.min(0), 0);
+		assertEquals(50, buffer.max(0), 0);
+		assertEquals(25.5, buffer.average(0), 0);
+
+		buffer.record(3000, 10);
+		buffer.record(4000, 20);
+		buffer.record(5000, 30);
+		assertEquals(10, buffer.min(0), 0);
+		assertEquals(30, buffer.max(0), 0);
+		assertEquals(20, buffer.average(0), 0);
+	}
+
+	/**
+	 * Test only the samples recorded at or after the start of the window are aggregated
+	 */
+	@Test
+	void testWindow() {
+		MetricRingBuffer buffer = new MetricRingBuffer(8);
+		for (int i = 1; i <= 6; i++) {
+			buffer.record(i * 1000L, i * 10);
+		}
+		assertEquals(40, buffer.min(4000), 0);
+		assertEquals(60, buffer.max(4000), 0);
+		assertEquals(50, buffer.average(4000), 0);
+		assertEquals(60, buffer.average(6000), 0);
+		assertTrue(Double.isNaN(buffer.average(6001)));
+		assertTrue(Double.isNaN(buffer.min(6001)));
+		assertTrue(Double.isNaN(buffer.max(6001)));
+	}
+
+	/**
+	 * Test the window applies to the samples kept after the buffer wrapped around
+	 */
+	@Test
+	void testWindowAfterWrapAround() {
+		MetricRingBuffer buffer = new MetricRingBuffer(4);
+		for (int i = 1; i <= 10; i++) {
+			buffer.record(i * 1000L, -i);
+		}
+		assertEquals(-10, buffer.min(0), 0);
+		assertEquals(-7, buffer.max(0), 0);
+		assertEquals(-8.5, buffer.average(0), 0);
+		assertEquals(-9.5, buffer.average(9000), 0);
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.CompactPropertyMap;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.PropertySchema;
+import com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.cache.StringPool;
+
+/**
+ * Unit test for {@link PropertyDelta}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class PropertyDeltaTest {
+	private final StringPool stringPool = new StringPool(1000);
+
+	private static Map<String, String> properties(String... keyValues) {
+		Map<String, String> properties = new HashMap<>();
+		for (int i = 0; i < keyValues.length; i += 2) {
+			properties.put(keyValues[i], keyValues[i + 1]);
+		}
+		return properties;
+	}
+
+	private static void assertDelta(PropertyDelta delta, String[] changedKeys, String... removedKeys) {
+		assertEquals(new HashSet<>(Arrays.asList(changedKeys)), delta.getChangedKeys());
+		assertEquals(new HashSet<>(Arrays.asList(removedKeys)), delta.getRemovedKeys());
+		assertEquals(changedKeys.length + removedKeys.length, delta.getChangeCount());
+	}
+
+	/**
+	 * Test every property is reported as changed on the first populated device list
+	 */
+	@Test
+	void testFirstBuild() {
+		PropertyDelta delta = PropertyDelta.between(null, properties("A", "1", "B", "2"));
+		assertDelta(delta, new String[] { "A", "B" });
+
+		delta = PropertyDelta.between(null, properties("A", "1", "LastUpdated", "now"), "LastUpdated"::equals);
+		assertDelta(delta, new String[] { "A" });
+	}
+
+	/**
+	 * Test added, changed and removed properties of hash maps are reported, and unchanged ones are not
+	 */
+	@Test
+	void testMapDelta() {
+		Map<String, String> previous = properties("Same", "1", "Changed", "2", "Removed", "3");
+		Map<String, String> current = properties("Same", "1", "Changed", "20", "Added", "4");
+		assertDelta(PropertyDelta.between(previous, current), new String[] { "Changed", "Added" }, "Removed");
+		assertTrue(PropertyDelta.between(previous, new HashMap<>(previous)).isEmpty());
+		assertDelta(PropertyDelta.between(previous, Collections.emptyMap()), new String[0], "Same", "Changed", "Removed");
+	}
+
+	/**
+	 * Test added, changed and removed properties of compact maps of the same schema are reported slot by slot,
+	 * including the properties kept in the overflow and the properties that became a slot between the two maps
+	 */
+	@Test
+	void testCompactDelta() {
+		PropertySchema schema = new PropertySchema();
+		schema.compact("other", properties("Same", "0", "Changed", "0", "Removed", "0", "Added", "0"), stringPool);
+		CompactPropertyMap previous = schema.compact("device",
+				properties("Same", "1", "Changed", "2", "Removed", "3", "Promoted", "5", "Device#Changed", "6", "Device#Removed", "7"), stringPool);
+		assertEquals(3, schema.size());
+		assertEquals(3, previous.getOverflow().size());
+
+		// a second device makes Promoted a slot
+		schema.compact("another", properties("Promoted", "0"), stringPool);
+		CompactPropertyMap current = schema.compact("device",
+				properties("Same", "1", "Changed", "20", "Added", "4", "Promoted", "5", "Device#Changed", "60", "Device#Added", "8"), stringPool);
+		assertEquals(5, schema.size());
+		assertEquals(2, current.getOverflow().size());
+
+		assertDelta(PropertyDelta.between(previous, current), new String[] { "Changed", "Added", "Device#Changed", "Device#Added" },
+				"Removed", "Device#Removed");
+		assertTrue(PropertyDelta.between(current, schema.compact("device", new HashMap<>(current), stringPool)).isEmpty());
+		assertDelta(PropertyDelta.between(previous, current, key -> key.startsWith("Device#")), new String[] { "Changed", "Added" }, "Removed");
+	}
+
+	/**
+	 * Test compact maps of different schemas are compared entry by entry
+	 */
+	@Test
+	void testCompactDeltaAcrossSchemas() {
+		PropertySchema schema = new PropertySchema();
+		schema.compact("other", properties("A", "0"), stringPool);
+		CompactPropertyMap previous = schema.compact("device", properties("A", "1", "B", "2"), stringPool);
+		PropertySchema otherSchema = new PropertySchema();
+		CompactPropertyMap current = otherSchema.compact("device", properties("A", "1", "C", "3"), stringPool);
+		assertDelta(PropertyDelta.between(previous, current), new String[] { "C" }, "B");
+	}
+}
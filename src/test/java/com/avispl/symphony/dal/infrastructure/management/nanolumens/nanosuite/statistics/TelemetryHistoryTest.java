@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2026 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.infrastructure.management.nanolumens.nanosuite.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link TelemetryHistory}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/19/2026
+ * @since 1.0.0
+ */
+@Tag("Mock")
+class TelemetryHistoryTest {
+	private static final String TEMPERATURE = "ReceiverCard1#Temperature(C)";
+	private static final String VOLTAGE = "ReceiverCard1#Voltage(V)";
+
+	/**
+	 * Test the samples of a series are kept in a buffer of the configured capacity
+	 */
+	@Test
+	void testRecord() {
+		TelemetryHistory history = new TelemetryHistory(2, 10);
+		history.record("A", TEMPERATURE, 1000, 40);
+		history.record("A", TEMPERATURE, 2000, 42);
+		history.record("A", TEMPERATURE, 3000, 44);
+		assertEquals(43, history.get("A", TEMPERATURE).average(0), 0);
+		assertNull(history.get("A", VOLTAGE));
+		assertNull(history.get("B", TEMPERATURE));
+	}
+
+	/**
+	 * Test samples of new series are dropped once the series cap is reached, and removed screens free their series
+	 */
+	@Test
+	void testMaxSeries() {
+		TelemetryHistory history = new TelemetryHistory(4, 3);
+		history.record("A", TEMPERATURE, 1000, 40);
+		history.record("A", VOLTAGE, 1000, 5);
+		history.record("B", TEMPERATURE, 1000, 41);
+		history.record("B", VOLTAGE, 1000, 5);
+		assertNull(history.get("B", VOLTAGE));
+
+		// known series still record once the cap is reached
+		history.record("B", TEMPERATURE, 2000, 43);
+		assertEquals(42, history.get("B", TEMPERATURE).average(0), 0);
+
+		history.remove("A");
+		history.record("B", VOLTAGE, 2000, 5);
+		history.record("C", TEMPERATURE, 2000, 39);
+		assertNotNull(history.get("B", VOLTAGE));
+		assertNotNull(history.get("C", TEMPERATURE));
+		history.record("C", VOLTAGE, 2000, 5);
+		assertNull(history.get("C", VOLTAGE));
+
+		history.clear();
+		history.record("D", TEMPERATURE, 3000, 40);
+		history.record("D", VOLTAGE, 3000, 5);
+		history.record("E", TEMPERATURE, 3000, 40);
+		assertNotNull(history.get("E", TEMPERATURE));
+	}
+
+	/**
+	 * Test a renamed screen keeps its series under its new name and replaces the series held under that name
+	 */
+	@Test
+	void testRename() {
+		TelemetryHistory history = new TelemetryHistory(4, 3);
+		history.record("A", TEMPERATURE, 1000, 40);
+		history.record("B", TEMPERATURE, 1000, 50);
+		history.record("B", VOLTAGE, 1000, 5);
+		history.rename("A", "B");
+		assertNull(history.get("A", TEMPERATURE));
+		assertEquals(40, history.get("B", TEMPERATURE).max(0), 0);
+		assertNull(history.get("B", VOLTAGE));
+
+		// the series of the replaced screen are no longer counted
+		history.record("C", TEMPERATURE, 2000, 41);
+		history.record("C", VOLTAGE, 2000, 5);
+		assertNotNull(history.get("C", VOLTAGE));
+	}
+}